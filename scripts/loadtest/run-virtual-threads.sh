@@ -0,0 +1,67 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 vs 가상 스레드 비교 부하 테스트
+# - 모드(platform, virtual) × 동시 연결(1000, 5000) 조합마다 애플리케이션을 새로 기동 (JIT/캐시 상태 동일 조건)
+# - 실행마다 JFR 기록 (jdk.VirtualThreadPinned 포함) → build/loadtest/{mode}-{vus}.jfr
+# - 결과: build/loadtest/k6-{mode}-{vus}.json, 요약은 표준 출력
+#
+# 사전 조건: 더미 데이터 삽입 완료 (scripts/README.md), DB_URL/DB_USERNAME/DB_PASSWORD/JWT_SECRET 환경 변수, k6 설치
+# 실행 (프로젝트 루트): scripts/loadtest/run-virtual-threads.sh
+set -euo pipefail
+
+: "${DB_URL:?DB_URL 필요}"
+: "${JWT_SECRET:?JWT_SECRET 필요}"
+
+PORT="${PORT:-8080}"
+DURATION="${DURATION:-2m}"
+CONCURRENCY="${CONCURRENCY:-1000 5000}"
+OUT_DIR="build/loadtest"
+mkdir -p "$OUT_DIR"
+
+./gradlew -q bootJar
+JAR=$(ls build/libs/*.jar | grep -v plain | head -n 1)
+
+wait_for_app() {
+  for _ in $(seq 1 60); do
+    if curl -sf "http://localhost:${PORT}/posts?limit=1" > /dev/null; then
+      return 0
+    fi
+    sleep 1
+  done
+  echo "애플리케이션 기동 실패" >&2
+  return 1
+}
+
+for vus in $CONCURRENCY; do
+  for mode in platform virtual; do
+    enabled=false
+    [ "$mode" = "virtual" ] && enabled=true
+
+    # 클라이언트 연결 수만큼 파일 디스크립터 필요
+    ulimit -n 65535 || true
+
+    VIRTUAL_THREADS_ENABLED="$enabled" \
+    LOGGING_LEVEL_ORG_HIBERNATE_SQL=WARN \
+    LOGGING_LEVEL_COM_KTB_COMMUNITY=INFO \
+    SPRING_JPA_SHOW_SQL=false \
+      java -XX:StartFlightRecording=filename="${OUT_DIR}/${mode}-${vus}.jfr",settings=profile \
+           -jar "$JAR" --server.port="$PORT" > "${OUT_DIR}/${mode}-${vus}.log" 2>&1 &
+    app_pid=$!
+    trap 'kill $app_pid 2>/dev/null || true' EXIT
+
+    wait_for_app
+    k6 run --quiet \
+      -e BASE_URL="http://localhost:${PORT}" \
+      -e JWT_SECRET="$JWT_SECRET" \
+      -e VUS="$vus" \
+      -e DURATION="$DURATION" \
+      -e MODE="$mode" \
+      -e OUT_DIR="$OUT_DIR" \
+      scripts/loadtest/virtual-threads.js || true   # threshold 실패도 결과는 남김
+
+    kill "$app_pid"
+    wait "$app_pid" 2>/dev/null || true
+    trap - EXIT
+  done
+done
+
+echo "결과: ${OUT_DIR} (고정 이벤트 확인: jfr print --events jdk.VirtualThreadPinned ${OUT_DIR}/virtual-<vus>.jfr)"
@@ -0,0 +1,126 @@
+// 가상 스레드 vs 플랫폼 스레드 비교 부하 테스트 (k6)
+// - 동일 더미 데이터셋 (scripts/README.md: 유저 1200, 게시글 3000) 대상
+// - 동시 연결 VUS (1000/5000)까지 램프업 후 DURATION 유지
+// - 로그인 API는 IP당 rate limit이 있으므로 JWT_SECRET으로 Access Token을 직접 발급 (JwtTokenProvider와 동일 클레임)
+//
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e JWT_SECRET=... -e VUS=1000 -e MODE=virtual scripts/loadtest/virtual-threads.js
+// 비교 실행: scripts/loadtest/run-virtual-threads.sh
+
+import http from 'k6/http';
+import crypto from 'k6/crypto';
+import encoding from 'k6/encoding';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const JWT_SECRET = __ENV.JWT_SECRET;
+const VUS = parseInt(__ENV.VUS || '1000', 10);
+const DURATION = __ENV.DURATION || '2m';
+const MODE = __ENV.MODE || 'unknown';
+const OUT_DIR = __ENV.OUT_DIR || '.';
+
+const USER_COUNT = 1200;
+const POST_COUNT = 3000;
+const LIKE_RATIO = 0.2;
+
+export const options = {
+    scenarios: {
+        feed: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: DURATION, target: VUS },
+                { duration: '10s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    // 좋아요 중복(409)/취소 대상 없음(404)은 정상 응답으로 집계
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{name:GET /posts}': ['p(99)<1000'],
+    },
+};
+
+http.setResponseCallback(http.expectedStatuses({ min: 200, max: 299 }, 404, 409));
+
+export function setup() {
+    if (!JWT_SECRET) {
+        throw new Error('JWT_SECRET 환경 변수가 필요합니다 (서버와 동일한 값)');
+    }
+    const tokens = [];
+    for (let userId = 1; userId <= USER_COUNT; userId++) {
+        tokens.push(accessToken(userId));
+    }
+    return { tokens };
+}
+
+export default function (data) {
+    const token = data.tokens[(__VU - 1) % data.tokens.length];
+    const auth = { headers: { Authorization: `Bearer ${token}` } };
+    const postId = 1 + Math.floor(Math.random() * POST_COUNT);
+
+    const feed = http.get(`${BASE_URL}/posts?sort=latest&limit=10`, { tags: { name: 'GET /posts' } });
+    check(feed, { 'feed 200': (r) => r.status === 200 });
+
+    const detail = http.get(`${BASE_URL}/posts/${postId}`, { tags: { name: 'GET /posts/{id}' } });
+    check(detail, { 'detail 200': (r) => r.status === 200 });
+
+    const comments = http.get(`${BASE_URL}/posts/${postId}/comments?offset=0&limit=10`,
+        { tags: { name: 'GET /posts/{id}/comments' } });
+    check(comments, { 'comments 200': (r) => r.status === 200 });
+
+    // 쓰기 경로: PostStats 원자적 UPDATE (DB 블로킹 구간)
+    if (Math.random() < LIKE_RATIO) {
+        const like = http.post(`${BASE_URL}/posts/${postId}/like`, null,
+            Object.assign({ tags: { name: 'POST /posts/{id}/like' } }, auth));
+        check(like, { 'like 200/409': (r) => r.status === 200 || r.status === 409 });
+
+        const unlike = http.del(`${BASE_URL}/posts/${postId}/like`, null,
+            Object.assign({ tags: { name: 'DELETE /posts/{id}/like' } }, auth));
+        check(unlike, { 'unlike 200/404': (r) => r.status === 200 || r.status === 404 });
+    }
+
+    sleep(0.5 + Math.random());
+}
+
+export function handleSummary(data) {
+    const file = `${OUT_DIR}/k6-${MODE}-${VUS}.json`;
+    const result = {};
+    result[file] = JSON.stringify(data, null, 2);
+    result.stdout = summaryLine(data);
+    return result;
+}
+
+/**
+ * Access Token 발급 (JwtTokenProvider.createAccessToken과 동일: sub, email, role, iat, exp)
+ * 알고리즘은 Keys.hmacShaKeyFor와 동일하게 키 길이로 결정 (64B↑ HS512, 48B↑ HS384, 그 외 HS256)
+ */
+function accessToken(userId) {
+    const keyLength = JWT_SECRET.length;
+    const [alg, hash] = keyLength >= 64 ? ['HS512', 'sha512']
+        : keyLength >= 48 ? ['HS384', 'sha384'] : ['HS256', 'sha256'];
+    const now = Math.floor(Date.now() / 1000);
+
+    const header = encoding.b64encode(JSON.stringify({ alg }), 'rawurl');
+    const payload = encoding.b64encode(JSON.stringify({
+        sub: String(userId),
+        email: `user${userId}@test.com`,
+        role: 'USER',
+        iat: now,
+        exp: now + 3600,
+    }), 'rawurl');
+    const signature = encoding.b64encode(
+        crypto.hmac(hash, JWT_SECRET, `${header}.${payload}`, 'binary'), 'rawurl');
+    return `${header}.${payload}.${signature}`;
+}
+
+function summaryLine(data) {
+    const duration = data.metrics.http_req_duration.values;
+    const failed = data.metrics.http_req_failed.values.rate;
+    const rps = data.metrics.http_reqs.values.rate;
+    return `[${MODE}] vus=${VUS} rps=${rps.toFixed(1)} p50=${duration['p(50)'].toFixed(1)}ms `
+        + `p95=${duration['p(95)'].toFixed(1)}ms p99=${duration['p(99)'].toFixed(1)}ms `
+        + `failed=${(failed * 100).toFixed(2)}%\n`;
+}
@@ -0,0 +1,95 @@
+package com.ktb.community.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimitAspect 호출당 키 생성 + 버킷 조회 비용 비교
+ * - legacy: 문자열 결합 키 + split(",")
+ * - compact: 캐시된 엔드포인트 이름 + ClientKey record
+ * - 버킷은 한도에 걸리지 않도록 큰 용량 사용 (limiter 오버헤드만 측정)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+public class RateLimitKeyBenchmark {
+
+    private static final String DECLARING_TYPE = "com.ktb.community.controller.LikeController";
+    private static final String METHOD_NAME = "addLike";
+
+    private RateLimitAspect rateLimitAspect;
+    private MockHttpServletRequest request;
+    private String endpoint;
+    private Cache<String, Bucket> legacyBuckets;
+    private Cache<RateLimitBucketStore.ClientKey, Bucket> compactBuckets;
+
+    @Setup
+    public void setUp() {
+        rateLimitAspect = new RateLimitAspect(new LocalRateLimitBucketStore(), new RateLimitMetrics());
+        request = new MockHttpServletRequest("POST", "/posts/1/like");
+        request.addHeader("X-Forwarded-For", "10.0.0.1, 10.0.0.2");
+        endpoint = DECLARING_TYPE + "." + METHOD_NAME;
+        legacyBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(10, TimeUnit.MINUTES)
+                .maximumSize(10_000)
+                .build();
+        compactBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(10, TimeUnit.MINUTES)
+                .maximumSize(10_000)
+                .build();
+    }
+
+    @Benchmark
+    public String legacyKey() {
+        return legacyClientKey();
+    }
+
+    @Benchmark
+    public RateLimitBucketStore.ClientKey compactKey() {
+        return rateLimitAspect.resolveClientKey(endpoint, request);
+    }
+
+    @Benchmark
+    public boolean legacyKeyAndConsume() {
+        return legacyBuckets.get(legacyClientKey(), k -> bucket()).tryConsume(1);
+    }
+
+    @Benchmark
+    public boolean compactKeyAndConsume() {
+        RateLimitBucketStore.ClientKey clientKey = rateLimitAspect.resolveClientKey(endpoint, request);
+        Bucket bucket = compactBuckets.getIfPresent(clientKey);
+        if (bucket == null) {
+            bucket = compactBuckets.get(clientKey, k -> bucket());
+        }
+        return bucket.tryConsume(1);
+    }
+
+    /**
+     * 기존 RateLimitAspect.getClientKey 방식
+     */
+    private String legacyClientKey() {
+        String ip = request.getHeader("X-Forwarded-For");
+        if (ip != null && ip.contains(",")) {
+            ip = ip.split(",")[0].trim();
+        }
+        return DECLARING_TYPE + "." + METHOD_NAME + ":" + ip;
+    }
+
+    private static Bucket bucket() {
+        return Bucket.builder()
+                .addLimit(Bandwidth.classic(1_000_000_000L,
+                        Refill.intervally(1_000_000_000L, Duration.ofMinutes(1))))
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.ktb.community.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * 인증 필터 요청당 토큰 처리 비용 비교
+ * - before: validateToken + getUserIdFromToken (HMAC 검증/파싱 2회)
+ * - singleParse: 검증/파싱 1회 (캐시 없음)
+ * - cached: parseClaims 캐시 적중 (SHA-256 해시 + 조회)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeybenchmarkSecretKey1234";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 1800000L, 604800000L);
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = jwtTokenProvider.createAccessToken(1L, "bench@example.com", "USER");
+
+        // 캐시 적재
+        jwtTokenProvider.parseClaims(token);
+    }
+
+    @Benchmark
+    public Long before() {
+        if (!jwtTokenProvider.validateToken(token)) {
+            return null;
+        }
+        return jwtTokenProvider.getUserIdFromToken(token);
+    }
+
+    @Benchmark
+    public Claims singleParse() {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public Optional<Claims> cached() {
+        return jwtTokenProvider.parseClaims(token);
+    }
+}
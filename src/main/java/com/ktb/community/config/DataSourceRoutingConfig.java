@@ -0,0 +1,76 @@
+package com.ktb.community.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (datasource.routing.enabled=true)
+ * 비활성화 시 Spring Boot 기본 단일 DataSource 사용
+ *
+ * - primary: spring.datasource.* (+ spring.datasource.hikari.*)
+ * - replica: spring.datasource.replica.* (+ spring.datasource.replica.hikari.*)
+ * - dataSource (@Primary): LazyConnectionDataSourceProxy → ReplicationRoutingDataSource
+ *   JPA/JdbcTemplate/Bucket4j 모두 이 DataSource를 사용, 라우팅 규칙은 ReplicationRoutingDataSource 참조
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * 쓰기 DataSource (Spring Boot 기본 DataSource와 동일 설정)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * 읽기 전용 DataSource (계정 미지정 시 primary 계정 사용)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${spring.datasource.replica.url}") String url,
+            @Value("${spring.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${spring.datasource.replica.password:${spring.datasource.password:}}") String password
+    ) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${datasource.routing.read-your-writes-ms:5000}") long readYourWritesMs,
+            @Value("${datasource.routing.max-tracked-users:100000}") long maxTrackedUsers
+    ) {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMillis(readYourWritesMs), maxTrackedUsers);
+        return new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primaryDataSource, replicaDataSource, tracker));
+    }
+}
@@ -0,0 +1,179 @@
+package com.ktb.community.config;
+
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.distributed.jdbc.BucketTableSettings;
+import io.github.bucket4j.distributed.jdbc.PrimaryKeyMapper;
+import io.github.bucket4j.distributed.jdbc.SQLProxyConfiguration;
+import io.github.bucket4j.mysql.MySQLSelectForUpdateBasedProxyManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 공유 Rate Limit Bucket 저장소 (rate-limit.store=jdbc)
+ * 여러 인스턴스가 rate_limit_buckets 테이블의 같은 Bucket 상태 사용 → 한도가 인스턴스 수만큼 늘지 않음
+ *
+ * - Bucket4j MySQL proxy manager (SELECT ... FOR UPDATE, H2 MySQL 모드 호환)
+ * - 행 키: ClientKey의 SHA-256 hex (X-Forwarded-For 길이와 무관하게 64자)
+ * - 토큰 선취(prefetch): DB에서 여러 토큰을 한 번에 차감해 인스턴스 메모리에서 소진
+ *   · 전체 한도 초과 없음 (선취분은 이미 DB에서 차감됨)
+ *   · 지속 부하(직전 DB 조회 후 임대 시간 내 재요청)일 때만 선취, 간헐적 요청은 1개씩 차감
+ *   · 임대 시간 내 미사용분은 만료 후 이 인스턴스의 다음 요청 시 DB에 반환 (addTokens, 용량 상한)
+ *     반환 전까지는 다른 인스턴스가 최대 선취량만큼 덜 씀
+ *   · 선취량 = min(prefetch-tokens, 분당 한도 / 10), 분당 10회 미만 엔드포인트는 매번 DB 조회
+ * - DB 장애 시 허용 (fail-open, error 로그) → Rate Limit 저장소 장애가 전체 API 장애로 번지지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "jdbc")
+public class JdbcRateLimitBucketStore implements RateLimitBucketStore {
+
+    static final String TABLE_NAME = "rate_limit_buckets";
+
+    private final MySQLSelectForUpdateBasedProxyManager<String> proxyManager;
+    private final int prefetchTokens;
+    private final long prefetchLeaseNanos;
+
+    /**
+     * 클라이언트별 원격 Bucket 핸들 + 선취 토큰
+     * - 캐시에서 제거(10분 미사용)되면 선취분 폐기 (DB 상태는 유지, 그 사이 분 단위 리필로 복구됨)
+     */
+    private final RateLimitBucketCache<RemoteBucket> buckets = new RateLimitBucketCache<>();
+
+    public JdbcRateLimitBucketStore(
+            DataSource dataSource,
+            @Value("${rate-limit.jdbc.prefetch-tokens:10}") int prefetchTokens,
+            @Value("${rate-limit.jdbc.prefetch-lease-ms:5000}") long prefetchLeaseMillis
+    ) {
+        SQLProxyConfiguration<String> configuration = SQLProxyConfiguration.builder()
+                .withPrimaryKeyMapper(PrimaryKeyMapper.STRING)
+                .withTableSettings(BucketTableSettings.customSettings(TABLE_NAME, "id", "state"))
+                .build(dataSource);
+        this.proxyManager = new MySQLSelectForUpdateBasedProxyManager<>(configuration);
+        this.prefetchTokens = Math.max(prefetchTokens, 1);
+        this.prefetchLeaseNanos = TimeUnit.MILLISECONDS.toNanos(prefetchLeaseMillis);
+    }
+
+    @Override
+    public ConsumeResult tryConsume(ClientKey clientKey, int requestsPerMinute) {
+        RemoteBucket bucket = buckets.getIfPresent(clientKey);
+        if (bucket == null) {
+            bucket = buckets.get(clientKey, k -> createRemoteBucket(k, requestsPerMinute));
+        }
+
+        try {
+            return bucket.tryConsume(prefetchLeaseNanos);
+        } catch (RuntimeException e) {
+            log.error("[RateLimit] DB Bucket 조회 실패, 요청 허용: client={}", clientKey, e);
+            return new ConsumeResult(true, requestsPerMinute, 0);
+        }
+    }
+
+    @Override
+    public Map<String, Long> countActiveBuckets() {
+        return buckets.countByEndpoint();
+    }
+
+    @Override
+    public Map<String, Long> countEvictions() {
+        return buckets.evictionsByEndpoint();
+    }
+
+    private RemoteBucket createRemoteBucket(ClientKey clientKey, int requestsPerMinute) {
+        BucketConfiguration configuration = BucketConfiguration.builder()
+                .addLimit(RateLimitBucketStore.bandwidth(requestsPerMinute))
+                .build();
+        BucketProxy proxy = proxyManager.builder().build(toRowKey(clientKey), () -> configuration);
+        int batchSize = Math.max(1, Math.min(prefetchTokens, requestsPerMinute / 10));
+        return new RemoteBucket(proxy, batchSize);
+    }
+
+    /**
+     * rate_limit_buckets 행 키 (SHA-256 hex)
+     */
+    static String toRowKey(ClientKey clientKey) {
+        String raw = clientKey.endpoint() + '|' + clientKey.ip() + '|'
+                + (clientKey.userId() != null ? clientKey.userId() : "");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(raw.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 원격 Bucket + 인스턴스 로컬 선취 토큰
+     * - 같은 클라이언트 키의 동시 요청은 모니터로 직렬화 (DB 왕복도 1회로 합쳐짐)
+     */
+    private static final class RemoteBucket {
+
+        private final BucketProxy proxy;
+        private final int batchSize;
+        private long prefetched;
+        private long leaseExpiresAtNanos;
+        private long remoteRemaining;
+        private boolean fetched;
+        private long lastFetchAtNanos;
+
+        private RemoteBucket(BucketProxy proxy, int batchSize) {
+            this.proxy = proxy;
+            this.batchSize = batchSize;
+        }
+
+        /**
+         * 남은 토큰 = 마지막 DB 조회 시점의 남은 토큰 + 이 인스턴스의 미사용 선취분
+         */
+        synchronized ConsumeResult tryConsume(long leaseNanos) {
+            long now = System.nanoTime();
+            if (prefetched > 0) {
+                if (now - leaseExpiresAtNanos < 0) {
+                    prefetched--;
+                    return new ConsumeResult(true, remoteRemaining + prefetched, 0);
+                }
+                // 임대 만료: 이미 DB에서 차감된 미사용분 반환 (용량 초과분은 Bucket4j가 버림, 실패 시 폐기)
+                long unused = prefetched;
+                prefetched = 0;
+                proxy.addTokens(unused);
+            }
+
+            // 직전 DB 조회 후 임대 시간 내 재요청일 때만 선취 (간헐적 요청은 선취분을 남기지 않음)
+            boolean sustained = fetched && now - lastFetchAtNanos < leaseNanos;
+            fetched = true;
+            lastFetchAtNanos = now;
+
+            if (batchSize == 1 || !sustained) {
+                ConsumptionProbe probe = proxy.tryConsumeAndReturnRemaining(1);
+                remoteRemaining = probe.getRemainingTokens();
+                return ConsumeResult.of(probe);
+            }
+
+            // 선취량만큼 부족하면 남은 토큰만 재시도 (다른 인스턴스와 경쟁 시 거절될 수 있음, 한도 초과는 없음)
+            long requested = batchSize;
+            ConsumptionProbe probe = proxy.tryConsumeAndReturnRemaining(requested);
+            if (!probe.isConsumed() && probe.getRemainingTokens() > 0) {
+                requested = probe.getRemainingTokens();
+                probe = proxy.tryConsumeAndReturnRemaining(requested);
+            }
+            remoteRemaining = probe.getRemainingTokens();
+            if (!probe.isConsumed()) {
+                return ConsumeResult.of(probe);
+            }
+
+            prefetched = requested - 1;
+            leaseExpiresAtNanos = now + leaseNanos;
+            return new ConsumeResult(true, remoteRemaining + prefetched, 0);
+        }
+    }
+}
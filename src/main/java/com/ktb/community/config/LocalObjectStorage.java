@@ -0,0 +1,227 @@
+package com.ktb.community.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 로컬 디스크 객체 저장소 (storage.type=local)
+ * 네트워크 없이 업로드/변형/정리 경로 전체를 실행 (벤치마크, 단일 노드 배포)
+ *
+ * - 키 = root-dir 기준 상대 경로 (root 밖으로 벗어나는 키는 거부)
+ * - put: 같은 디렉터리 임시 파일에 기록 후 원자적 이동 → 읽는 쪽은 완성된 파일만 봄
+ * - SHA-256/길이를 기록 중 검증, 불일치 시 임시 파일 삭제 후 실패
+ * - copy: 임시 파일로 복사 후 원자적 이동 (put과 동일)
+ * - 서빙: LocalStorageController (GET /files/**, Range/ETag, FileChannel.transferTo)
+ * - 직접 업로드: PUT /files/{key}?expires=..&signature=.. (HMAC-SHA256, S3 presigned PUT 대응)
+ *   서명 대상 = 메서드 + 키 + Content-Type + Content-Length + 만료 시각
+ *   signing-secret 미설정 시 기동마다 임의 생성 (재기동 시 발급된 URL 무효)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final Path root;
+    private final String urlPrefix;
+    private final SecretKeySpec signingKey;
+
+    public LocalObjectStorage(@Value("${storage.local.root-dir:./storage}") String rootDir,
+                              @Value("${storage.local.base-url:http://localhost:8080/files}") String baseUrl,
+                              @Value("${storage.local.signing-secret:}") String signingSecret) {
+        this.root = Path.of(rootDir).toAbsolutePath().normalize();
+        this.urlPrefix = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        this.signingKey = new SecretKeySpec(signingSecret.isBlank()
+                ? randomSecret()
+                : signingSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength, String contentType, String contentHash)
+            throws IOException {
+        Path target = requirePath(key);
+        Files.createDirectories(target.getParent());
+
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            long written;
+            try (InputStream in = new DigestInputStream(content, digest)) {
+                written = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (written != contentLength) {
+                throw new IOException("Content length mismatch: expected=" + contentLength + ", actual=" + written);
+            }
+            if (contentHash != null && !contentHash.equalsIgnoreCase(HexFormat.of().formatHex(digest.digest()))) {
+                throw new IOException("SHA-256 mismatch: key=" + key);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        return Files.newInputStream(requirePath(key));
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey) throws IOException {
+        Path source = requirePath(sourceKey);
+        Path target = requirePath(targetKey);
+        Files.createDirectories(target.getParent());
+
+        Path temp = Files.createTempFile(target.getParent(), ".copy-", ".tmp");
+        try {
+            Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public ObjectPrefix readPrefix(String key, int length) throws IOException {
+        try (FileChannel channel = FileChannel.open(requirePath(key), StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(length, size));
+            while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+                // 요청 길이 또는 EOF까지 읽기
+            }
+            return new ObjectPrefix(Arrays.copyOf(buffer.array(), buffer.position()), size);
+        }
+    }
+
+    @Override
+    public PresignedUpload presignPut(String key, String contentType, long contentLength, Duration expiresIn) {
+        Instant expiresAt = Instant.now().plus(expiresIn);
+        long expires = expiresAt.getEpochSecond();
+        String url = url(key)
+                + "?expires=" + expires
+                + "&signature=" + sign(key, contentType, contentLength, expires);
+        return new PresignedUpload(url, "PUT", Map.of("Content-Type", contentType), expiresAt);
+    }
+
+    /**
+     * 직접 업로드 서명 검증 (LocalStorageController PUT)
+     *
+     * @param key 객체 키
+     * @param contentType 요청 Content-Type
+     * @param contentLength 요청 Content-Length
+     * @param expires 만료 시각 (epoch seconds, 쿼리 파라미터)
+     * @param signature 서명 (쿼리 파라미터)
+     * @return 서명 일치 + 미만료 시 true
+     */
+    public boolean verifyUpload(String key, String contentType, long contentLength, long expires, String signature) {
+        if (signature == null || contentType == null || Instant.now().getEpochSecond() > expires) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                sign(key, contentType, contentLength, expires).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public Set<String> deleteAll(Collection<String> keys) {
+        Set<String> failedKeys = new HashSet<>();
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(requirePath(key));
+            } catch (IOException e) {
+                failedKeys.add(key);
+                log.error("[Storage] 로컬 파일 삭제 실패: key={}, error={}", key, e.getMessage());
+            }
+        }
+        return failedKeys;
+    }
+
+    @Override
+    public String url(String key) {
+        return urlPrefix + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        if (url == null || !url.startsWith(urlPrefix) || url.length() == urlPrefix.length()) {
+            return null;
+        }
+        return url.substring(urlPrefix.length());
+    }
+
+    /**
+     * 키 → 파일 경로
+     *
+     * @param key 객체 키
+     * @return root 하위 경로 (root 밖을 가리키거나 비어 있으면 null)
+     */
+    public Path resolve(String key) {
+        if (key == null || key.isEmpty()) {
+            return null;
+        }
+        Path path = root.resolve(key).normalize();
+        return path.startsWith(root) && !path.equals(root) ? path : null;
+    }
+
+    private Path requirePath(String key) throws IOException {
+        Path path = resolve(key);
+        if (path == null) {
+            throw new AccessDeniedException(key, null, "Key outside storage root");
+        }
+        return path;
+    }
+
+    private String sign(String key, String contentType, long contentLength, long expires) {
+        String payload = String.join("\n", "PUT", key, contentType, Long.toString(contentLength), Long.toString(expires));
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 not available", e);
+        }
+    }
+
+    private static byte[] randomSecret() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
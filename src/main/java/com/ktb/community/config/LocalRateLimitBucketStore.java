@@ -0,0 +1,69 @@
+package com.ktb.community.config;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.github.bucket4j.Bucket;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 인메모리 Rate Limit Bucket 저장소 (기본)
+ *
+ * - Bucket4j 사용 (Token Bucket 알고리즘)
+ * - 인스턴스별 Caffeine 캐시 → N대 배포 시 실제 한도는 N배
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimitBucketStore implements RateLimitBucketStore {
+
+    /**
+     * 클라이언트별 Bucket 캐시
+     * - Key: ClientKey(FQCN.methodName, IP, userId)
+     * - Value: Bucket4j Bucket
+     */
+    private final RateLimitBucketCache<Bucket> buckets;
+
+    @Autowired
+    public LocalRateLimitBucketStore() {
+        this(Ticker.systemTicker());
+    }
+
+    LocalRateLimitBucketStore(Ticker ticker) {
+        this.buckets = new RateLimitBucketCache<>(ticker);
+    }
+
+    @Override
+    public ConsumeResult tryConsume(ClientKey clientKey, int requestsPerMinute) {
+        // 없을 때만 생성 람다 할당
+        Bucket bucket = buckets.getIfPresent(clientKey);
+        if (bucket == null) {
+            bucket = buckets.get(clientKey, k -> createBucket(requestsPerMinute));
+        }
+        return ConsumeResult.of(bucket.tryConsumeAndReturnRemaining(1));
+    }
+
+    @Override
+    public Map<String, Long> countActiveBuckets() {
+        return buckets.countByEndpoint();
+    }
+
+    @Override
+    public Map<String, Long> countEvictions() {
+        return buckets.evictionsByEndpoint();
+    }
+
+    /**
+     * Bucket4j Bucket 생성
+     * Token Bucket 알고리즘 적용
+     *
+     * @param requestsPerMinute 분당 허용 요청 수
+     * @return Bucket
+     */
+    private Bucket createBucket(int requestsPerMinute) {
+        return Bucket.builder()
+            .addLimit(RateLimitBucketStore.bandwidth(requestsPerMinute))
+            .build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.ktb.community.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이미지 객체 저장소
+ * ImageService(업로드), ImageVariantService(변형 생성), ImageCleanupBatchService(고아 이미지 삭제)가 공유
+ *
+ * - s3 (기본): S3 버킷 (S3ObjectStorage)
+ * - local: 로컬 디스크 + GET /files/** 서빙 (LocalObjectStorage, 단일 노드/네트워크 없는 벤치마크용)
+ * - 선택: storage.type=s3|local
+ *
+ * 키 형식: S3KeyGenerator (images/yyyy/MM/dd/{UUID}.ext, 직접 업로드 대기: uploads/...), URL ↔ 키 변환은 구현체가 담당
+ * 없는 객체: get/readPrefix/copy는 NoSuchFileException (구현체 공통)
+ */
+public interface ObjectStorage {
+
+    /**
+     * 객체 저장 (스트리밍, 전체를 힙에 적재하지 않음)
+     *
+     * @param key 객체 키
+     * @param content 내용 스트림 (호출자가 닫음)
+     * @param contentLength 내용 길이
+     * @param contentType MIME type
+     * @param contentHash 내용 SHA-256 hex (null이면 무결성 검증 생략)
+     * @throws IOException 저장 실패 (무결성 검증 실패 포함)
+     */
+    void put(String key, InputStream content, long contentLength, String contentType, String contentHash)
+            throws IOException;
+
+    /**
+     * 객체 읽기
+     *
+     * @param key 객체 키
+     * @return 내용 스트림 (호출자가 닫음)
+     * @throws IOException 읽기 실패 (객체 없음 포함)
+     */
+    InputStream get(String key) throws IOException;
+
+    /**
+     * 객체 앞부분 읽기 (범위 GET, 객체 전체를 전송받지 않음)
+     *
+     * @param key 객체 키
+     * @param length 읽을 최대 바이트 수
+     * @return 앞부분 바이트 + 객체 전체 크기
+     * @throws IOException 읽기 실패 (객체 없음: NoSuchFileException)
+     */
+    ObjectPrefix readPrefix(String key, int length) throws IOException;
+
+    /**
+     * 객체 복사 (저장소 내부 복사, 앱 서버로 내용 전송 없음)
+     * - 대상은 원본과 같은 공개 설정/Content-Type
+     *
+     * @param sourceKey 원본 키
+     * @param targetKey 대상 키 (있으면 덮어씀)
+     * @throws IOException 복사 실패 (원본 없음: NoSuchFileException)
+     */
+    void copy(String sourceKey, String targetKey) throws IOException;
+
+    /**
+     * 직접 업로드용 서명 URL 발급 (클라이언트가 앱 서버를 거치지 않고 저장소에 PUT)
+     * - Content-Type/Content-Length를 서명에 포함 → 선언과 다른 형식/크기는 저장소가 거부
+     *
+     * @param key 객체 키
+     * @param contentType 선언된 MIME type
+     * @param contentLength 선언된 크기
+     * @param expiresIn 서명 유효 시간
+     * @return 업로드 URL + 클라이언트가 그대로 보내야 하는 헤더
+     */
+    PresignedUpload presignPut(String key, String contentType, long contentLength, Duration expiresIn);
+
+    /**
+     * 객체 일괄 삭제 (없는 키는 삭제 성공 처리)
+     *
+     * @param keys 삭제할 키
+     * @return 삭제 실패 키
+     */
+    Set<String> deleteAll(Collection<String> keys);
+
+    /**
+     * 공개 URL (images.image_url 등에 저장)
+     *
+     * @param key 객체 키
+     * @return 공개 URL
+     */
+    String url(String key);
+
+    /**
+     * 공개 URL에서 키 추출
+     *
+     * @param url 공개 URL
+     * @return 객체 키 (이 저장소의 URL이 아니면 null)
+     */
+    String keyOf(String url);
+
+    /**
+     * 객체 앞부분
+     *
+     * @param bytes 앞부분 바이트 (객체가 짧으면 객체 전체)
+     * @param totalSize 객체 전체 크기
+     */
+    record ObjectPrefix(byte[] bytes, long totalSize) {
+    }
+
+    /**
+     * 직접 업로드 서명 결과
+     *
+     * @param url 업로드 URL
+     * @param method HTTP 메서드 (PUT)
+     * @param headers 요청에 포함해야 하는 헤더 (서명 대상)
+     * @param expiresAt 서명 만료 시각
+     */
+    record PresignedUpload(String url, String method, Map<String, String> headers, Instant expiresAt) {
+    }
+}
@@ -1,55 +1,57 @@
 package com.ktb.community.config;
 
+import com.ktb.community.config.RateLimitBucketStore.ClientKey;
+import com.ktb.community.config.RateLimitBucketStore.ConsumeResult;
 import com.ktb.community.enums.ErrorCode;
 import com.ktb.community.exception.BusinessException;
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
-
-import java.time.Duration;
-import java.util.concurrent.TimeUnit;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Rate Limiting AOP
  * @RateLimit 어노테이션이 붙은 메서드의 호출 빈도 제한
- * 
- * - Bucket4j 사용 (Token Bucket 알고리즘)
+ *
+ * - Bucket4j 사용 (Token Bucket 알고리즘, RateLimitBucketStore)
  * - IP + 사용자ID 기반 제한
- * - 인메모리 저장 (추후 Redis 전환 가능)
+ * - 저장소: 인메모리(기본) 또는 DB 공유 (RateLimitBucketStore, rate-limit.store)
+ * - 엔드포인트 이름은 Method별 1회 계산 후 캐시, 버킷 키는 record (문자열 결합 없음)
+ * - RateLimitFilter가 이미 검사한 요청은 재차감하지 않음 (같은 Bucket 공유)
+ * - X-RateLimit-Limit/Remaining, Retry-After 헤더 + 엔드포인트별 카운터 (RateLimitMetrics)
  */
 @Slf4j
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class RateLimitAspect {
-    
+
+    private final RateLimitBucketStore bucketStore;
+    private final RateLimitMetrics rateLimitMetrics;
+
     /**
-     * 클라이언트별 Bucket 캐시 (Caffeine)
-     * - 자동 만료: 10분 미사용 시 삭제
-     * - 최대 크기: 10,000개
-     * - Key: FQCN.methodName:IP 또는 FQCN.methodName:IP:userId
-     * - Value: Bucket4j Bucket
+     * 엔드포인트 이름 캐시 (Method → FQCN.methodName)
+     * - @RateLimit 메서드 수만큼만 적재 (호출마다 문자열 결합 없음)
      */
-    private final Cache<String, Bucket> buckets = Caffeine.newBuilder()
-        .expireAfterAccess(10, TimeUnit.MINUTES)
-        .maximumSize(10_000)
-        .build();
-    
+    private final ConcurrentMap<Method, String> endpointNames = new ConcurrentHashMap<>();
+
     /**
      * @RateLimit 어노테이션이 붙은 메서드 가로채기
-     * 
+     *
      * @param pjp 메서드 실행 지점
      * @param rateLimit @RateLimit 어노테이션
      * @return 메서드 실행 결과
@@ -57,102 +59,89 @@ public class RateLimitAspect {
      */
     @Around("@annotation(rateLimit)")
     public Object rateLimit(ProceedingJoinPoint pjp, RateLimit rateLimit) throws Throwable {
-        String clientKey = getClientKey(pjp);
+        String endpoint = resolveEndpoint(pjp.getSignature());
+        HttpServletRequest request = getCurrentRequest();
+
+        // 필터 레벨에서 이미 차감된 요청 (security/MVC 이전 검사 완료)
+        if (endpoint.equals(request.getAttribute(RateLimitFilter.CHECKED_ENDPOINT_ATTRIBUTE))) {
+            return pjp.proceed();
+        }
+
+        ClientKey clientKey = resolveClientKey(endpoint, request);
         int requestsPerMinute = rateLimit.requestsPerMinute();
-        
-        // 클라이언트별 Bucket 생성 또는 가져오기
-        Bucket bucket = buckets.get(clientKey, k -> createBucket(requestsPerMinute));
-        
-        // 토큰 획득 시도
-        if (!bucket.tryConsume(1)) {
-            log.warn("Rate limit exceeded for client: {} (limit: {}/min)", 
+
+        // 토큰 획득 시도 (클라이언트별 Bucket, 저장소 구현은 rate-limit.store)
+        ConsumeResult result = bucketStore.tryConsume(clientKey, requestsPerMinute);
+        rateLimitMetrics.record(endpoint, requestsPerMinute, result.consumed());
+        result.writeHeaders(getCurrentResponse(), requestsPerMinute);
+
+        if (!result.consumed()) {
+            log.warn("Rate limit exceeded for client: {} (limit: {}/min)",
                 clientKey, requestsPerMinute);
             throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
         }
-        
+
         log.debug("Rate limit check passed for client: {}", clientKey);
         return pjp.proceed();
     }
-    
+
     /**
-     * Bucket4j Bucket 생성
-     * Token Bucket 알고리즘 적용
-     * 
-     * @param requestsPerMinute 분당 허용 요청 수
-     * @return Bucket
+     * 엔드포인트 이름 (FQCN.methodName)
+     * - MethodSignature: Method별 1회 계산 후 캐시
+     * - 그 외 Signature: 매번 계산 (캐시 키로 쓸 Method 없음)
+     *
+     * @param signature 메서드 시그니처
+     * @return 엔드포인트 이름
      */
-    private Bucket createBucket(int requestsPerMinute) {
-        Bandwidth limit = Bandwidth.classic(
-            requestsPerMinute, 
-            Refill.intervally(requestsPerMinute, Duration.ofMinutes(1))
-        );
-        return Bucket.builder()
-            .addLimit(limit)
-            .build();
+    String resolveEndpoint(Signature signature) {
+        if (signature instanceof MethodSignature methodSignature) {
+            Method method = methodSignature.getMethod();
+            String endpoint = endpointNames.get(method);
+            if (endpoint == null) {
+                endpoint = endpointNames.computeIfAbsent(method,
+                    m -> methodSignature.getDeclaringTypeName() + "." + m.getName());
+            }
+            return endpoint;
+        }
+        return signature.getDeclaringTypeName() + "." + signature.getName();
     }
-    
+
     /**
      * 클라이언트 식별 키 생성
      * - 엔드포인트별 격리: FQCN.methodName 포함
-     * - 인증된 사용자: FQCN.methodName:IP:userId
-     * - 비인증 사용자: FQCN.methodName:IP
-     * - 예: "com.ktb.community.controller.AuthController.login:192.168.1.1:user@example.com"
-     * 
-     * @param pjp 메서드 실행 지점
+     * - 인증된 사용자: (FQCN.methodName, IP, userId)
+     * - 비인증 사용자: (FQCN.methodName, IP, null)
+     *
+     * @param endpoint 엔드포인트 이름
+     * @param request HTTP 요청
      * @return 클라이언트 키
      */
-    private String getClientKey(ProceedingJoinPoint pjp) {
-        String methodName = pjp.getSignature().getDeclaringTypeName() 
-                          + "." + pjp.getSignature().getName();
-        HttpServletRequest request = getCurrentRequest();
-        String ip = getClientIp(request);
-        
+    ClientKey resolveClientKey(String endpoint, HttpServletRequest request) {
+        String ip = RateLimitBucketStore.getClientIp(request);
+
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        
-        String userKey;
+
         if (auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getPrincipal())) {
-            userKey = ip + ":" + auth.getName(); // IP:userId
-        } else {
-            userKey = ip; // 비인증 사용자는 IP만
+            return new ClientKey(endpoint, ip, auth.getName()); // IP:userId
         }
-        
-        return methodName + ":" + userKey; // FQCN.methodName:IP 또는 FQCN.methodName:IP:userId
+        return new ClientKey(endpoint, ip, null); // 비인증 사용자는 IP만
     }
-    
+
     /**
      * 현재 HTTP 요청 가져오기
      */
     private HttpServletRequest getCurrentRequest() {
-        ServletRequestAttributes attributes = 
+        ServletRequestAttributes attributes =
             (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
         return attributes.getRequest();
     }
-    
+
     /**
-     * 클라이언트 IP 추출
-     * Proxy/Load Balancer 고려 (X-Forwarded-For 헤더 우선)
-     * 
-     * @param request HTTP 요청
-     * @return 클라이언트 IP
+     * 현재 HTTP 응답 가져오기 (없으면 null)
      */
-    private String getClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        
-        // X-Forwarded-For에 여러 IP가 있을 경우 첫 번째 IP 사용
-        if (ip != null && ip.contains(",")) {
-            ip = ip.split(",")[0].trim();
-        }
-        
-        return ip;
+    private HttpServletResponse getCurrentResponse() {
+        ServletRequestAttributes attributes =
+            (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        return attributes.getResponse();
     }
 }
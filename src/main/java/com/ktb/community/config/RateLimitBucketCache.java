@@ -0,0 +1,76 @@
+package com.ktb.community.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.ktb.community.config.RateLimitBucketStore.ClientKey;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 클라이언트별 Bucket 캐시 (RateLimitBucketStore 구현 공용)
+ *
+ * - 자동 만료: 10분 미사용 시 삭제
+ * - 최대 크기: 10,000개
+ * - 엔드포인트별 제거(만료/크기 초과) 수 집계
+ *
+ * @param <V> Bucket 또는 원격 Bucket 핸들
+ */
+final class RateLimitBucketCache<V> {
+
+    private final ConcurrentMap<String, LongAdder> evictions = new ConcurrentHashMap<>();
+    private final Cache<ClientKey, V> cache;
+
+    RateLimitBucketCache() {
+        this(Ticker.systemTicker());
+    }
+
+    RateLimitBucketCache(Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .ticker(ticker)
+                .expireAfterAccess(10, TimeUnit.MINUTES)
+                .maximumSize(10_000)
+                .<ClientKey, V>evictionListener((key, value, cause) -> {
+                    if (key != null) {
+                        evictions.computeIfAbsent(key.endpoint(), k -> new LongAdder()).increment();
+                    }
+                })
+                .build();
+    }
+
+    V getIfPresent(ClientKey clientKey) {
+        return cache.getIfPresent(clientKey);
+    }
+
+    V get(ClientKey clientKey, Function<ClientKey, V> factory) {
+        return cache.get(clientKey, factory);
+    }
+
+    /**
+     * 엔드포인트별 활성 Bucket 수 (만료 항목 정리 후 집계)
+     */
+    Map<String, Long> countByEndpoint() {
+        cache.cleanUp();
+        Map<String, Long> counts = new HashMap<>();
+        for (ClientKey key : cache.asMap().keySet()) {
+            counts.merge(key.endpoint(), 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * 엔드포인트별 누적 제거 수
+     */
+    Map<String, Long> evictionsByEndpoint() {
+        cache.cleanUp();
+        Map<String, Long> counts = new HashMap<>();
+        evictions.forEach((endpoint, count) -> counts.put(endpoint, count.sum()));
+        return counts;
+    }
+}
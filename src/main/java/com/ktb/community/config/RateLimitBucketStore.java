@@ -0,0 +1,147 @@
+package com.ktb.community.config;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.Refill;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate Limit Bucket 저장소
+ * RateLimitAspect(메서드 레벨)와 RateLimitFilter(서블릿 필터 레벨)가 같은 저장소 공유
+ *
+ * - local (기본): 인스턴스별 인메모리 Bucket (LocalRateLimitBucketStore)
+ * - jdbc: DB 공유 Bucket, 인스턴스 수와 무관하게 한도 유지 (JdbcRateLimitBucketStore)
+ * - 선택: rate-limit.store=local|jdbc
+ */
+public interface RateLimitBucketStore {
+
+    /**
+     * Rate Limit 응답 헤더 (CORS exposedHeaders에도 등록)
+     */
+    String LIMIT_HEADER = "X-RateLimit-Limit";
+    String REMAINING_HEADER = "X-RateLimit-Remaining";
+    String RETRY_AFTER_HEADER = "Retry-After";
+
+    /**
+     * 토큰 1개 차감 시도
+     *
+     * @param clientKey 클라이언트 키
+     * @param requestsPerMinute 분당 허용 요청 수 (Bucket 최초 생성 시 적용)
+     * @return 차감 결과 (consumed=false: 한도 초과)
+     */
+    ConsumeResult tryConsume(ClientKey clientKey, int requestsPerMinute);
+
+    /**
+     * 엔드포인트별 활성 Bucket 수 (이 인스턴스 캐시 기준)
+     *
+     * @return FQCN.methodName → Bucket 수
+     */
+    Map<String, Long> countActiveBuckets();
+
+    /**
+     * 엔드포인트별 누적 Bucket 제거 수 (미사용 만료 + 최대 크기 초과)
+     *
+     * @return FQCN.methodName → 제거 수
+     */
+    Map<String, Long> countEvictions();
+
+    /**
+     * 분당 한도 Bandwidth (저장소 구현과 무관하게 동일한 Token Bucket 정책)
+     * - 용량 = 분당 허용 요청 수, 1분마다 일괄 refill
+     *
+     * @param requestsPerMinute 분당 허용 요청 수
+     * @return Bandwidth
+     */
+    static Bandwidth bandwidth(int requestsPerMinute) {
+        return Bandwidth.classic(
+            requestsPerMinute,
+            Refill.intervally(requestsPerMinute, Duration.ofMinutes(1))
+        );
+    }
+
+    /**
+     * 클라이언트 IP 추출
+     * Proxy/Load Balancer 고려 (X-Forwarded-For 헤더 우선)
+     *
+     * @param request HTTP 요청
+     * @return 클라이언트 IP
+     */
+    static String getClientIp(HttpServletRequest request) {
+        String ip = request.getHeader("X-Forwarded-For");
+
+        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
+            ip = request.getHeader("Proxy-Client-IP");
+        }
+        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
+            ip = request.getHeader("WL-Proxy-Client-IP");
+        }
+        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
+            ip = request.getRemoteAddr();
+        }
+
+        // X-Forwarded-For에 여러 IP가 있을 경우 첫 번째 IP 사용 (split 배열 생성 없음)
+        if (ip != null) {
+            int comma = ip.indexOf(',');
+            if (comma >= 0) {
+                ip = ip.substring(0, comma).trim();
+            }
+        }
+
+        return ip;
+    }
+
+    /**
+     * Bucket 키
+     *
+     * @param endpoint FQCN.methodName
+     * @param ip 클라이언트 IP
+     * @param userId 인증 사용자 ID (비인증 시 null)
+     */
+    record ClientKey(String endpoint, String ip, String userId) {
+    }
+
+    /**
+     * 토큰 차감 결과
+     *
+     * @param consumed 차감 성공 여부
+     * @param remainingTokens 남은 토큰 수
+     * @param nanosToWaitForRefill 다음 토큰까지 대기 시간 (차감 성공 시 0)
+     */
+    record ConsumeResult(boolean consumed, long remainingTokens, long nanosToWaitForRefill) {
+
+        public static ConsumeResult of(ConsumptionProbe probe) {
+            return new ConsumeResult(probe.isConsumed(), probe.getRemainingTokens(), probe.getNanosToWaitForRefill());
+        }
+
+        /**
+         * Retry-After 초 (올림, 최소 1초)
+         */
+        public long retryAfterSeconds() {
+            return Math.max(1, (nanosToWaitForRefill + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        }
+
+        /**
+         * Rate Limit 응답 헤더 기록
+         * - X-RateLimit-Limit / X-RateLimit-Remaining: 항상
+         * - Retry-After: 한도 초과 시
+         *
+         * @param response HTTP 응답 (null이면 무시)
+         * @param requestsPerMinute 분당 허용 요청 수
+         */
+        public void writeHeaders(HttpServletResponse response, int requestsPerMinute) {
+            if (response == null) {
+                return;
+            }
+            response.setHeader(LIMIT_HEADER, String.valueOf(requestsPerMinute));
+            response.setHeader(REMAINING_HEADER, String.valueOf(remainingTokens));
+            if (!consumed) {
+                response.setHeader(RETRY_AFTER_HEADER, String.valueOf(retryAfterSeconds()));
+            }
+        }
+    }
+}
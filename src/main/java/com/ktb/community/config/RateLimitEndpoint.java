@@ -0,0 +1,37 @@
+package com.ktb.community.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Rate Limit 현황 Actuator 엔드포인트 (GET /actuator/ratelimits, ADMIN 전용)
+ * 엔드포인트별 허용/거절 수, 거절 비율, 활성 Bucket 수, 제거 수 → 5/10/30/200 rpm Tier 조정 근거
+ *
+ * - 인스턴스별 값 (jdbc 저장소여도 카운터는 인스턴스 로컬)
+ */
+@Component
+@Endpoint(id = "ratelimits")
+@RequiredArgsConstructor
+public class RateLimitEndpoint {
+
+    private final RateLimitMetrics rateLimitMetrics;
+    private final RateLimitBucketStore bucketStore;
+
+    @ReadOperation
+    public RateLimitReport report() {
+        return new RateLimitReport(
+                bucketStore.getClass().getSimpleName(),
+                rateLimitMetrics.snapshot(bucketStore));
+    }
+
+    /**
+     * @param store Bucket 저장소 구현
+     * @param endpoints FQCN.methodName → 통계
+     */
+    public record RateLimitReport(String store, Map<String, RateLimitMetrics.EndpointStats> endpoints) {
+    }
+}
@@ -0,0 +1,242 @@
+package com.ktb.community.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.community.config.RateLimitBucketStore.ClientKey;
+import com.ktb.community.config.RateLimitBucketStore.ConsumeResult;
+import com.ktb.community.dto.ApiResponse;
+import com.ktb.community.dto.ErrorDetails;
+import com.ktb.community.enums.ErrorCode;
+import com.ktb.community.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.DefaultCorsProcessor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rate Limiting 서블릿 필터
+ * Spring Security 필터 체인(DEFAULT_FILTER_ORDER)보다 먼저 실행
+ * - rate-limit.filter.enabled=false: 필터 미등록 (RateLimitAspect만으로 제한)
+ *
+ * - 규칙: @RateLimit이 붙은 핸들러 메서드의 경로 패턴/HTTP 메서드/분당 요청 수 (기동 시 1회 수집)
+ * - Bucket: RateLimitAspect와 같은 RateLimitBucketStore/ClientKey 사용 (한도 공유)
+ * - 사용자 식별: JWT Claims (JwtTokenProvider 검증 토큰 캐시, DB 조회 없음)
+ * - 초과 시 429 즉시 응답 (JWT 인증 필터, MVC 바인딩, @Valid 실행 안 함)
+ * - X-RateLimit-Limit/Remaining 헤더, 초과 시 Retry-After + 엔드포인트별 카운터 (RateLimitMetrics)
+ * - 통과한 요청은 CHECKED_ENDPOINT_ATTRIBUTE 표시 → RateLimitAspect가 재차감하지 않음
+ */
+@Slf4j
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+@ConditionalOnProperty(name = "rate-limit.filter.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitFilter extends OncePerRequestFilter implements SmartInitializingSingleton {
+
+    /**
+     * 필터에서 차감 완료한 엔드포인트 (FQCN.methodName)
+     */
+    public static final String CHECKED_ENDPOINT_ATTRIBUTE = RateLimitFilter.class.getName() + ".CHECKED_ENDPOINT";
+
+    private final RateLimitBucketStore bucketStore;
+    private final RateLimitMetrics rateLimitMetrics;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final CorsConfigurationSource corsConfigurationSource;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 경로 패턴 규칙 (afterSingletonsInstantiated에서 1회 수집)
+     */
+    private volatile List<Rule> rules = List.of();
+
+    public RateLimitFilter(
+            RateLimitBucketStore bucketStore,
+            RateLimitMetrics rateLimitMetrics,
+            JwtTokenProvider jwtTokenProvider,
+            @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping,
+            CorsConfigurationSource corsConfigurationSource,
+            ObjectMapper objectMapper
+    ) {
+        this.bucketStore = bucketStore;
+        this.rateLimitMetrics = rateLimitMetrics;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.handlerMapping = handlerMapping;
+        this.corsConfigurationSource = corsConfigurationSource;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @RateLimit 핸들러 메서드 → 경로 패턴 규칙 수집
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<Rule> collected = new ArrayList<>();
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMapping.getHandlerMethods().entrySet()) {
+            HandlerMethod handlerMethod = entry.getValue();
+            RateLimit rateLimit = handlerMethod.getMethodAnnotation(RateLimit.class);
+            if (rateLimit == null) {
+                continue;
+            }
+
+            // RateLimitAspect.resolveEndpoint와 같은 이름 (선언 클래스 FQCN.methodName)
+            String endpoint = handlerMethod.getMethod().getDeclaringClass().getName()
+                    + "." + handlerMethod.getMethod().getName();
+            Set<RequestMethod> methods = entry.getKey().getMethodsCondition().getMethods();
+
+            for (PathPattern pattern : getPathPatterns(entry.getKey())) {
+                collected.add(new Rule(endpoint, pattern, methods, rateLimit.requestsPerMinute()));
+            }
+        }
+        this.rules = List.copyOf(collected);
+        log.info("[RateLimit] 필터 규칙 수집 완료: {}개", collected.size());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // CORS Preflight는 제한 대상 아님
+        return HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Rule rule = findRule(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ClientKey clientKey = new ClientKey(rule.endpoint(),
+                RateLimitBucketStore.getClientIp(request), resolveUserId(request));
+        ConsumeResult result = bucketStore.tryConsume(clientKey, rule.requestsPerMinute());
+        rateLimitMetrics.record(rule.endpoint(), rule.requestsPerMinute(), result.consumed());
+        result.writeHeaders(response, rule.requestsPerMinute());
+
+        if (!result.consumed()) {
+            log.warn("Rate limit exceeded for client: {} (limit: {}/min)", clientKey, rule.requestsPerMinute());
+            reject(request, response);
+            return;
+        }
+
+        request.setAttribute(CHECKED_ENDPOINT_ATTRIBUTE, rule.endpoint());
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 요청에 해당하는 규칙 (없으면 null)
+     */
+    private Rule findRule(HttpServletRequest request) {
+        List<Rule> current = rules;
+        if (current.isEmpty()) {
+            return null;
+        }
+
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        PathContainer path = PathContainer.parsePath(
+                StringUtils.hasLength(contextPath) ? uri.substring(contextPath.length()) : uri);
+        String method = request.getMethod();
+
+        for (Rule rule : current) {
+            if (rule.matches(method, path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * JWT subject (RateLimitAspect의 인증 사용자 키와 동일)
+     * - role claim이 있는 Access Token만 사용자로 식별
+     * - 토큰 없음/무효: null (IP만으로 제한)
+     */
+    private String resolveUserId(HttpServletRequest request) {
+        String token = jwtTokenProvider.resolveToken(request);
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        return jwtTokenProvider.parseClaims(token)
+                .filter(claims -> StringUtils.hasText(claims.get("role", String.class)))
+                .map(Claims::getSubject)
+                .orElse(null);
+    }
+
+    /**
+     * 429 응답 (GlobalExceptionHandler와 같은 ApiResponse 형식)
+     * - Security 체인 이전이므로 CORS 헤더 직접 적용
+     */
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        CorsConfiguration corsConfiguration = corsConfigurationSource.getCorsConfiguration(request);
+        if (corsConfiguration != null) {
+            new DefaultCorsProcessor().processRequest(corsConfiguration, request, response);
+        }
+
+        ErrorCode errorCode = ErrorCode.TOO_MANY_REQUESTS;
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(),
+                ApiResponse.error(errorCode.getCode(), ErrorDetails.of(errorCode.getMessage())));
+    }
+
+    /**
+     * RequestMappingInfo의 경로 패턴 (PathPatternParser 미사용 설정이면 문자열 패턴 파싱)
+     */
+    private static Set<PathPattern> getPathPatterns(RequestMappingInfo info) {
+        if (info.getPathPatternsCondition() != null) {
+            return info.getPathPatternsCondition().getPatterns();
+        }
+        Set<PathPattern> patterns = new LinkedHashSet<>();
+        for (String value : info.getPatternValues()) {
+            patterns.add(PathPatternParser.defaultInstance.parse(value));
+        }
+        return patterns;
+    }
+
+    /**
+     * 경로 패턴 규칙
+     *
+     * @param endpoint FQCN.methodName (Bucket 키)
+     * @param pattern 경로 패턴
+     * @param methods HTTP 메서드 (비어 있으면 전체)
+     * @param requestsPerMinute 분당 허용 요청 수
+     */
+    record Rule(String endpoint, PathPattern pattern, Set<RequestMethod> methods, int requestsPerMinute) {
+
+        boolean matches(String method, PathContainer path) {
+            if (!methods.isEmpty() && methods.stream().noneMatch(m -> m.name().equals(method))) {
+                return false;
+            }
+            return pattern.matches(path);
+        }
+    }
+}
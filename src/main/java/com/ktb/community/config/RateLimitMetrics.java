@@ -0,0 +1,98 @@
+package com.ktb.community.config;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate Limit 엔드포인트별 허용/거절 카운터
+ * RateLimitFilter, RateLimitAspect에서 검사마다 1회 기록 (인스턴스 기동 이후 누적)
+ *
+ * - 엔드포인트: FQCN.methodName (Bucket 키와 동일)
+ * - LongAdder: 같은 엔드포인트 동시 기록 시 경합 최소화
+ */
+@Component
+public class RateLimitMetrics {
+
+    private final ConcurrentMap<String, EndpointCounter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 검사 결과 기록
+     *
+     * @param endpoint FQCN.methodName
+     * @param requestsPerMinute 분당 허용 요청 수
+     * @param allowed 허용 여부
+     */
+    public void record(String endpoint, int requestsPerMinute, boolean allowed) {
+        EndpointCounter counter = counters.get(endpoint);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(endpoint, k -> new EndpointCounter(requestsPerMinute));
+        }
+        if (allowed) {
+            counter.allowed.increment();
+        } else {
+            counter.rejected.increment();
+        }
+    }
+
+    /**
+     * 엔드포인트별 카운터 + 저장소 Bucket 현황 스냅샷
+     *
+     * @param bucketStore Bucket 저장소 (활성 Bucket 수, 제거 수)
+     * @return FQCN.methodName 순 정렬 스냅샷
+     */
+    public Map<String, EndpointStats> snapshot(RateLimitBucketStore bucketStore) {
+        Map<String, Long> activeBuckets = bucketStore.countActiveBuckets();
+        Map<String, Long> evictions = bucketStore.countEvictions();
+
+        Map<String, EndpointStats> stats = new TreeMap<>();
+        counters.forEach((endpoint, counter) -> {
+            long allowed = counter.allowed.sum();
+            long rejected = counter.rejected.sum();
+            long total = allowed + rejected;
+            stats.put(endpoint, new EndpointStats(
+                    counter.requestsPerMinute,
+                    allowed,
+                    rejected,
+                    total > 0 ? (double) rejected / total : 0.0,
+                    activeBuckets.getOrDefault(endpoint, 0L),
+                    evictions.getOrDefault(endpoint, 0L)));
+        });
+        return stats;
+    }
+
+    /**
+     * 엔드포인트 통계
+     *
+     * @param requestsPerMinute 분당 허용 요청 수 (@RateLimit)
+     * @param allowed 허용 수
+     * @param rejected 거절(429) 수
+     * @param rejectionRate 거절 비율 (0.0 ~ 1.0)
+     * @param activeBuckets 활성 Bucket 수 (클라이언트 수)
+     * @param evictions 누적 Bucket 제거 수
+     */
+    public record EndpointStats(
+            int requestsPerMinute,
+            long allowed,
+            long rejected,
+            double rejectionRate,
+            long activeBuckets,
+            long evictions
+    ) {
+    }
+
+    private static final class EndpointCounter {
+
+        private final int requestsPerMinute;
+        private final LongAdder allowed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        private EndpointCounter(int requestsPerMinute) {
+            this.requestsPerMinute = requestsPerMinute;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.ktb.community.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 최근 쓰기 기록 (read-your-writes 창)
+ * 쓰기 트랜잭션 커밋 후 window 동안 해당 사용자의 읽기 전용 트랜잭션을 primary로 보냄 → 복제 지연 중에도 자기 쓰기가 보임
+ *
+ * - 키: 인증 사용자 이름 (JWT subject = userId)
+ * - window는 복제 지연 상한보다 길게 설정 (datasource.routing.read-your-writes-ms)
+ * - 인스턴스 로컬 기록: 같은 사용자의 다음 요청이 다른 인스턴스로 가면 보장되지 않음
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window, long maxSize) {
+        this(window, maxSize, Ticker.systemTicker());
+    }
+
+    ReadYourWritesTracker(Duration window, long maxSize, Ticker ticker) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxSize)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * 쓰기 커밋 기록 (window 재시작)
+     */
+    public void recordWrite(String username) {
+        recentWriters.put(username, Boolean.TRUE);
+    }
+
+    /**
+     * window 안에 쓰기를 커밋한 사용자인지
+     */
+    public boolean wroteRecently(String username) {
+        return recentWriters.getIfPresent(username) != null;
+    }
+}
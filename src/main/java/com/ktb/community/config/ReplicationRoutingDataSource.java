@@ -0,0 +1,78 @@
+package com.ktb.community.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * primary/replica 라우팅 DataSource
+ *
+ * - @Transactional(readOnly = true) → replica
+ *   단, 최근 쓰기를 커밋한 사용자(ReadYourWritesTracker)의 읽기는 primary
+ * - 그 외 (쓰기 트랜잭션, 트랜잭션 밖 접근: Bucket4j JDBC, Hibernate 기동 등) → primary
+ * - 쓰기 트랜잭션 커밋 시 인증 사용자를 ReadYourWritesTracker에 기록
+ *
+ * 주의: 반드시 LazyConnectionDataSourceProxy로 감싸서 사용
+ * 트랜잭션 매니저는 readOnly 플래그를 동기화하기 전에 커넥션을 요청 → 실제 커넥션 획득을 첫 쿼리까지 미뤄야 라우팅 가능
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica,
+                                        ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        String username = currentUsername();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (username != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                recordWriteAfterCommit(username);
+            }
+            return Target.PRIMARY;
+        }
+
+        if (username != null && readYourWritesTracker.wroteRecently(username)) {
+            return Target.PRIMARY;
+        }
+        return Target.REPLICA;
+    }
+
+    /**
+     * 커밋된 쓰기만 기록 (롤백 시 window 미적용)
+     */
+    private void recordWriteAfterCommit(String username) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite(username);
+            }
+        });
+    }
+
+    /**
+     * 인증 사용자 이름 (JWT subject = userId), 비인증이면 null
+     */
+    private static String currentUsername() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getPrincipal())) {
+            return auth.getName();
+        }
+        return null;
+    }
+}
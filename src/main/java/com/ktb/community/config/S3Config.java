@@ -1,13 +1,20 @@
 package com.ktb.community.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+/**
+ * S3 설정 (storage.type=s3, 기본)
+ * storage.type=local이면 S3Client 미생성 (LocalObjectStorage 사용)
+ */
 @Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
 
     @Value("${aws.s3.region}")
@@ -28,4 +35,16 @@ public class S3Config {
                 .credentialsProvider(DefaultCredentialsProvider.create())
                 .build();
     }
+
+    /**
+     * S3Presigner Bean 생성 (직접 업로드 presigned PUT URL 서명)
+     * 서명만 로컬에서 수행 (네트워크 호출 없음), credential chain은 S3Client와 동일
+     */
+    @Bean
+    public S3Presigner s3Presigner() {
+        return S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(DefaultCredentialsProvider.create())
+                .build();
+    }
 }
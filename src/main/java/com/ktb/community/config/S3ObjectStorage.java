@@ -0,0 +1,243 @@
+package com.ktb.community.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * S3 객체 저장소 (storage.type=s3, 기본)
+ *
+ * - put: Content-Length 지정 단일 PUT (버퍼링 없음), SHA-256은 x-amz-checksum-sha256으로 전달 → S3가 무결성 검증
+ * - readPrefix: Range GET (bytes=0-{n-1}), 전체 크기는 Content-Range에서 추출
+ * - copy: CopyObject (서버 측 복사, ACL은 복사되지 않으므로 public-read 재지정)
+ * - presignPut: S3Presigner로 서명 (Content-Type/Content-Length/ACL 서명 포함, 로컬 계산)
+ * - deleteAll: DeleteObjects quiet 모드, 요청당 최대 1,000개 키 (S3 API 제한)
+ * - URL: https://{bucket}.s3.{region}.amazonaws.com/{key}
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage {
+
+    /**
+     * S3 DeleteObjects 요청당 최대 키 수 (S3 API 제한)
+     */
+    static final int MAX_DELETE_OBJECTS_KEYS = 1000;
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final String bucketName;
+    private final String urlPrefix;
+
+    public S3ObjectStorage(S3Client s3Client,
+                           S3Presigner s3Presigner,
+                           @Value("${aws.s3.bucket}") String bucketName,
+                           @Value("${aws.s3.region}") String region) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.bucketName = bucketName;
+        this.urlPrefix = String.format("https://%s.s3.%s.amazonaws.com/", bucketName, region);
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength, String contentType, String contentHash)
+            throws IOException {
+        PutObjectRequest.Builder request = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .acl(ObjectCannedACL.PUBLIC_READ);  // 이미지 객체만 public 설정
+        if (contentHash != null) {
+            request.checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(contentHash)));
+        }
+
+        try {
+            s3Client.putObject(request.build(), RequestBody.fromInputStream(content, contentLength));
+        } catch (SdkException e) {
+            throw new IOException("S3 put failed: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+        try {
+            return s3Client.getObject(request);
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } catch (SdkException e) {
+            throw new IOException("S3 get failed: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public ObjectPrefix readPrefix(String key, int length) throws IOException {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .range("bytes=0-" + (length - 1))
+                .build();
+        try (ResponseInputStream<GetObjectResponse> in = s3Client.getObject(request)) {
+            byte[] bytes = in.readNBytes(length);
+            return new ObjectPrefix(bytes, totalSize(in.response(), bytes.length));
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 416) {
+                return new ObjectPrefix(new byte[0], 0);  // 빈 객체 (InvalidRange)
+            }
+            throw new IOException("S3 range get failed: " + e.getMessage(), e);
+        } catch (SdkException e) {
+            throw new IOException("S3 range get failed: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey) throws IOException {
+        CopyObjectRequest request = CopyObjectRequest.builder()
+                .sourceBucket(bucketName)
+                .sourceKey(sourceKey)
+                .destinationBucket(bucketName)
+                .destinationKey(targetKey)
+                .acl(ObjectCannedACL.PUBLIC_READ)
+                .build();
+        try {
+            s3Client.copyObject(request);
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(sourceKey);
+        } catch (SdkException e) {
+            throw new IOException("S3 copy failed: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public PresignedUpload presignPut(String key, String contentType, long contentLength, Duration expiresIn) {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .acl(ObjectCannedACL.PUBLIC_READ)
+                .build();
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(expiresIn)
+                .putObjectRequest(request)
+                .build());
+
+        // host는 URL에 포함, 나머지 서명 헤더는 클라이언트가 그대로 전송해야 함
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return new PresignedUpload(presigned.url().toString(), presigned.httpRequest().method().name(),
+                headers, presigned.expiration());
+    }
+
+    /**
+     * Content-Range (bytes 0-7/12345)에서 전체 크기 추출, 없으면 읽은 길이
+     */
+    private static long totalSize(GetObjectResponse response, long read) {
+        String contentRange = response.contentRange();
+        if (contentRange != null) {
+            int slash = contentRange.lastIndexOf('/');
+            if (slash >= 0 && !"*".equals(contentRange.substring(slash + 1))) {
+                return Long.parseLong(contentRange.substring(slash + 1));
+            }
+        }
+        return read;
+    }
+
+    /**
+     * S3 일괄 삭제 (DeleteObjects, 요청당 최대 1,000개 키)
+     * - quiet 모드: 응답에 실패 키만 포함
+     * - 요청 자체 실패 시 해당 요청의 모든 키를 실패 처리
+     */
+    @Override
+    public Set<String> deleteAll(Collection<String> keys) {
+        List<String> keyList = List.copyOf(keys);
+        Set<String> failedKeys = new HashSet<>();
+
+        for (int from = 0; from < keyList.size(); from += MAX_DELETE_OBJECTS_KEYS) {
+            List<String> batch = keyList.subList(from, Math.min(from + MAX_DELETE_OBJECTS_KEYS, keyList.size()));
+            List<ObjectIdentifier> objects = new ArrayList<>(batch.size());
+            for (String key : batch) {
+                objects.add(ObjectIdentifier.builder().key(key).build());
+            }
+
+            try {
+                DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+                        .bucket(bucketName)
+                        .delete(Delete.builder().objects(objects).quiet(true).build())
+                        .build();
+                DeleteObjectsResponse response = s3Client.deleteObjects(request);
+
+                for (S3Error error : response.errors()) {
+                    failedKeys.add(error.key());
+                    log.error("[Storage] S3 파일 삭제 실패: s3Key={}, code={}, message={}",
+                            error.key(), error.code(), error.message());
+                }
+            } catch (Exception e) {
+                failedKeys.addAll(batch);
+                log.error("[Storage] S3 일괄 삭제 요청 실패: keys={}건, error={}", batch.size(), e.getMessage(), e);
+            }
+        }
+        return failedKeys;
+    }
+
+    @Override
+    public String url(String key) {
+        return urlPrefix + key;
+    }
+
+    /**
+     * 예시: https://bucket-name.s3.region.amazonaws.com/images/2025/10/11/test.jpg
+     *       → images/2025/10/11/test.jpg
+     */
+    @Override
+    public String keyOf(String url) {
+        if (url == null || !url.startsWith(urlPrefix) || url.length() == urlPrefix.length()) {
+            return null;
+        }
+        return url.substring(urlPrefix.length());
+    }
+}
@@ -1,6 +1,7 @@
 package com.ktb.community.config;
 
 import com.ktb.community.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -62,9 +63,13 @@ public class SecurityConfig {
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration config = new CorsConfiguration();
         config.setAllowedOrigins(List.of(frontendUrl));
-        config.setAllowedMethods(List.of("GET", "POST", "PATCH", "DELETE", "OPTIONS"));
+        config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));  // PUT: 로컬 저장소 직접 업로드
         config.setAllowedHeaders(List.of("*"));
         config.setAllowCredentials(true);  // 쿠키 전송 허용
+        config.setExposedHeaders(List.of(  // Rate Limit 헤더 (JS 접근 허용)
+                RateLimitBucketStore.LIMIT_HEADER,
+                RateLimitBucketStore.REMAINING_HEADER,
+                RateLimitBucketStore.RETRY_AFTER_HEADER));
         config.setMaxAge(3600L);  // Preflight 캐싱 1시간
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -88,7 +93,8 @@ public class SecurityConfig {
                                 "/auth/**",           // 인증 관련
                                 "/users/**",          // 사용자 관련 (회원가입, 프로필 수정 등)
                                 "/posts/**",          // 게시글 관련 모든 API
-                                "/images/**"          // 이미지 업로드
+                                "/images/**",         // 이미지 업로드
+                                "/files/**"           // 로컬 저장소 직접 업로드 (서명 URL로 인가)
                         )
                 )
                 .sessionManagement(session ->
@@ -96,6 +102,9 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // ========== 순서 중요: 구체적인 패턴 먼저! ==========
 
+                        // 0. 비동기 응답 디스패치 (최초 요청에서 이미 인가됨, 예: POST /images)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
 // 1. 특수 케이스 - GET이지만 인증 필요
                         .requestMatchers(HttpMethod.GET, "/posts/users/me/likes").authenticated()
                         
@@ -125,14 +134,21 @@ public class SecurityConfig {
                         
                         // 6. 인증 필요 - Images
                         .requestMatchers(HttpMethod.POST, "/images").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/images/presigned", "/images/*/confirm").authenticated()
                         
                         // 7. Public - Auth
                         .requestMatchers("/auth/login", "/auth/refresh_token", "/users/signup").permitAll()
 
                         // 8. Public - Legal & Static Resources
                         .requestMatchers("/terms", "/privacy", "/css/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/files/**").permitAll()  // 로컬 저장소 이미지 (storage.type=local)
+                        .requestMatchers(HttpMethod.HEAD, "/files/**").permitAll()  // 크기/ETag 확인 (LocalStorageController GET/HEAD)
+                        .requestMatchers(HttpMethod.PUT, "/files/**").permitAll()  // 직접 업로드 (서명 검증은 LocalStorageController)
+
+                        // 9. 운영 - Rate Limit 현황, 메트릭 (Actuator)
+                        .requestMatchers(HttpMethod.GET, "/actuator/ratelimits", "/actuator/metrics", "/actuator/metrics/**").hasRole("ADMIN")
 
-                        // 9. 나머지는 인증 필요
+                        // 10. 나머지는 인증 필요
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
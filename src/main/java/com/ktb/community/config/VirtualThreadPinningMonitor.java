@@ -0,0 +1,143 @@
+package com.ktb.community.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 고정(Pinning) 감지 (spring.threads.virtual.enabled=true)
+ * JFR jdk.VirtualThreadPinned 이벤트를 애플리케이션 안에서 스트리밍 (별도 jcmd/JFR 파일 불필요)
+ *
+ * - 고정: 가상 스레드가 블로킹했지만 캐리어 스레드에서 내려오지 못한 경우 (캐리어 점유 → 처리량 저하)
+ *   JDK 24 (JEP 491)부터 synchronized/Object.wait는 고정되지 않음, 네이티브 프레임/클래스 초기화 중 블로킹은 여전히 고정
+ *   JDBC 드라이버/Hikari의 synchronized 구간은 JDK 21~23으로 실행할 때만 고정 → 이 모니터로 확인
+ * - 고정 지점: 스택에서 JDK 내부(java., jdk., sun.)를 제외한 첫 프레임 (예: com.mysql.cj..., com.zaxxer.hikari...)
+ *   지점별 첫 발생은 WARN + 스택 상위 프레임, 이후는 횟수만 누적 (로그 폭주 방지)
+ * - 메트릭: jvm.threads.virtual.pinned (Timer, 고정 시간)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final Timer pinnedTimer;
+    private final ConcurrentMap<String, LongAdder> pinnedSites = new ConcurrentHashMap<>();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${virtual-threads.pinned-threshold-ms:20}") long thresholdMs) {
+        this.threshold = Duration.ofMillis(thresholdMs);
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+                .description("가상 스레드 고정 시간 (임계값 이상만 기록)")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("[VirtualThread] 고정 감지 시작: threshold={}ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * 고정 지점별 누적 횟수 (지점 이름 순)
+     */
+    public Map<String, Long> pinnedSites() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        pinnedSites.forEach((site, count) -> snapshot.put(site, count.sum()));
+        return snapshot;
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        String site = stackTrace == null ? "unknown" : pinnedSite(stackTrace);
+        LongAdder count = pinnedSites.computeIfAbsent(site, k -> new LongAdder());
+        count.increment();
+
+        if (count.sum() == 1) {
+            log.warn("[VirtualThread] 가상 스레드 고정 감지: site={}, duration={}ms, thread={}\n{}",
+                    site, event.getDuration().toMillis(), threadName(event), topFrames(stackTrace));
+        } else {
+            log.debug("[VirtualThread] 가상 스레드 고정: site={}, duration={}ms", site, event.getDuration().toMillis());
+        }
+    }
+
+    /**
+     * JDK 내부 프레임을 건너뛴 첫 프레임 (Class.method:line)
+     */
+    static String pinnedSite(RecordedStackTrace stackTrace) {
+        RecordedFrame first = null;
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            if (first == null) {
+                first = frame;
+            }
+            if (!isJdkFrame(frame)) {
+                return describe(frame);
+            }
+        }
+        return first == null ? "unknown" : describe(first);
+    }
+
+    private static boolean isJdkFrame(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.");
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static String topFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        StringBuilder frames = new StringBuilder();
+        stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .limit(LOGGED_FRAMES)
+                .forEach(frame -> frames.append("\tat ").append(describe(frame)).append('\n'));
+        return frames.toString();
+    }
+
+    private static String threadName(RecordedEvent event) {
+        RecordedThread thread = event.getThread("eventThread");
+        return thread == null ? "unknown" : thread.getJavaName();
+    }
+}
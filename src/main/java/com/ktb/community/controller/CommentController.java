@@ -33,15 +33,17 @@ public class CommentController {
     /**
      * 댓글 목록 조회 (API.md Section 5.1)
      * GET /posts/{postId}/comments?offset=0&limit=10
+     * - exact=true: 정확한 total_count (ADMIN 전용)
      * Tier 3: 제한 없음 (조회 API, 페이지네이션 있음)
      */
     @GetMapping
     public ResponseEntity<ApiResponse<Map<String, Object>>> getComments(
             @PathVariable Long postId,
             @RequestParam(defaultValue = "0") int offset,
-            @RequestParam(defaultValue = "10") int limit
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "false") boolean exact
     ) {
-        Map<String, Object> result = commentService.getComments(postId, offset, limit);
+        Map<String, Object> result = commentService.getComments(postId, offset, limit, exact);
         return ResponseEntity.ok(ApiResponse.success("get_comments_success", result));
     }
 
@@ -2,17 +2,24 @@ package com.ktb.community.controller;
 
 import com.ktb.community.config.RateLimit;
 import com.ktb.community.dto.ApiResponse;
+import com.ktb.community.dto.request.PresignedUploadRequest;
 import com.ktb.community.dto.response.ImageResponse;
+import com.ktb.community.dto.response.PresignedUploadResponse;
 import com.ktb.community.service.ImageService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 이미지 업로드 컨트롤러
  * API.md Section 4 참조
@@ -29,22 +36,53 @@ public class ImageController {
      * POST /images
      * Authorization: Bearer {access_token}
      * Tier 2: 중간 제한 (파일 업로드 부하)
+     * 비동기 처리: S3 전송 동안 요청 스레드 반환 (Servlet async)
      *
      * @param file 업로드할 이미지 파일
      * @return 이미지 정보 (image_id, image_url)
      */
     @PostMapping
     @RateLimit(requestsPerMinute = 10)
-    public ResponseEntity<ApiResponse<ImageResponse>> uploadImage(
+    public CompletableFuture<ResponseEntity<ApiResponse<ImageResponse>>> uploadImage(
             @RequestParam("file") MultipartFile file) {
 
-        ImageResponse imageResponse = imageService.uploadImage(file);
+        return imageService.uploadImageAsync(file)
+                .thenApply(imageResponse -> ResponseEntity.status(HttpStatus.CREATED).body(
+                        ApiResponse.success("upload_image_success", imageResponse)));
+    }
 
-        ApiResponse<ImageResponse> response = ApiResponse.success(
-                "upload_image_success",
-                imageResponse
-        );
+    /**
+     * 직접 업로드 URL 발급 (API.md Section 4.2)
+     * POST /images/presigned
+     * Authorization: Bearer {access_token}
+     * Tier 2: 중간 제한 (대기 이미지 행 생성)
+     *
+     * @param request 파일명, MIME type, 크기
+     * @return 대기 이미지 ID + 업로드 URL/헤더
+     */
+    @PostMapping("/presigned")
+    @RateLimit(requestsPerMinute = 10)
+    public ResponseEntity<ApiResponse<PresignedUploadResponse>> createPresignedUpload(
+            @Valid @RequestBody PresignedUploadRequest request) {
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        PresignedUploadResponse response = imageService.createPresignedUpload(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("presigned_upload_created", response));
+    }
+
+    /**
+     * 직접 업로드 확인 (API.md Section 4.3)
+     * POST /images/{imageId}/confirm
+     * Authorization: Bearer {access_token}
+     * Tier 2: 중간 제한 (저장소 Range GET)
+     *
+     * @param imageId 발급 시 받은 이미지 ID
+     * @return 이미지 정보 (image_id, image_url)
+     */
+    @PostMapping("/{imageId}/confirm")
+    @RateLimit(requestsPerMinute = 10)
+    public ResponseEntity<ApiResponse<ImageResponse>> confirmUpload(@PathVariable Long imageId) {
+        ImageResponse response = imageService.confirmUpload(imageId);
+        return ResponseEntity.ok(ApiResponse.success("upload_image_success", response));
     }
 }
@@ -0,0 +1,293 @@
+package com.ktb.community.controller;
+
+import com.ktb.community.config.LocalObjectStorage;
+import com.ktb.community.util.FileValidator;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 로컬 저장소 이미지 서빙 + 직접 업로드 (storage.type=local)
+ * GET /files/{key} (LocalObjectStorage.url()이 생성하는 URL)
+ * PUT /files/{key}?expires=..&signature=.. (LocalObjectStorage.presignPut()이 생성하는 URL)
+ *
+ * - 서빙 대상: 확인된 images/ 키만 (uploads/ 등 미확인 키 → 404)
+ * - Content-Type: 파일명이 아닌 Magic Number 판별 결과, 이미지가 아니거나 확장자와 불일치 → 404
+ * - X-Content-Type-Options: nosniff 항상 전송 (브라우저 MIME 추측으로 인한 저장형 XSS 차단)
+ * - ETag: "{크기 hex}-{수정 시각 hex}" (파일 속성만 사용, 내용 미읽기), If-None-Match 일치 시 304
+ * - Range: 단일 구간 bytes=a-b / a- / -n → 206, 범위 밖 → 416, 다중 구간/형식 오류 → 전체 200
+ * - If-Range: ETag 불일치 시 Range 무시 (전체 200)
+ * - 전송: Tomcat sendfile 지원 시 파일 경로만 넘김 (커널 zero-copy),
+ *         아니면 FileChannel.transferTo로 응답 스트림에 복사 (힙 버퍼 미할당)
+ * - 업로드: 서명(키/Content-Type/Content-Length/만료) 불일치 또는 만료 시 403, 통과 시 스트리밍 저장 후 200
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageController {
+
+    static final String PATH_PREFIX = "/files/";
+
+    // Tomcat NIO 커넥터 sendfile (useSendfile=true 기본)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final ByteRange UNSATISFIABLE = new ByteRange(-1, 0);
+
+    // 서빙 허용 키 접두사 (확인 완료 이미지)
+    private static final String SERVABLE_KEY_PREFIX = "images/";
+
+    // 판별된 MIME type별 허용 확장자 (소문자, 점 포함)
+    private static final Map<String, List<String>> IMAGE_EXTENSIONS = Map.of(
+            "image/jpeg", List.of(".jpg", ".jpeg"),
+            "image/png", List.of(".png"),
+            "image/gif", List.of(".gif")
+    );
+
+    private final LocalObjectStorage storage;
+
+    /**
+     * 파일 서빙 (GET/HEAD)
+     *
+     * @param request HTTP 요청 (경로에서 키 추출)
+     * @param response HTTP 응답 (본문 직접 기록)
+     */
+    @GetMapping(PATH_PREFIX + "**")
+    public void serveFile(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        String key = uri.startsWith(PATH_PREFIX) ? uri.substring(PATH_PREFIX.length()) : null;
+        Path path = key != null && key.startsWith(SERVABLE_KEY_PREFIX) ? storage.resolve(key) : null;
+        if (path == null || !Files.isRegularFile(path)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String contentType = FileValidator.detectImageType(
+                storage.readPrefix(key, FileValidator.MAGIC_HEADER_SIZE).bytes());
+        if (contentType == null || !hasImageExtension(key, contentType)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long size = attributes.size();
+        String etag = "\"" + Long.toHexString(size) + "-"
+                + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=86400");
+        response.setContentType(contentType);
+
+        if (etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        ByteRange range = ifRange == null || ifRange.equals(etag)
+                ? parseRange(request.getHeader(HttpHeaders.RANGE), size)
+                : null;
+
+        if (range == UNSATISFIABLE) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+        if (range == null) {
+            range = new ByteRange(0, size);
+            response.setStatus(HttpServletResponse.SC_OK);
+        } else {
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + range.start() + "-" + (range.start() + range.length() - 1) + "/" + size);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        }
+        response.setContentLengthLong(range.length());
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || range.length() == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.start() + range.length());
+            return;
+        }
+        transfer(path, range, response);
+    }
+
+    /**
+     * 직접 업로드 (S3 presigned PUT 대응)
+     * - 서명 불일치/만료 → 403, Content-Length 없음 → 411
+     *
+     * @param request HTTP 요청 (경로에서 키, 쿼리에서 expires/signature, 본문 = 파일)
+     * @param response HTTP 응답
+     */
+    @PutMapping(PATH_PREFIX + "**")
+    public void uploadFile(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        String key = uri.startsWith(PATH_PREFIX) ? uri.substring(PATH_PREFIX.length()) : null;
+        if (key == null || storage.resolve(key) == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long contentLength = request.getContentLengthLong();
+        if (contentLength < 0) {
+            response.sendError(HttpServletResponse.SC_LENGTH_REQUIRED);
+            return;
+        }
+
+        long expires;
+        try {
+            expires = Long.parseLong(request.getParameter("expires"));
+        } catch (NumberFormatException e) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+        if (!storage.verifyUpload(key, request.getContentType(), contentLength, expires,
+                request.getParameter("signature"))) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        try (InputStream content = request.getInputStream()) {
+            storage.put(key, content, contentLength, request.getContentType(), null);
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+    }
+
+    /**
+     * FileChannel.transferTo로 구간 전송 (sendfile 미지원 컨테이너)
+     */
+    private static void transfer(Path path, ByteRange range, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            long remaining = range.length();
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;  // 전송 중 파일이 줄어듦
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+        response.flushBuffer();
+    }
+
+    /**
+     * 키 확장자가 판별된 이미지 형식과 일치하는지 확인 (예: PNG 내용의 .html 키 거부)
+     */
+    private static boolean hasImageExtension(String key, String contentType) {
+        String lowerKey = key.toLowerCase(Locale.ROOT);
+        return IMAGE_EXTENSIONS.getOrDefault(contentType, List.of()).stream().anyMatch(lowerKey::endsWith);
+    }
+
+    /**
+     * If-None-Match 비교 (*, 목록, 약한 비교)
+     */
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 단일 Range 해석
+     *
+     * @param header Range 헤더
+     * @param size 파일 크기
+     * @return 요청 구간 (헤더 없음/다중 구간/형식 오류 → null: 전체 전송, 범위 밖 → UNSATISFIABLE)
+     */
+    static ByteRange parseRange(String header, long size) {
+        if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+
+        String first = spec.substring(0, dash).trim();
+        String last = spec.substring(dash + 1).trim();
+        try {
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                // 접미 구간: 마지막 n바이트
+                if (last.isEmpty()) {
+                    return null;
+                }
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength <= 0) {
+                    return UNSATISFIABLE;
+                }
+                start = Math.max(0, size - suffixLength);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(first);
+                if (last.isEmpty()) {
+                    end = size - 1;
+                } else {
+                    long requestedEnd = Long.parseLong(last);
+                    if (requestedEnd < start) {
+                        return null;
+                    }
+                    end = Math.min(requestedEnd, size - 1);
+                }
+            }
+
+            if (start < 0 || start >= size) {
+                return UNSATISFIABLE;
+            }
+            return new ByteRange(start, end - start + 1);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 전송 구간
+     *
+     * @param start 시작 위치
+     * @param length 길이
+     */
+    record ByteRange(long start, long length) {
+    }
+}
@@ -35,17 +35,20 @@ public class PostController {
     /**
      * 게시글 목록 조회 (API.md Section 3.1)
      * - latest: GET /posts?cursor=123&limit=10&sort=latest
-     * - likes: GET /posts?offset=0&limit=10&sort=likes
+     * - likes: GET /posts?cursor={nextCursor}&limit=10&sort=likes (keyset)
+     * - likes (하위 호환): GET /posts?offset=0&limit=10&sort=likes
+     * - exact=true: 정확한 total_count (ADMIN 전용, offset 방식)
      * Tier 3: 제한 없음 (조회 API, 페이지네이션 있음)
      */
     @GetMapping
     public ResponseEntity<ApiResponse<Map<String, Object>>> getPosts(
-            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) Integer offset,
             @RequestParam(defaultValue = "10") int limit,
-            @RequestParam(defaultValue = "latest") String sort
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(defaultValue = "false") boolean exact
     ) {
-        Map<String, Object> result = postService.getPosts(cursor, offset, limit, sort);
+        Map<String, Object> result = postService.getPosts(cursor, offset, limit, sort, exact);
         return ResponseEntity.ok(ApiResponse.success("get_posts_success", result));
     }
 
@@ -151,16 +154,18 @@ public class PostController {
      * 내가 좋아요한 게시글 목록 조회 (API.md Section 6.3)
      * GET /users/me/likes?offset=0&limit=10
      * Authorization: Bearer {access_token}
+     * - exact=true: 정확한 total_count (ADMIN 전용)
      * Tier 3: 제한 없음 (조회 API)
      */
     @GetMapping("/users/me/likes")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getLikedPosts(
             @RequestParam(defaultValue = "0") int offset,
             @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "false") boolean exact,
             Authentication authentication
     ) {
         Long userId = getUserId(authentication);
-        Map<String, Object> result = likeService.getLikedPosts(userId, offset, limit);
+        Map<String, Object> result = likeService.getLikedPosts(userId, offset, limit, exact);
         return ResponseEntity.ok(ApiResponse.success("get_liked_posts_success", result));
     }
 
@@ -10,6 +10,7 @@ import com.ktb.community.dto.response.UserResponse;
 import com.ktb.community.enums.ErrorCode;
 import com.ktb.community.exception.BusinessException;
 import com.ktb.community.service.AuthService;
+import com.ktb.community.service.ImageService;
 import com.ktb.community.service.UserService;
 import com.ktb.community.util.PasswordValidator;
 import jakarta.servlet.http.Cookie;
@@ -23,6 +24,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.multipart.MultipartFile;
 
 /**
  * 사용자 컨트롤러
@@ -36,6 +38,7 @@ public class UserController {
     
     private final AuthService authService;
     private final UserService userService;
+    private final ImageService imageService;
     
     /**
      * 회원가입 (API.md Section 2.1)
@@ -56,7 +59,8 @@ public class UserController {
                     PasswordValidator.getPolicyDescription());
         }
 
-        AuthService.AuthResult result = authService.signup(request);
+        Long profileImageId = uploadProfileImage(request.getProfileImage());
+        AuthService.AuthResult result = authService.signup(request, profileImageId);
 
         // 토큰 → httpOnly Cookie 설정
         setCookie(response, "access_token", result.tokens().getAccessToken(), 30 * 60, "/");
@@ -93,7 +97,11 @@ public class UserController {
             Authentication authentication) {
         
         Long authenticatedUserId = extractUserIdFromAuthentication(authentication);
-        UserResponse response = userService.updateProfile(userId, authenticatedUserId, request);
+        if (!userId.equals(authenticatedUserId)) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS);  // 타인 프로필로 업로드하지 않도록 업로드 전에 확인
+        }
+        Long profileImageId = uploadProfileImage(request.getProfileImage());
+        UserResponse response = userService.updateProfile(userId, authenticatedUserId, request, profileImageId);
         
         return ResponseEntity.ok(ApiResponse.success("update_profile_success", response));
     }
@@ -145,6 +153,19 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success("account_deactivated_success"));
     }
     
+    /**
+     * 프로필 이미지 업로드 (서비스 트랜잭션 밖에서 실행 → 저장소 전송/업로드 격벽 대기 동안 DB 커넥션 미점유)
+     * - 이후 서비스 검증 실패 시 이미지는 연결되지 않은 채 TTL 만료 → 고아 이미지 배치가 정리
+     *
+     * @return 업로드된 이미지 ID (이미지 없으면 null)
+     */
+    private Long uploadProfileImage(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            return null;
+        }
+        return imageService.uploadImage(file).getImageId();
+    }
+
     /**
      * Cookie 설정 헬퍼 메서드
      * @param name 쿠키 이름
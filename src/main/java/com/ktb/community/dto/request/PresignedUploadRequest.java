@@ -0,0 +1,32 @@
+package com.ktb.community.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 직접 업로드 URL 발급 요청 DTO
+ * API.md Section 4.2 참조
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadRequest {
+
+    @NotBlank(message = "파일명은 필수입니다")
+    @Size(max = 255, message = "파일명은 최대 255자입니다")
+    private String filename;
+
+    @NotBlank(message = "파일 형식은 필수입니다")
+    private String contentType;
+
+    @NotNull(message = "파일 크기는 필수입니다")
+    @Positive(message = "파일 크기는 0보다 커야 합니다")
+    private Long fileSize;
+}
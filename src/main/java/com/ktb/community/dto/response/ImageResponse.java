@@ -16,6 +16,8 @@ public class ImageResponse {
 
     private Long imageId;
     private String imageUrl;
+    private String thumbnailUrl;  // 업로드 직후에는 null (비동기 생성)
+    private String mediumUrl;
     private Integer fileSize;
     private String originalFilename;
     private LocalDateTime createdAt;
@@ -28,6 +30,8 @@ public class ImageResponse {
         return ImageResponse.builder()
                 .imageId(image.getImageId())
                 .imageUrl(image.getImageUrl())
+                .thumbnailUrl(image.getThumbnailUrl())
+                .mediumUrl(image.getMediumUrl())
                 .fileSize(image.getFileSize())
                 .originalFilename(image.getOriginalFilename())
                 .createdAt(image.getCreatedAt())
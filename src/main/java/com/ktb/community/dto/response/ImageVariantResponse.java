@@ -0,0 +1,42 @@
+package com.ktb.community.dto.response;
+
+import com.ktb.community.entity.Image;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 이미지 변형 URL DTO (Nested)
+ * PostResponse에서 게시글 이미지별 원본/썸네일/중간 크기 URL로 사용
+ * - 변형 생성 전이거나 GIF이면 원본 URL로 대체
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ImageVariantResponse {
+
+    private String imageUrl;      // 원본
+    private String thumbnailUrl;  // 목록/프로필용
+    private String mediumUrl;     // 상세 본문용
+
+    /**
+     * Entity → DTO 변환
+     *
+     * @param image Image 엔티티
+     * @return ImageVariantResponse DTO
+     */
+    public static ImageVariantResponse from(Image image) {
+        return ImageVariantResponse.builder()
+                .imageUrl(image.getImageUrl())
+                .thumbnailUrl(orOriginal(image.getThumbnailUrl(), image.getImageUrl()))
+                .mediumUrl(orOriginal(image.getMediumUrl(), image.getImageUrl()))
+                .build();
+    }
+
+    /**
+     * 변형 URL이 없으면 원본 URL
+     */
+    static String orOriginal(String variantUrl, String originalUrl) {
+        return variantUrl != null ? variantUrl : originalUrl;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ktb.community.dto.response;
 
+import com.ktb.community.entity.Image;
 import com.ktb.community.entity.Post;
 import com.ktb.community.entity.PostImage;
 import lombok.AllArgsConstructor;
@@ -28,6 +29,7 @@ public class PostResponse {
     private UserSummary author;
     private PostStatsResponse stats;
     private List<String> images;  // image URLs (display_order 순서)
+    private List<ImageVariantResponse> imageVariants;  // 이미지별 원본/썸네일/중간 크기 URL (images와 같은 순서)
     private Boolean isLikedByCurrentUser;  // 현재 사용자의 좋아요 여부 (비로그인 시 null)
 
     /**
@@ -48,6 +50,22 @@ public class PostResponse {
      * @return PostResponse DTO
      */
     public static PostResponse from(Post post, Boolean isLikedByCurrentUser) {
+        return from(post, isLikedByCurrentUser, post.getPostImages().stream()
+                .sorted(Comparator.comparing(PostImage::getDisplayOrder))
+                .map(PostImage::getImage)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Entity → DTO 변환 (이미지 직접 전달)
+     * - 목록 조회용: PostImageResolver로 페이지 단위 일괄 조회한 이미지 사용 (postImages 지연 로딩 없음)
+     *
+     * @param post Post 엔티티 (Fetch Join으로 user, stats 로드 필요)
+     * @param isLikedByCurrentUser 현재 사용자의 좋아요 여부 (비로그인 시 null)
+     * @param images 이미지 목록 (display_order 순서)
+     * @return PostResponse DTO
+     */
+    public static PostResponse from(Post post, Boolean isLikedByCurrentUser, List<Image> images) {
         return PostResponse.builder()
                 .postId(post.getPostId())
                 .title(post.getTitle())
@@ -56,10 +74,8 @@ public class PostResponse {
                 .updatedAt(post.getUpdatedAt())
                 .author(UserSummary.from(post.getUser()))
                 .stats(post.getStats() != null ? PostStatsResponse.from(post.getStats()) : null)
-                .images(post.getPostImages().stream()
-                        .sorted(Comparator.comparing(PostImage::getDisplayOrder))
-                        .map(pi -> pi.getImage().getImageUrl())
-                        .collect(Collectors.toList()))
+                .images(images.stream().map(Image::getImageUrl).collect(Collectors.toList()))
+                .imageVariants(images.stream().map(ImageVariantResponse::from).collect(Collectors.toList()))
                 .isLikedByCurrentUser(isLikedByCurrentUser)
                 .build();
     }
@@ -0,0 +1,70 @@
+package com.ktb.community.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 항목 DTO (피드 전용)
+ * API.md Section 3.1 참조
+ * - 본문(post_content LONGTEXT) 대신 앞부분 발췌(excerpt)만 포함
+ * - 이미지는 첫 번째(display_order 최소) 1장만 포함
+ * - PostRepository의 생성자 표현식(SELECT new ...) 쿼리로 직접 조회 (엔티티 미로드)
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+public class PostSummaryResponse {
+
+    /**
+     * 발췌 최대 길이 (문자 수)
+     */
+    public static final int EXCERPT_LENGTH = 100;
+
+    private Long postId;
+    private String title;
+    private String excerpt;  // 본문 앞 EXCERPT_LENGTH자
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private UserSummary author;
+    private PostStatsResponse stats;
+    private String firstImage;  // 첫 번째 이미지 URL (없으면 null)
+    private String firstImageThumbnail;  // 첫 번째 이미지 썸네일 (변형 없으면 firstImage)
+    private Boolean isLikedByCurrentUser;  // 현재 사용자의 좋아요 여부 (비로그인 시 null)
+
+    /**
+     * JPQL 생성자 표현식 전용 (PostRepository 목록 쿼리)
+     * - 컬럼 순서는 쿼리의 SELECT new 인자 순서와 일치해야 함
+     */
+    public PostSummaryResponse(
+            Long postId, String title, String excerpt,
+            LocalDateTime createdAt, LocalDateTime updatedAt,
+            Long authorId, String authorNickname, String authorProfileImage, String authorProfileThumbnail,
+            Integer likeCount, Integer commentCount, Integer viewCount,
+            String firstImage, String firstImageThumbnail
+    ) {
+        this.postId = postId;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.author = new UserSummary(authorId, authorNickname, authorProfileImage,
+                ImageVariantResponse.orOriginal(authorProfileThumbnail, authorProfileImage));
+        this.stats = likeCount != null ? new PostStatsResponse(likeCount, commentCount, viewCount) : null;
+        this.firstImage = firstImage;
+        this.firstImageThumbnail = ImageVariantResponse.orOriginal(firstImageThumbnail, firstImage);
+    }
+
+    /**
+     * 좋아요 여부를 채운 사본 반환
+     * - 피드 캐시의 공유 인스턴스는 변경하지 않음
+     *
+     * @param isLikedByCurrentUser 현재 사용자의 좋아요 여부
+     * @return 새 PostSummaryResponse
+     */
+    public PostSummaryResponse withLikedByCurrentUser(Boolean isLikedByCurrentUser) {
+        return toBuilder().isLikedByCurrentUser(isLikedByCurrentUser).build();
+    }
+}
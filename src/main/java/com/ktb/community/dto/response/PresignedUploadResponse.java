@@ -0,0 +1,39 @@
+package com.ktb.community.dto.response;
+
+import com.ktb.community.config.ObjectStorage;
+import com.ktb.community.entity.Image;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 직접 업로드 URL 발급 응답 DTO
+ * API.md Section 4.2 참조
+ */
+@Getter
+@Builder
+public class PresignedUploadResponse {
+
+    private Long imageId;
+    private String imageUrl;              // 대기 객체 URL (확인 응답의 imageUrl이 최종 공개 URL)
+    private String uploadUrl;             // 클라이언트가 파일을 직접 PUT할 URL
+    private String method;
+    private Map<String, String> headers;  // 업로드 요청에 그대로 포함해야 하는 헤더 (서명 대상)
+    private Instant expiresAt;            // 업로드 URL 만료 시각
+
+    /**
+     * 대기 Image + 서명 결과 → DTO 변환
+     */
+    public static PresignedUploadResponse of(Image image, ObjectStorage.PresignedUpload upload) {
+        return PresignedUploadResponse.builder()
+                .imageId(image.getImageId())
+                .imageUrl(image.getImageUrl())
+                .uploadUrl(upload.url())
+                .method(upload.method())
+                .headers(upload.headers())
+                .expiresAt(upload.expiresAt())
+                .build();
+    }
+}
@@ -17,6 +17,7 @@ public class UserSummary {
     private Long userId;
     private String nickname;
     private String profileImage;  // image_url (nullable)
+    private String profileImageThumbnail;  // thumbnail_url (변형 없으면 image_url, nullable)
 
     /**
      * Entity → DTO 변환
@@ -30,6 +31,9 @@ public class UserSummary {
                 .nickname(user.getNickname())
                 .profileImage(user.getProfileImage() != null ?
                         user.getProfileImage().getImageUrl() : null)
+                .profileImageThumbnail(user.getProfileImage() != null ?
+                        ImageVariantResponse.orOriginal(user.getProfileImage().getThumbnailUrl(),
+                                user.getProfileImage().getImageUrl()) : null)
                 .build();
     }
 }
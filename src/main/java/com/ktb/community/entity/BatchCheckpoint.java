@@ -0,0 +1,45 @@
+package com.ktb.community.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 체크포인트 엔티티
+ * DDL: batch_checkpoints 테이블
+ * - Keyset 커서 (expires_at, image_id) 저장: 실행 중 재시작 시 이어서 처리
+ * - 배치 정상 종료 시 삭제 (행 존재 = 미완료 실행)
+ */
+@Entity
+@Table(name = "batch_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class BatchCheckpoint extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "job_name", length = 64)
+    private String jobName;
+
+    @Column(name = "cursor_expires_at", nullable = false)
+    private LocalDateTime cursorExpiresAt;
+
+    @Column(name = "cursor_image_id", nullable = false)
+    private Long cursorImageId;
+
+    @Builder
+    public BatchCheckpoint(String jobName, LocalDateTime cursorExpiresAt, Long cursorImageId) {
+        this.jobName = jobName;
+        this.cursorExpiresAt = cursorExpiresAt;
+        this.cursorImageId = cursorImageId;
+    }
+
+    /**
+     * 커서 전진 (완료된 청크의 마지막 이미지)
+     */
+    public void advance(LocalDateTime cursorExpiresAt, Long cursorImageId) {
+        this.cursorExpiresAt = cursorExpiresAt;
+        this.cursorImageId = cursorImageId;
+    }
+}
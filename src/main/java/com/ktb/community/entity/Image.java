@@ -33,12 +33,32 @@ public class Image extends BaseCreatedTimeEntity {
     @Column(name = "expires_at")
     private LocalDateTime expiresAt;
 
+    // 리사이즈 변형 (업로드 후 비동기 생성, 생성 전/GIF는 NULL)
+    @Column(name = "thumbnail_url", length = 2048)
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url", length = 2048)
+    private String mediumUrl;
+
+    // 원본 SHA-256 (hex, 중복 업로드 시 S3 객체 공유, 해시 도입 전 행은 NULL)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 직접 업로드 대기 (presigned URL 발급 후 확인 전, 게시글 연결 불가)
+    @Column(name = "upload_pending", nullable = false)
+    private boolean uploadPending;
+
     @Builder
-    public Image(String imageUrl, Integer fileSize, String originalFilename, LocalDateTime expiresAt) {
+    public Image(String imageUrl, Integer fileSize, String originalFilename, LocalDateTime expiresAt,
+                 String contentHash, String thumbnailUrl, String mediumUrl, boolean uploadPending) {
         this.imageUrl = imageUrl;
         this.fileSize = fileSize;
         this.originalFilename = originalFilename;
         this.expiresAt = expiresAt;
+        this.contentHash = contentHash;
+        this.thumbnailUrl = thumbnailUrl;
+        this.mediumUrl = mediumUrl;
+        this.uploadPending = uploadPending;
     }
 
     /**
@@ -58,4 +78,18 @@ public class Image extends BaseCreatedTimeEntity {
     public void setExpiresAt(LocalDateTime expiresAt) {
         this.expiresAt = expiresAt;
     }
+
+    /**
+     * 직접 업로드 확인 반영 (ImageRepository.confirmUpload 성공 후 응답용 상태 동기화)
+     *
+     * @param imageUrl 확인 시 복사한 사본 URL
+     * @param fileSize 저장소에 실제 업로드된 크기
+     * @param expiresAt 만료 시간 (확인 시점 + 1시간)
+     */
+    public void confirmUpload(String imageUrl, int fileSize, LocalDateTime expiresAt) {
+        this.uploadPending = false;
+        this.imageUrl = imageUrl;
+        this.fileSize = fileSize;
+        this.expiresAt = expiresAt;
+    }
 }
@@ -53,6 +53,7 @@ public enum ErrorCode {
     RESOURCE_NOT_FOUND("COMMON-002", "Resource not found", HttpStatus.NOT_FOUND),
     RESOURCE_CONFLICT("COMMON-003", "Resource conflict", HttpStatus.CONFLICT),
     TOO_MANY_REQUESTS("COMMON-004", "Too many requests", HttpStatus.TOO_MANY_REQUESTS),
+    SERVICE_UNAVAILABLE("COMMON-005", "Service temporarily unavailable", HttpStatus.SERVICE_UNAVAILABLE),
     INTERNAL_SERVER_ERROR("COMMON-999", "Internal server error", HttpStatus.INTERNAL_SERVER_ERROR);
     
     private final String code;
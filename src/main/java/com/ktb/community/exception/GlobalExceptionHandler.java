@@ -4,6 +4,7 @@ import com.ktb.community.dto.ApiResponse;
 import com.ktb.community.enums.ErrorCode;
 import com.ktb.community.dto.ErrorDetails;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -46,6 +47,7 @@ public class GlobalExceptionHandler {
     /**
      * BusinessException 통합 처리
      * ErrorCode에서 HTTP 상태 자동 매핑
+     * ServiceUnavailableException이면 Retry-After 헤더 추가 (503 부하 차단)
      * 
      * @param ex BusinessException
      * @return ErrorCode에 정의된 HTTP 상태 코드와 에러 응답
@@ -58,7 +60,11 @@ public class GlobalExceptionHandler {
         ErrorDetails errorDetails = ErrorDetails.of(ex.getMessage());
         ApiResponse<ErrorDetails> response = ApiResponse.error(errorCode.getCode(), errorDetails);
         
-        return ResponseEntity.status(errorCode.getHttpStatus()).body(response);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(errorCode.getHttpStatus());
+        if (ex instanceof ServiceUnavailableException unavailable) {
+            builder.header(HttpHeaders.RETRY_AFTER, String.valueOf(unavailable.getRetryAfterSeconds()));
+        }
+        return builder.body(response);
     }
 
     /**
@@ -0,0 +1,26 @@
+package com.ktb.community.exception;
+
+import com.ktb.community.enums.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 일시적 과부하 예외 (503 + Retry-After)
+ * 처리 한도를 넘은 요청을 대기시키지 않고 즉시 거절할 때 사용
+ *
+ * 사용 예시:
+ * throw new ServiceUnavailableException("Upload capacity exhausted", 2);
+ */
+@Getter
+public class ServiceUnavailableException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * @param customMessage 에러 메시지
+     * @param retryAfterSeconds 재시도 권장 대기 시간 (초, Retry-After 헤더)
+     */
+    public ServiceUnavailableException(String customMessage, long retryAfterSeconds) {
+        super(ErrorCode.SERVICE_UNAVAILABLE, customMessage);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,13 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.entity.BatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * BatchCheckpoint 엔티티 Repository
+ * - PK: job_name (배치 작업별 1행)
+ */
+@Repository
+public interface BatchCheckpointRepository extends JpaRepository<BatchCheckpoint, String> {
+}
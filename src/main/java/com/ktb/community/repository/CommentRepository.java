@@ -2,13 +2,13 @@ package com.ktb.community.repository;
 
 import com.ktb.community.entity.Comment;
 import com.ktb.community.enums.CommentStatus;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,12 +20,13 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     /**
      * 댓글 목록 조회 (Fetch Join)
+     * - COUNT 쿼리 없음 (total_count는 post_stats.comment_count)
      */
     @Query("SELECT c FROM Comment c " +
            "JOIN FETCH c.user " +
            "WHERE c.post.postId = :postId AND c.commentStatus = :status " +
            "ORDER BY c.createdAt ASC")
-    Page<Comment> findByPostIdAndStatusWithUser(
+    List<Comment> findByPostIdAndStatusWithUser(
             @Param("postId") Long postId,
             @Param("status") CommentStatus status,
             Pageable pageable
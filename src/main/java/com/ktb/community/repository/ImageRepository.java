@@ -1,10 +1,16 @@
 package com.ktb.community.repository;
 
 import com.ktb.community.entity.Image;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,9 +21,109 @@ import java.util.List;
 public interface ImageRepository extends JpaRepository<Image, Long> {
 
     /**
-     * 만료된 이미지 조회 (고아 이미지 배치용)
+     * 만료 이미지 청크 조회 - Keyset 기반 (첫 청크, 고아 이미지 배치용)
      * - expires_at < 지정 시간
-     * - idx_images_expires 인덱스 활용
+     * - (expires_at, image_id) 오름차순, idx_images_expires 범위 스캔 (InnoDB 보조 인덱스에 PK 포함)
+     * - 청크 크기는 Pageable로 전달 (OFFSET 없음)
      */
-    List<Image> findByExpiresAtBefore(LocalDateTime dateTime);
+    @Query("SELECT i FROM Image i " +
+           "WHERE i.expiresAt < :now " +
+           "ORDER BY i.expiresAt ASC, i.imageId ASC")
+    List<Image> findExpiredWithoutCursor(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 만료 이미지 청크 조회 - Keyset 기반 (후속 청크)
+     * - 직전 청크 마지막 (expires_at, image_id) 이후
+     * - 삭제 실패로 남은 행도 커서가 지나가므로 재조회 없음 (다음 배치에서 재시도)
+     */
+    @Query("SELECT i FROM Image i " +
+           "WHERE i.expiresAt < :now " +
+           "AND (i.expiresAt > :lastExpiresAt " +
+           "     OR (i.expiresAt = :lastExpiresAt AND i.imageId > :lastImageId)) " +
+           "ORDER BY i.expiresAt ASC, i.imageId ASC")
+    List<Image> findExpiredAfterCursor(
+            @Param("now") LocalDateTime now,
+            @Param("lastExpiresAt") LocalDateTime lastExpiresAt,
+            @Param("lastImageId") Long lastImageId,
+            Pageable pageable
+    );
+
+    /**
+     * 재사용 가능한 동일 내용 이미지 조회 (중복 업로드 제거)
+     * - content_hash 일치 + 만료되지 않은 이미지 (연결됨 또는 TTL 남음)
+     * - 만료 이미지는 제외: 배치가 이미 S3 객체 삭제 대상으로 잡았을 수 있음
+     * - idx_images_content_hash 사용, 최신 1건은 Pageable로 제한
+     */
+    @Query("SELECT i FROM Image i " +
+           "WHERE i.contentHash = :contentHash " +
+           "AND (i.expiresAt IS NULL OR i.expiresAt > :now) " +
+           "ORDER BY i.imageId DESC")
+    List<Image> findLiveByContentHash(
+            @Param("contentHash") String contentHash,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    /**
+     * 공유 S3 객체 참조 확인 (고아 이미지 배치용)
+     * - 지정 해시의 만료되지 않은 이미지 URL = 배치 후에도 남는 참조
+     * - 반환 URL의 S3 객체는 삭제하지 않고 행만 삭제 (참조 수 = 같은 image_url을 가진 행 수)
+     */
+    @Query("SELECT DISTINCT i.imageUrl FROM Image i " +
+           "WHERE i.contentHash IN :contentHashes " +
+           "AND (i.expiresAt IS NULL OR i.expiresAt >= :now)")
+    List<String> findLiveImageUrlsByContentHashes(
+            @Param("contentHashes") Collection<String> contentHashes,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 만료 이미지 일괄 삭제 (청크당 DELETE 1회)
+     * - 조회 이후 게시글/프로필에 연결된 이미지(expires_at = NULL)는 제외
+     * - 배치 스케줄러에서 호출 (자체 트랜잭션)
+     *
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = false)
+    @Query("DELETE FROM Image i WHERE i.imageId IN :imageIds AND i.expiresAt < :now")
+    int deleteExpiredByIds(@Param("imageIds") Collection<Long> imageIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 리사이즈 변형 URL 반영 (UPDATE 1회, 엔티티 미로드)
+     * - ImageVariantService가 변형 업로드 후 호출 (자체 트랜잭션)
+     * - 같은 저장소 객체를 공유하는 중복 업로드 행(같은 content_hash + image_url)도 함께 반영
+     *   → 변형 생성 전에 저장된 중복 행의 NULL 변형 URL 보정
+     * - PK + idx_images_content_hash 조회 (contentHash가 NULL이면 imageId 행만)
+     *
+     * @return 갱신된 행 수 (변형 생성 중 객체를 참조하는 행이 모두 삭제되면 0)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = false)
+    @Query("UPDATE Image i SET i.thumbnailUrl = :thumbnailUrl, i.mediumUrl = :mediumUrl " +
+           "WHERE i.imageId = :imageId " +
+           "OR (i.contentHash = :contentHash AND i.imageUrl = :imageUrl)")
+    int updateVariants(@Param("imageId") Long imageId,
+                       @Param("contentHash") String contentHash,
+                       @Param("imageUrl") String imageUrl,
+                       @Param("thumbnailUrl") String thumbnailUrl,
+                       @Param("mediumUrl") String mediumUrl);
+
+    /**
+     * 직접 업로드 확인 (대기 → 확인, UPDATE 1회)
+     * - upload_pending = TRUE 조건 → 동시 확인 요청 중 1건만 반영
+     * - image_url 교체: 대기 키 → 확인 시 복사한 사본 (서명 URL로 덮어쓸 수 없는 키)
+     * - expires_at 갱신: 확인 시점부터 1시간 (게시글 연결 전 고아 TTL)
+     *
+     * @return 갱신된 행 수 (이미 확인됐거나 삭제되면 0)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = false)
+    @Query("UPDATE Image i SET i.uploadPending = false, i.imageUrl = :imageUrl, " +
+           "i.fileSize = :fileSize, i.expiresAt = :expiresAt " +
+           "WHERE i.imageId = :imageId AND i.uploadPending = true")
+    int confirmUpload(@Param("imageId") Long imageId,
+                      @Param("imageUrl") String imageUrl,
+                      @Param("fileSize") Integer fileSize,
+                      @Param("expiresAt") LocalDateTime expiresAt);
 }
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -28,6 +29,19 @@ public interface PostImageRepository extends JpaRepository<PostImage, PostImageI
            "ORDER BY pi.displayOrder ASC")
     List<PostImage> findByPostIdWithImage(@Param("postId") Long postId);
 
+    /**
+     * 여러 게시글의 이미지 목록 일괄 조회 (목록 페이지용, N+1 방지)
+     * 페이지 단위로 IN 쿼리 1회 실행
+     *
+     * @param postIds 게시글 ID 목록
+     * @return 이미지 목록 (post_id, display_order 오름차순)
+     */
+    @Query("SELECT pi FROM PostImage pi " +
+           "JOIN FETCH pi.image " +
+           "WHERE pi.post.postId IN :postIds " +
+           "ORDER BY pi.post.postId ASC, pi.displayOrder ASC")
+    List<PostImage> findByPostIdsWithImage(@Param("postIds") Collection<Long> postIds);
+
     /**
      * 게시글의 모든 이미지 연결 삭제 (Bulk Delete)
      * 게시글 수정 시 기존 이미지 제거용
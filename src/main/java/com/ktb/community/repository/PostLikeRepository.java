@@ -2,13 +2,15 @@ package com.ktb.community.repository;
 
 import com.ktb.community.entity.PostLike;
 import com.ktb.community.enums.PostStatus;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -35,21 +37,79 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
      */
     Optional<PostLike> findByUserUserIdAndPostPostId(Long userId, Long postId);
 
+    /**
+     * 좋아요 추가 (단일 문장)
+     * - ACTIVE 사용자 + ACTIVE 게시글일 때만 INSERT (존재 확인 겸용)
+     * - 중복은 uq_user_post로 무시 (사전 확인 없음 → 동시 요청 경쟁 없음)
+     *
+     * @return 추가된 행 수 (0: 이미 좋아요 또는 사용자/게시글 없음)
+     */
+    @Modifying(clearAutomatically = false)
+    @Query(value = "INSERT IGNORE INTO post_likes (user_id, post_id, created_at) " +
+                   "SELECT u.user_id, p.post_id, CURRENT_TIMESTAMP FROM users u, posts p " +
+                   "WHERE u.user_id = :userId AND u.user_status = 'ACTIVE' " +
+                   "AND p.post_id = :postId AND p.post_status = 'ACTIVE'",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * 좋아요 취소 (단일 문장, 조건부 DELETE)
+     * - 게시글이 지정 상태일 때만 삭제
+     *
+     * @return 삭제된 행 수 (0: 좋아요 없음 또는 게시글 없음)
+     */
+    @Modifying(clearAutomatically = false)
+    @Query("DELETE FROM PostLike pl " +
+           "WHERE pl.user.userId = :userId AND pl.post.postId = :postId " +
+           "AND EXISTS (SELECT 1 FROM Post p WHERE p.postId = :postId AND p.postStatus = :status)")
+    int deleteIfPresent(
+            @Param("userId") Long userId,
+            @Param("postId") Long postId,
+            @Param("status") PostStatus status
+    );
+
     /**
      * 좋아요한 게시글 목록 조회 (Fetch Join)
+     * - 작성자 프로필 이미지까지 Fetch Join (페이지 크기와 무관하게 쿼리 수 고정)
+     * - 게시글 이미지는 PostImageResolver로 별도 일괄 조회
+     * - COUNT 쿼리 없음 (total_count는 CountCacheService)
      */
     @Query("SELECT pl FROM PostLike pl " +
            "JOIN FETCH pl.post p " +
-           "JOIN FETCH p.user " +
+           "JOIN FETCH p.user u " +
+           "LEFT JOIN FETCH u.profileImage " +
            "LEFT JOIN FETCH p.stats " +
            "WHERE pl.user.userId = :userId AND p.postStatus = :status " +
            "ORDER BY pl.createdAt DESC")
-    Page<PostLike> findByUserIdWithPost(
+    List<PostLike> findByUserIdWithPost(
             @Param("userId") Long userId,
             @Param("status") PostStatus status,
             Pageable pageable
     );
 
+    /**
+     * 게시글 목록 중 사용자가 좋아요한 게시글 ID (페이지 단위 IN 쿼리)
+     * - uq_user_post (user_id, post_id) 인덱스만으로 처리
+     */
+    @Query("SELECT pl.post.postId FROM PostLike pl " +
+           "WHERE pl.user.userId = :userId AND pl.post.postId IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 사용자가 좋아요한 게시글 ID (postId 내림차순, LikedPostIdCache 적재용)
+     */
+    @Query("SELECT pl.post.postId FROM PostLike pl " +
+           "WHERE pl.user.userId = :userId " +
+           "ORDER BY pl.post.postId DESC")
+    List<Long> findLikedPostIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자가 좋아요한 게시글 수 (CountCacheService 적재/exact 조회용)
+     */
+    @Query("SELECT COUNT(pl) FROM PostLike pl JOIN pl.post p " +
+           "WHERE pl.user.userId = :userId AND p.postStatus = :status")
+    long countByUserIdAndPostStatus(@Param("userId") Long userId, @Param("status") PostStatus status);
+
     /**
      * 좋아요 수 카운트 (통계 검증용)
      */
@@ -1,14 +1,15 @@
 package com.ktb.community.repository;
 
+import com.ktb.community.dto.response.PostSummaryResponse;
 import com.ktb.community.entity.Post;
 import com.ktb.community.enums.PostStatus;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,42 +20,104 @@ import java.util.Optional;
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     /**
-     * 게시글 목록 조회 (Fetch Join)
+     * 목록 조회 공통 SELECT 절 (PostSummaryResponse 생성자 표현식)
+     * - post_content(LONGTEXT)는 앞 EXCERPT_LENGTH자만 조회
+     * - 첫 번째 이미지: display_order 최소값 (uq_post_images_order로 1건 보장), 원본/썸네일 URL
      */
-    @Query("SELECT p FROM Post p " +
-           "JOIN FETCH p.user " +
-           "LEFT JOIN FETCH p.stats " +
+    String SUMMARY_SELECT = "SELECT new com.ktb.community.dto.response.PostSummaryResponse(" +
+            "p.postId, p.postTitle, SUBSTRING(p.postContent, 1, " + PostSummaryResponse.EXCERPT_LENGTH + "), " +
+            "p.createdAt, p.updatedAt, " +
+            "u.userId, u.nickname, upi.imageUrl, upi.thumbnailUrl, " +
+            "s.likeCount, s.commentCount, s.viewCount, " +
+            "(SELECT fi.imageUrl FROM PostImage fpi JOIN fpi.image fi " +
+            " WHERE fpi.post = p AND fpi.displayOrder = " +
+            "  (SELECT MIN(mpi.displayOrder) FROM PostImage mpi WHERE mpi.post = p)), " +
+            "(SELECT ti.thumbnailUrl FROM PostImage tpi JOIN tpi.image ti " +
+            " WHERE tpi.post = p AND tpi.displayOrder = " +
+            "  (SELECT MIN(npi.displayOrder) FROM PostImage npi WHERE npi.post = p))) ";
+
+    /**
+     * 게시글 목록 조회 - Offset 기반 (하위 호환)
+     * - 정렬은 Pageable로 전달 (stats.likeCount, createdAt)
+     * - COUNT 쿼리 없음 (total_count는 CountCacheService)
+     */
+    @Query(SUMMARY_SELECT +
+           "FROM Post p " +
+           "JOIN p.user u " +
+           "LEFT JOIN u.profileImage upi " +
+           "LEFT JOIN p.stats s " +
            "WHERE p.postStatus = :status")
-    Page<Post> findByStatusWithUserAndStats(@Param("status") PostStatus status, Pageable pageable);
+    List<PostSummaryResponse> findSummariesByStatus(@Param("status") PostStatus status, Pageable pageable);
 
     /**
      * 게시글 목록 조회 - Cursor 기반 (첫 페이지)
      * - latest 정렬 전용
      * - cursor=null일 때 사용
      */
-    @Query("SELECT p FROM Post p " +
-           "JOIN FETCH p.user " +
-           "LEFT JOIN FETCH p.stats " +
+    @Query(SUMMARY_SELECT +
+           "FROM Post p " +
+           "JOIN p.user u " +
+           "LEFT JOIN u.profileImage upi " +
+           "LEFT JOIN p.stats s " +
            "WHERE p.postStatus = :status " +
            "ORDER BY p.postId DESC")
-    java.util.List<Post> findByStatusWithoutCursor(@Param("status") PostStatus status, Pageable pageable);
+    List<PostSummaryResponse> findSummariesByStatusWithoutCursor(@Param("status") PostStatus status, Pageable pageable);
 
     /**
      * 게시글 목록 조회 - Cursor 기반 (후속 페이지)
      * - latest 정렬 전용
      * - cursor 이후 데이터 조회
      */
-    @Query("SELECT p FROM Post p " +
-           "JOIN FETCH p.user " +
-           "LEFT JOIN FETCH p.stats " +
+    @Query(SUMMARY_SELECT +
+           "FROM Post p " +
+           "JOIN p.user u " +
+           "LEFT JOIN u.profileImage upi " +
+           "LEFT JOIN p.stats s " +
            "WHERE p.postStatus = :status AND p.postId < :cursor " +
            "ORDER BY p.postId DESC")
-    java.util.List<Post> findByStatusWithCursor(
+    List<PostSummaryResponse> findSummariesByStatusWithCursor(
             @Param("status") PostStatus status,
             @Param("cursor") Long cursor,
             Pageable pageable
     );
 
+    /**
+     * 게시글 목록 조회 - Keyset 기반 (첫 페이지)
+     * - likes 정렬 전용 (likeCount DESC, postId DESC)
+     * - cursor=null일 때 사용
+     */
+    @Query(SUMMARY_SELECT +
+           "FROM Post p " +
+           "JOIN p.user u " +
+           "LEFT JOIN u.profileImage upi " +
+           "JOIN p.stats s " +
+           "WHERE p.postStatus = :status " +
+           "ORDER BY s.likeCount DESC, p.postId DESC")
+    List<PostSummaryResponse> findSummariesByStatusOrderByLikesWithoutCursor(
+            @Param("status") PostStatus status,
+            Pageable pageable
+    );
+
+    /**
+     * 게시글 목록 조회 - Keyset 기반 (후속 페이지)
+     * - likes 정렬 전용
+     * - (likeCount, postId) 복합 커서 이후 데이터 조회 (OFFSET 스캔/COUNT 없음)
+     */
+    @Query(SUMMARY_SELECT +
+           "FROM Post p " +
+           "JOIN p.user u " +
+           "LEFT JOIN u.profileImage upi " +
+           "JOIN p.stats s " +
+           "WHERE p.postStatus = :status " +
+           "AND (s.likeCount < :likeCount OR (s.likeCount = :likeCount AND p.postId < :postId)) " +
+           "ORDER BY s.likeCount DESC, p.postId DESC")
+    List<PostSummaryResponse> findSummariesByStatusOrderByLikesWithCursor(
+            @Param("status") PostStatus status,
+            @Param("likeCount") Integer likeCount,
+            @Param("postId") Long postId,
+            Pageable pageable
+    );
+
     /**
      * 게시글 상세 조회 (Fetch Join)
      */
@@ -64,6 +127,11 @@ public interface PostRepository extends JpaRepository<Post, Long> {
            "WHERE p.postId = :postId AND p.postStatus = :status")
     Optional<Post> findByIdWithUserAndStats(@Param("postId") Long postId, @Param("status") PostStatus status);
 
+    /**
+     * 상태별 게시글 수 (CountCacheService 적재/exact 조회용)
+     */
+    long countByPostStatus(PostStatus status);
+
     /**
      * 상태별 존재 확인
      */
@@ -1,11 +1,16 @@
 package com.ktb.community.repository;
 
 import com.ktb.community.entity.PostStats;
+import com.ktb.community.enums.PostStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Optional;
 
 /**
  * PostStats Repository
@@ -22,6 +27,17 @@ public interface PostStatsRepository extends JpaRepository<PostStats, Long> {
            "ps.lastUpdated = CURRENT_TIMESTAMP WHERE ps.postId = :postId")
     int incrementViewCount(@Param("postId") Long postId);
 
+    /**
+     * 조회수 일괄 증가 (Write-behind flush용)
+     * - 같은 증가분(delta)을 가진 게시글들을 하나의 multi-row UPDATE로 반영
+     * - PostViewCountBuffer 스케줄러에서 호출 (자체 트랜잭션)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = false)
+    @Query("UPDATE PostStats ps SET ps.viewCount = ps.viewCount + :delta, " +
+           "ps.lastUpdated = CURRENT_TIMESTAMP WHERE ps.postId IN :postIds")
+    int addViewCounts(@Param("postIds") Collection<Long> postIds, @Param("delta") int delta);
+
     /**
      * 좋아요 수 원자적 증가
      */
@@ -55,4 +71,14 @@ public interface PostStatsRepository extends JpaRepository<PostStats, Long> {
            "ps.lastUpdated = CURRENT_TIMESTAMP " +
            "WHERE ps.postId = :postId AND ps.commentCount > 0")
     int decrementCommentCount(@Param("postId") Long postId);
+
+    /**
+     * ACTIVE 게시글의 댓글 수 조회 (댓글 목록 total_count용)
+     * - 게시글 존재 확인 + COUNT(*) 대체 (PK 조회 1회)
+     *
+     * @return 댓글 수 (ACTIVE 게시글이 아니면 empty)
+     */
+    @Query("SELECT ps.commentCount FROM PostStats ps " +
+           "WHERE ps.postId = :postId AND ps.post.postStatus = :status")
+    Optional<Integer> findCommentCountByPostId(@Param("postId") Long postId, @Param("status") PostStatus status);
 }
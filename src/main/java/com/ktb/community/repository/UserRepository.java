@@ -2,6 +2,7 @@ package com.ktb.community.repository;
 
 import com.ktb.community.entity.User;
 import com.ktb.community.enums.UserStatus;
+import com.ktb.community.security.UserAuthState;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -61,4 +62,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.profileImage WHERE u.email = :email")
     Optional<User> findByEmailWithProfileImage(@Param("email") String email);
+
+    /**
+     * 사용자 상태 + 권한만 조회 (UserStatusCache 적재용, 엔티티 미로드)
+     */
+    @Query("SELECT new com.ktb.community.security.UserAuthState(u.userStatus, u.role) "
+            + "FROM User u WHERE u.userId = :userId")
+    Optional<UserAuthState> findAuthStateById(@Param("userId") Long userId);
 }
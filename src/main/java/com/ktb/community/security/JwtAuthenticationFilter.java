@@ -1,13 +1,14 @@
 package com.ktb.community.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -16,10 +17,12 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * JWT 인증 필터
  * 모든 요청에 대해 JWT 토큰을 검증하고 SecurityContext에 인증 정보 설정
+ * - 토큰 파싱 1회, Claims(subject/role)로 인증 구성 (요청별 DB 조회 없음)
  * LLD.md Section 6.2 참조
  */
 @Slf4j
@@ -28,25 +31,23 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final UserStatusCache userStatusCache;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         try {
-            String jwt = getJwtFromRequest(request);
+            String jwt = jwtTokenProvider.resolveToken(request);
             
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
-                
-                UserDetails userDetails = userDetailsService.loadUserById(userId);
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("Set authentication for user: {}", userId);
+            if (StringUtils.hasText(jwt)) {
+                // 서명 검증 + 파싱 1회 (Claims만으로 인증 구성, users SELECT 없음)
+                jwtTokenProvider.parseClaims(jwt)
+                        .map(claims -> createAuthentication(claims, request))
+                        .ifPresent(authentication -> {
+                            SecurityContextHolder.getContext().setAuthentication(authentication);
+                            log.debug("Set authentication for user: {}", authentication.getName());
+                        });
             }
         } catch (Exception ex) {
             log.error("Could not set user authentication in security context", ex);
@@ -56,25 +57,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
     
     /**
-     * Cookie 또는 Authorization 헤더에서 JWT 토큰 추출
-     * 우선순위: 1) Cookie, 2) Authorization header (하위 호환성)
+     * Claims로 Authentication 생성
+     * - subject = userId, role claim = 권한 (Access Token만 role 보유 → Refresh Token은 인증 불가)
+     * - 탈퇴 완료(DELETED)/존재하지 않는 사용자, role claim이 현재 권한과 다른 토큰은 UserStatusCache로 거부
+     *   (권한 변경은 상태 캐시 만료 jwt.status-cache.expire-after-ms 이내 반영, 새 권한은 토큰 재발급 후 사용)
+     *
+     * @return 인증 불가 시 null
      */
-    private String getJwtFromRequest(HttpServletRequest request) {
-        // 1. Cookie에서 토큰 추출 (우선순위)
-        if (request.getCookies() != null) {
-            for (Cookie cookie : request.getCookies()) {
-                if ("access_token".equals(cookie.getName())) {
-                    return cookie.getValue();
-                }
-            }
+    private UsernamePasswordAuthenticationToken createAuthentication(Claims claims, HttpServletRequest request) {
+        String role = claims.get("role", String.class);
+        if (!StringUtils.hasText(role)) {
+            return null;
         }
-
-        // 2. Authorization header에서 추출 (하위 호환성)
-        String bearerToken = request.getHeader("Authorization");
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
+        
+        Long userId = Long.parseLong(claims.getSubject());
+        if (!userStatusCache.isAuthenticatable(userId, role)) {
+            log.debug("Rejected token for unavailable user: {}", userId);
+            return null;
         }
-
-        return null;
+        
+        // username을 userId로 설정 (JWT subject와 일치)
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+        UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
+                .username(claims.getSubject())
+                .password("")
+                .authorities(authorities)
+                .build();
+        
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        return authentication;
     }
 }
@@ -1,20 +1,39 @@
 package com.ktb.community.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 토큰 생성 및 검증을 담당하는 Provider
  * LLD.md Section 6.1-6.2 참조
+ *
+ * 검증 토큰 캐시 (parseClaims 전용):
+ * - Key: 토큰 SHA-256 해시 (원문 토큰 미보관), Value: 검증된 Claims
+ * - 항목별 만료 = 토큰 exp (만료 토큰은 캐시에서 반환되지 않음)
+ * - 같은 세션의 반복 요청은 HMAC 검증/JSON 파싱 생략
+ * - 검증 실패 토큰은 캐시하지 않음
  */
 @Slf4j
 @Component
@@ -24,13 +43,29 @@ public class JwtTokenProvider {
     private final long accessTokenValidity;
     private final long refreshTokenValidity;
 
+    /**
+     * Key: 토큰 SHA-256 (hex), Value: 검증된 Claims
+     */
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JwtTokenProvider(String secret, long accessTokenValidity, long refreshTokenValidity) {
+        this(secret, accessTokenValidity, refreshTokenValidity, 10_000L);
+    }
+
+    @Autowired
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-validity}") long accessTokenValidity,
-            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity) {
+            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity,
+            @Value("${jwt.token-cache.max-size:10000}") long tokenCacheMaxSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenValidity = accessTokenValidity;
         this.refreshTokenValidity = refreshTokenValidity;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(tokenCacheMaxSize)
+                .expireAfter(new UntilTokenExpiration())
+                .recordStats()
+                .build();
     }
 
     /**
@@ -71,6 +106,72 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * JWT 토큰 검증 + Claims 추출 (서명 검증/파싱 1회)
+     * - 인증 필터 전용: validateToken + getUserIdFromToken 이중 파싱 대체
+     * - 검증 토큰 캐시 적중 시 서명 검증/파싱 생략
+     *
+     * @param token JWT 토큰
+     * @return 유효하면 Claims, 그렇지 않으면 empty
+     */
+    public Optional<Claims> parseClaims(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        String tokenHash = sha256(token);
+        Claims cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = Jwts.parser()
+                    .verifyWith(secretKey)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(tokenHash, claims);
+            }
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Cookie 또는 Authorization 헤더에서 JWT 토큰 추출
+     * 우선순위: 1) Cookie, 2) Authorization header (하위 호환성)
+     * - JwtAuthenticationFilter, RateLimitFilter 공용
+     */
+    public String resolveToken(HttpServletRequest request) {
+        // 1. Cookie에서 토큰 추출 (우선순위)
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if ("access_token".equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+
+        // 2. Authorization header에서 추출 (하위 호환성)
+        String bearerToken = request.getHeader("Authorization");
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+
+        return null;
+    }
+
+    /**
+     * 검증 토큰 캐시 통계 (hit/miss)
+     */
+    public CacheStats getTokenCacheStats() {
+        return verifiedTokens.stats();
+    }
+
     /**
      * JWT 토큰에서 사용자 ID 추출
      */
@@ -131,4 +232,38 @@ public class JwtTokenProvider {
             return true;
         }
     }
+
+    /**
+     * 토큰 SHA-256 해시 (캐시 키)
+     */
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 캐시 항목 만료 = 토큰 exp
+     */
+    private static class UntilTokenExpiration implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,16 @@
+package com.ktb.community.security;
+
+import com.ktb.community.enums.UserRole;
+import com.ktb.community.enums.UserStatus;
+
+/**
+ * 인증 필터용 사용자 상태 + 권한 (UserStatusCache 값)
+ * - UserRepository.findAuthStateById 생성자 표현식으로 직접 조회 (엔티티 미로드)
+ *
+ * @param status 사용자 상태
+ * @param role 현재 권한 (없는 사용자는 null)
+ */
+public record UserAuthState(UserStatus status, UserRole role) {
+
+    static final UserAuthState MISSING = new UserAuthState(UserStatus.DELETED, null);
+}
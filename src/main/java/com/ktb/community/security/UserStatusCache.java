@@ -0,0 +1,65 @@
+package com.ktb.community.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.community.enums.UserStatus;
+import com.ktb.community.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자 상태 캐시 (JWT 인증 필터 전용)
+ * - 인증 필터가 요청마다 users SELECT 하지 않도록 userId → 상태 + 권한(UserAuthState) 보관
+ * - 미적재 시 상태/권한 컬럼만 1회 조회 (없는 사용자는 DELETED로 캐시)
+ * - expire-after-ms: DELETED 전환/권한 변경(DB 직접 변경 포함)이 인증에 반영되기까지의 최대 지연
+ *   → 권한이 바뀐 사용자의 기존 Access Token은 최대 expire-after-ms 후 거부 (재로그인/재발급으로 새 권한 토큰)
+ *
+ * 인증 허용: ACTIVE, INACTIVE (탈퇴 후 자기 글 삭제 = GDPR, UserService.findUserIdByEmail과 동일 정책)
+ *           + 토큰 role claim이 현재 권한과 일치
+ * 인증 거부: DELETED, 존재하지 않는 사용자, role claim 불일치
+ */
+@Slf4j
+@Component
+public class UserStatusCache {
+
+    private final UserRepository userRepository;
+
+    /**
+     * Key: userId, Value: 사용자 상태 + 권한
+     */
+    private final Cache<Long, UserAuthState> states;
+
+    public UserStatusCache(
+            UserRepository userRepository,
+            @Value("${jwt.status-cache.expire-after-ms:60000}") long expireAfterMs,
+            @Value("${jwt.status-cache.max-size:100000}") long maxSize
+    ) {
+        this.userRepository = userRepository;
+        this.states = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(expireAfterMs))
+                .build();
+    }
+
+    /**
+     * 토큰의 사용자가 인증 가능한 상태이고 토큰 권한이 현재 권한과 같은지 확인
+     *
+     * @param userId JWT subject
+     * @param role JWT role claim
+     * @return ACTIVE/INACTIVE + 권한 일치면 true
+     */
+    public boolean isAuthenticatable(Long userId, String role) {
+        UserAuthState state = states.get(userId, id -> {
+            UserAuthState loaded = userRepository.findAuthStateById(id).orElse(UserAuthState.MISSING);
+            log.debug("[UserStatusCache] 사용자 상태 적재: userId={}, status={}, role={}",
+                    id, loaded.status(), loaded.role());
+            return loaded;
+        });
+        return state.status() != UserStatus.DELETED
+                && state.role() != null
+                && state.role().name().equals(role);
+    }
+}
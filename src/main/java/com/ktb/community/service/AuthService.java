@@ -39,18 +39,19 @@ public class AuthService {
     private final UserTokenRepository userTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final ImageService imageService;
     private final ImageRepository imageRepository;
     
     /**
      * 회원가입 (FR-AUTH-001)
      * - 이메일/닉네임 중복 확인
      * - 비밀번호 정책 검증
-     * - 프로필 이미지 업로드 (Multipart)
+     * - 프로필 이미지 연결 (업로드는 호출자가 트랜잭션 밖에서 먼저 수행 → 저장소 전송 동안 DB 커넥션 미점유)
      * - 자동 로그인 (토큰 발급)
+     *
+     * @param profileImageId 업로드된 프로필 이미지 ID (없으면 null)
      */
     @Transactional
-    public AuthResult signup(SignupRequest request) {
+    public AuthResult signup(SignupRequest request, Long profileImageId) {
         // 이메일 중복 확인
         if (userRepository.existsByEmail(request.getEmail().toLowerCase().trim())) {
             throw new BusinessException(ErrorCode.EMAIL_ALREADY_EXISTS,
@@ -66,14 +67,13 @@ public class AuthService {
         // 비밀번호 암호화
         String encodedPassword = passwordEncoder.encode(request.getPassword());
 
-        // 프로필 이미지 업로드 (있을 경우)
+        // 프로필 이미지 연결 (있을 경우)
         com.ktb.community.entity.Image image = null;
-        if (request.getProfileImage() != null && !request.getProfileImage().isEmpty()) {
-            com.ktb.community.dto.response.ImageResponse imageResponse = imageService.uploadImage(request.getProfileImage());
-            image = imageRepository.findById(imageResponse.getImageId())
+        if (profileImageId != null) {
+            image = imageRepository.findById(profileImageId)
                     .orElseThrow(() -> new BusinessException(ErrorCode.IMAGE_NOT_FOUND));
             image.clearExpiresAt();  // 영구 보존
-            log.debug("[Auth] 회원가입 프로필 이미지 업로드: imageId={}", image.getImageId());
+            log.debug("[Auth] 회원가입 프로필 이미지 연결: imageId={}", image.getImageId());
         }
 
         // 사용자 생성
@@ -17,7 +17,6 @@ import com.ktb.community.repository.PostStatsRepository;
 import com.ktb.community.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -41,6 +40,7 @@ public class CommentService {
     private final PostRepository postRepository;
     private final PostStatsRepository postStatsRepository;
     private final UserRepository userRepository;
+    private final CountCacheService countCacheService;
 
     /**
      * 댓글 작성 (FR-COMMENT-001)
@@ -78,25 +78,35 @@ public class CommentService {
      * - ACTIVE 상태만 조회
      * - Fetch Join (N+1 방지)
      * - 정렬: 작성일시 오름차순
+     * - total_count: post_stats.comment_count (COUNT 쿼리 없음)
      */
     @Transactional(readOnly = true)
     public Map<String, Object> getComments(Long postId, int offset, int limit) {
-        // 게시글 존재 확인
-        if (!postRepository.existsByPostIdAndPostStatus(postId, PostStatus.ACTIVE)) {
-            throw new BusinessException(ErrorCode.POST_NOT_FOUND,
-                    "Post not found with id: " + postId);
-        }
+        return getComments(postId, offset, limit, false);
+    }
+
+    /**
+     * 댓글 목록 조회 (total_count 정확도 지정)
+     *
+     * @param exact true면 COUNT 쿼리로 정확한 total_count 조회 (ADMIN 전용)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getComments(Long postId, int offset, int limit, boolean exact) {
+        // 게시글 존재 확인 + 댓글 수 조회
+        long totalCount = countCacheService.getCommentCount(postId, exact)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND,
+                        "Post not found with id: " + postId));
 
         // 페이지 정보 생성
         int page = offset / limit;
         Pageable pageable = PageRequest.of(page, limit);
 
         // 댓글 조회 (Fetch Join으로 N+1 방지)
-        Page<Comment> commentPage = commentRepository.findByPostIdAndStatusWithUser(
+        List<Comment> commentList = commentRepository.findByPostIdAndStatusWithUser(
                 postId, CommentStatus.ACTIVE, pageable);
 
         // DTO 변환
-        List<CommentResponse> comments = commentPage.getContent().stream()
+        List<CommentResponse> comments = commentList.stream()
                 .map(CommentResponse::from)
                 .collect(Collectors.toList());
 
@@ -105,7 +115,7 @@ public class CommentService {
         response.put("comments", comments);
 
         Map<String, Object> pagination = new HashMap<>();
-        pagination.put("total_count", commentPage.getTotalElements());
+        pagination.put("total_count", totalCount);
         response.put("pagination", pagination);
 
         return response;
@@ -0,0 +1,189 @@
+package com.ktb.community.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.community.enums.CommentStatus;
+import com.ktb.community.enums.PostStatus;
+import com.ktb.community.repository.CommentRepository;
+import com.ktb.community.repository.PostLikeRepository;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.PostStatsRepository;
+import com.ktb.community.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Offset 목록 total_count 캐시
+ * - 요청마다 COUNT(*) 대신 캐시된 카운트 반환
+ * - 작성/삭제/좋아요/취소 시 커밋 후 증감 (incremental)
+ * - resync-after-ms 경과 시 COUNT 재조회 (증감 누락/게시글 삭제 등에 의한 오차 보정)
+ *
+ * Scope:
+ * - ACTIVE 게시글 수: 캐시
+ * - 사용자별 좋아요한 ACTIVE 게시글 수: 캐시
+ * - 게시글별 댓글 수: post_stats.comment_count (댓글 작성/삭제 시 이미 갱신됨)
+ *
+ * exact=true (ADMIN 전용): COUNT 쿼리로 정확한 값 조회 후 캐시 갱신
+ */
+@Slf4j
+@Service
+public class CountCacheService {
+
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostStatsRepository postStatsRepository;
+    private final CommentRepository commentRepository;
+
+    /**
+     * Key: 카운트 범위, Value: 현재 카운트
+     */
+    private final Cache<CountKey, AtomicLong> counts;
+
+    public CountCacheService(
+            PostRepository postRepository,
+            PostLikeRepository postLikeRepository,
+            PostStatsRepository postStatsRepository,
+            CommentRepository commentRepository,
+            @Value("${count-cache.resync-after-ms:600000}") long resyncAfterMs,
+            @Value("${count-cache.max-size:100000}") long maxSize
+    ) {
+        this.postRepository = postRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.postStatsRepository = postStatsRepository;
+        this.commentRepository = commentRepository;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(resyncAfterMs))
+                .build();
+    }
+
+    /**
+     * ACTIVE 게시글 수
+     *
+     * @param exact true + ADMIN이면 COUNT 쿼리로 정확한 값 조회
+     */
+    public long getActivePostCount(boolean exact) {
+        CountKey key = CountKey.activePosts();
+        if (isExactAllowed(exact)) {
+            return refresh(key, postRepository.countByPostStatus(PostStatus.ACTIVE));
+        }
+        return get(key, () -> postRepository.countByPostStatus(PostStatus.ACTIVE));
+    }
+
+    /**
+     * 사용자가 좋아요한 ACTIVE 게시글 수
+     *
+     * @param exact true + ADMIN이면 COUNT 쿼리로 정확한 값 조회
+     */
+    public long getLikedPostCount(Long userId, boolean exact) {
+        CountKey key = CountKey.likedPosts(userId);
+        if (isExactAllowed(exact)) {
+            return refresh(key, postLikeRepository.countByUserIdAndPostStatus(userId, PostStatus.ACTIVE));
+        }
+        return get(key, () -> postLikeRepository.countByUserIdAndPostStatus(userId, PostStatus.ACTIVE));
+    }
+
+    /**
+     * 게시글의 ACTIVE 댓글 수
+     * - 기본: post_stats.comment_count (PK 조회, COUNT 없음)
+     * - 게시글 존재 확인 겸용 (ACTIVE 게시글이 아니면 empty)
+     *
+     * @param exact true + ADMIN이면 COUNT 쿼리로 정확한 값 조회
+     */
+    public OptionalLong getCommentCount(Long postId, boolean exact) {
+        return postStatsRepository.findCommentCountByPostId(postId, PostStatus.ACTIVE)
+                .map(commentCount -> OptionalLong.of(isExactAllowed(exact)
+                        ? commentRepository.countByPostPostIdAndCommentStatus(postId, CommentStatus.ACTIVE)
+                        : Math.max(0, commentCount)))
+                .orElse(OptionalLong.empty());
+    }
+
+    /**
+     * ACTIVE 게시글 수 증감 (커밋 후 반영)
+     */
+    public void adjustActivePostCountAfterCommit(long delta) {
+        adjustAfterCommit(CountKey.activePosts(), delta);
+    }
+
+    /**
+     * 사용자의 좋아요한 게시글 수 증감 (커밋 후 반영)
+     */
+    public void adjustLikedPostCountAfterCommit(Long userId, long delta) {
+        adjustAfterCommit(CountKey.likedPosts(userId), delta);
+    }
+
+    /**
+     * 캐시 조회 (없으면 COUNT 1회 후 적재)
+     */
+    private long get(CountKey key, LongSupplier loader) {
+        AtomicLong count = counts.get(key, k -> {
+            long loaded = loader.getAsLong();
+            log.debug("[CountCache] 카운트 적재: key={}, count={}", k, loaded);
+            return new AtomicLong(loaded);
+        });
+        return Math.max(0, count.get());
+    }
+
+    /**
+     * 정확한 값으로 캐시 갱신
+     */
+    private long refresh(CountKey key, long exactCount) {
+        counts.put(key, new AtomicLong(exactCount));
+        return exactCount;
+    }
+
+    /**
+     * 캐시된 카운트만 증감 (미적재 시 다음 조회에서 COUNT로 적재되므로 무시)
+     */
+    private void adjustAfterCommit(CountKey key, long delta) {
+        TransactionUtils.afterCommit(() -> {
+            AtomicLong count = counts.getIfPresent(key);
+            if (count != null) {
+                count.addAndGet(delta);
+            }
+        });
+    }
+
+    /**
+     * exact 플래그 허용 여부 (ADMIN만)
+     * - 일반 사용자의 exact 요청은 무시 (COUNT 쿼리 남용 방지)
+     */
+    private boolean isExactAllowed(boolean exact) {
+        if (!exact) {
+            return false;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+
+    /**
+     * 카운트 범위 키
+     *
+     * @param scope 범위 (ACTIVE_POSTS, LIKED_POSTS)
+     * @param id 범위 대상 ID (ACTIVE_POSTS는 0)
+     */
+    private record CountKey(Scope scope, long id) {
+
+        static CountKey activePosts() {
+            return new CountKey(Scope.ACTIVE_POSTS, 0L);
+        }
+
+        static CountKey likedPosts(Long userId) {
+            return new CountKey(Scope.LIKED_POSTS, userId);
+        }
+    }
+
+    private enum Scope {
+        ACTIVE_POSTS,
+        LIKED_POSTS
+    }
+}
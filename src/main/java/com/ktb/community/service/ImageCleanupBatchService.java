@@ -1,140 +1,478 @@
 package com.ktb.community.service;
 
+import com.ktb.community.config.ObjectStorage;
+import com.ktb.community.entity.BatchCheckpoint;
 import com.ktb.community.entity.Image;
-import com.ktb.community.enums.ErrorCode;
-import com.ktb.community.exception.BusinessException;
+import com.ktb.community.repository.BatchCheckpointRepository;
 import com.ktb.community.repository.ImageRepository;
-import lombok.RequiredArgsConstructor;
+import com.ktb.community.util.S3KeyGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 이미지 정리 배치 서비스
  * - 고아 이미지 자동 삭제 (expires_at < NOW())
  * - 매일 새벽 3시 실행
+ *
+ * 청크 파이프라인 (청크당 왕복: SELECT 1회 + 저장소 일괄 삭제 1회 + DELETE 1회)
+ * 1. (expires_at, image_id) Keyset 페이징으로 청크 조회 (전체 적재 없음)
+ * 2. ObjectStorage.deleteAll로 객체 일괄 삭제 (S3: DeleteObjects 1,000개 키 단위)
+ * 3. 객체 삭제 성공 이미지만 DB 일괄 삭제 (실패 키는 행 유지 → 다음 배치에서 재시도)
+ * - 중복 업로드로 공유된 객체는 남은 참조가 없을 때만 삭제 (청크당 SELECT 1회 추가, 해시 있는 청크만)
+ *
+ * 병렬 실행
+ * - 조회는 스케줄러 스레드에서 순차, 청크 정리(2~3)는 가상 스레드에서 최대 parallelism개 동시 실행
+ * - 완료된 연속 구간의 마지막 커서를 batch_checkpoints에 저장 → 실행 중 재시작 시 이어서 처리
+ *
+ * 메트릭
+ * - image.cleanup.run (Timer): 배치 1회 소요 시간
+ * - image.cleanup.chunk (Timer): 청크 정리 소요 시간 (객체 삭제 + DB 삭제)
+ * - image.cleanup.images (Counter, result=deleted|failed): 처리 이미지 수 → 처리량 = rate(deleted)
  */
 @Slf4j
 @Service
 public class ImageCleanupBatchService {
 
+    /**
+     * 체크포인트 작업 이름 (batch_checkpoints.job_name)
+     */
+    static final String JOB_NAME = "orphan-image-cleanup";
+
     private final ImageRepository imageRepository;
-    private final S3Client s3Client;
-    private final ImageCleanupBatchService self;  // Self-injection for proxy access
+    private final BatchCheckpointRepository checkpointRepository;
+    private final ObjectStorage objectStorage;
 
-    @Value("${aws.s3.bucket}")
-    private String bucketName;
+    private final Timer runTimer;
+    private final Timer chunkTimer;
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
 
-    /**
-     * Self-injection 생성자
-     * @param self @Lazy로 주입하여 순환 의존성 방지
-     */
-    public ImageCleanupBatchService(
-            ImageRepository imageRepository,
-            S3Client s3Client,
-            @Lazy ImageCleanupBatchService self
-    ) {
+    @Value("${image.cleanup.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${image.cleanup.parallelism:4}")
+    private int parallelism;
+
+    public ImageCleanupBatchService(ImageRepository imageRepository,
+                                    BatchCheckpointRepository checkpointRepository,
+                                    ObjectStorage objectStorage,
+                                    MeterRegistry meterRegistry) {
         this.imageRepository = imageRepository;
-        this.s3Client = s3Client;
-        this.self = self;
+        this.checkpointRepository = checkpointRepository;
+        this.objectStorage = objectStorage;
+        this.runTimer = Timer.builder("image.cleanup.run")
+                .description("고아 이미지 정리 배치 1회 소요 시간")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("image.cleanup.chunk")
+                .description("고아 이미지 청크 정리 소요 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.deletedCounter = imagesCounter(meterRegistry, "deleted");
+        this.failedCounter = imagesCounter(meterRegistry, "failed");
     }
 
     /**
      * 고아 이미지 정리 배치 작업 (FR-IMAGE-002)
      * - 스케줄: 매일 새벽 3시 (CRON: 0 0 3 * * ?)
-     * - TTL 만료 이미지 삭제 (S3 + DB Hard Delete)
-     * - Self-injection으로 REQUIRES_NEW 트랜잭션 보장
-     * 
+     * - TTL 만료 이미지 삭제 (저장소 객체 + DB Hard Delete)
+     * - 청크 단위 처리: 한 청크 실패가 다른 청크에 영향 없음
+     *
      * 상세: LLD.md Section 7.5 참조
      */
     @Scheduled(cron = "0 0 3 * * ?")
     public void cleanupOrphanImages() {
-        log.info("[Batch] 고아 이미지 정리 배치 시작");
-        long startTime = System.currentTimeMillis();
+        CleanupReport report = runCleanup();
 
-        LocalDateTime now = LocalDateTime.now();
-        List<Image> expiredImages = imageRepository.findByExpiresAtBefore(now);
-
-        if (expiredImages.isEmpty()) {
+        if (report.scanned() == 0) {
             log.info("[Batch] 삭제할 고아 이미지 없음");
             return;
         }
+        log.info("[Batch] 고아 이미지 정리 완료: 성공={}, 실패={}, 전체={}, 청크={}, 소요시간={}ms, 처리량={} images/sec",
+                report.deleted(), report.failed(), report.scanned(), report.chunks(),
+                report.elapsedMillis(), String.format("%.1f", report.imagesPerSecond()));
+    }
+
+    /**
+     * 배치 1회 실행
+     * - 미완료 체크포인트가 있으면 해당 커서 이후부터 처리
+     * - 동시 실행 청크 수는 Semaphore로 제한 (조회 스레드가 허가를 얻어야 다음 청크 조회 → 메모리 상한)
+     * - 정상 종료 시 체크포인트 삭제, 중단/예외 시 유지
+     *
+     * @return 실행 결과
+     */
+    CleanupReport runCleanup() {
+        LocalDateTime now = LocalDateTime.now();
+        Pageable chunk = PageRequest.of(0, Math.max(1, chunkSize));
+        int concurrency = Math.max(1, parallelism);
+
+        BatchCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME).orElse(null);
+        if (checkpoint == null) {
+            log.info("[Batch] 고아 이미지 정리 배치 시작: 청크 크기={}, 동시 실행={}", chunk.getPageSize(), concurrency);
+        } else {
+            log.info("[Batch] 고아 이미지 정리 배치 재개: 커서=({}, {}), 청크 크기={}, 동시 실행={}",
+                    checkpoint.getCursorExpiresAt(), checkpoint.getCursorImageId(), chunk.getPageSize(), concurrency);
+        }
+
+        CleanupProgress progress = new CleanupProgress(System.nanoTime());
+        CheckpointTracker tracker = new CheckpointTracker(checkpoint);
+        Semaphore permits = new Semaphore(concurrency);
+        boolean completed = false;
+
+        try (ExecutorService executor =
+                     Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("image-cleanup-", 0).factory())) {
+            List<Image> images = checkpoint == null
+                    ? imageRepository.findExpiredWithoutCursor(now, chunk)
+                    : imageRepository.findExpiredAfterCursor(
+                            now, checkpoint.getCursorExpiresAt(), checkpoint.getCursorImageId(), chunk);
 
-        int successCount = 0;
-        int failCount = 0;
+            int chunkNo = 0;
+            while (!images.isEmpty()) {
+                permits.acquire();
 
-        for (Image image : expiredImages) {
-            try {
-                // 프록시를 통해 호출하여 REQUIRES_NEW 트랜잭션 적용
-                self.deleteImageInNewTransaction(image);
-                successCount++;
-                log.debug("[Batch] 이미지 삭제 성공: imageId={}", image.getImageId());
+                List<Image> chunkImages = images;
+                Image last = images.get(images.size() - 1);
+                int currentChunkNo = chunkNo++;
+                tracker.register(currentChunkNo, last);
+                executor.execute(() -> {
+                    try {
+                        processChunk(currentChunkNo, chunkImages, now, progress, tracker);
+                    } finally {
+                        permits.release();
+                    }
+                });
 
-            } catch (Exception e) {
-                failCount++;
-                log.error("[Batch] 이미지 삭제 실패: imageId={}, error={}",
-                         image.getImageId(), e.getMessage(), e);
+                if (images.size() < chunk.getPageSize()) {
+                    break;
+                }
+                images = imageRepository.findExpiredAfterCursor(now, last.getExpiresAt(), last.getImageId(), chunk);
             }
+            completed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[Batch] 고아 이미지 정리 중단: 체크포인트 유지 (다음 실행에서 재개)");
+        }
+
+        // executor.close()가 실행 중 청크 완료를 대기 → 이후 progress/tracker는 확정값
+        if (completed && tracker.hasCheckpoint()) {
+            clearCheckpoint();
+        }
+        CleanupReport report = progress.toReport(checkpoint != null);
+        runTimer.record(report.elapsedMillis(), TimeUnit.MILLISECONDS);
+        return report;
+    }
+
+    /**
+     * 청크 정리 + 진행 상황 기록 + 체크포인트 전진 (가상 스레드)
+     */
+    private void processChunk(int chunkNo, List<Image> images, LocalDateTime now,
+                              CleanupProgress progress, CheckpointTracker tracker) {
+        ChunkResult result;
+        long start = System.nanoTime();
+        try {
+            result = cleanupChunk(images, now);
+        } catch (Exception e) {
+            log.error("[Batch] 청크 #{} 정리 실패: images={}건, error={}", chunkNo, images.size(), e.getMessage(), e);
+            result = new ChunkResult(0, images.size());
         }
+        chunkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        deletedCounter.increment(result.deleted());
+        failedCounter.increment(result.failed());
+        progress.add(images.size(), result);
+        log.info("[Batch] 청크 #{} 완료: 삭제={}, 실패={}, 누적={}건, 처리량={} images/sec",
+                chunkNo, result.deleted(), result.failed(), progress.scanned(),
+                String.format("%.1f", progress.imagesPerSecond()));
 
-        long elapsedTime = System.currentTimeMillis() - startTime;
-        log.info("[Batch] 고아 이미지 정리 완료: 성공={}, 실패={}, 전체={}, 소요시간={}ms",
-                successCount, failCount, expiredImages.size(), elapsedTime);
+        // 저장 순서 = 커서 순서 (늦게 끝난 앞 청크가 뒤 청크 커서를 덮어쓰지 않도록 잠금 안에서 저장)
+        synchronized (tracker) {
+            BatchCheckpoint advanced = tracker.complete(chunkNo);
+            if (advanced != null) {
+                saveCheckpoint(advanced);
+            }
+        }
     }
 
     /**
-     * 독립적인 트랜잭션으로 이미지 삭제
-     * - REQUIRES_NEW: 호출자의 트랜잭션과 무관하게 새 트랜잭션 생성
-     * - 이미지 삭제 실패 시 해당 트랜잭션만 롤백
-     * - 다른 이미지 삭제에 영향을 주지 않음
-     * 
-     * @param image 삭제할 이미지 엔티티
-     * @throws Exception S3 삭제 또는 DB 삭제 실패 시
+     * 체크포인트 저장 (실패 시 경고만: 재시작 시 이전 커서부터 재처리, 객체/DB 삭제는 멱등)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void deleteImageInNewTransaction(Image image) {
-        // 1. S3 파일 삭제
-        String s3Key = extractS3Key(image.getImageUrl());
-        deleteFromS3(s3Key);
-
-        // 2. DB 레코드 삭제 (Hard Delete)
-        imageRepository.delete(image);
+    private void saveCheckpoint(BatchCheckpoint checkpoint) {
+        try {
+            checkpointRepository.save(checkpoint);
+        } catch (Exception e) {
+            log.warn("[Batch] 체크포인트 저장 실패: cursor=({}, {}), error={}",
+                    checkpoint.getCursorExpiresAt(), checkpoint.getCursorImageId(), e.getMessage());
+        }
     }
 
     /**
-     * S3 파일 삭제
+     * 체크포인트 삭제 (정상 종료)
      */
-    private void deleteFromS3(String s3Key) {
+    private void clearCheckpoint() {
         try {
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .build();
+            checkpointRepository.deleteById(JOB_NAME);
+        } catch (Exception e) {
+            log.warn("[Batch] 체크포인트 삭제 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 청크 1개 정리
+     * - 원본과 리사이즈 변형(썸네일/중간 크기) 객체를 함께 삭제
+     *   content_hash가 있는 행(중복 업로드로 공유 가능)은 변형 키를 원본 키에서 파생
+     *   → 변형 생성 전에 저장되어 변형 URL이 NULL인 행이 마지막 참조여도 변형 객체 누락 없음
+     * - 만료되지 않은 다른 행이 공유하는 객체(같은 content_hash, 같은 image_url)는 객체 삭제 없이 행만 삭제
+     * - 객체 삭제 실패 키가 하나라도 있는 이미지는 DB 삭제 대상에서 제외
+     * - DB 삭제 실패 시 청크 전체 실패 처리 (객체만 삭제된 행은 다음 배치에서 재삭제, 객체 삭제는 멱등)
+     *
+     * @param images 만료 이미지 청크
+     * @param now 배치 기준 시각
+     * @return 삭제/실패 수
+     */
+    ChunkResult cleanupChunk(List<Image> images, LocalDateTime now) {
+        Set<String> sharedUrls = findSharedImageUrls(images, now);
+
+        // 이미지 ID → 객체 키 목록 (원본 + 변형), 같은 키를 가리키는 행은 키 1회만 삭제
+        Map<Long, List<String>> keysByImageId = new LinkedHashMap<>();
+        Set<String> objectKeys = new LinkedHashSet<>();
+        int failed = 0;
+        for (Image image : images) {
+            if (sharedUrls.contains(image.getImageUrl())) {
+                // 다른 행이 참조 중인 공유 객체: 행만 삭제
+                keysByImageId.put(image.getImageId(), List.of());
+                continue;
+            }
+
+            String key = objectStorage.keyOf(image.getImageUrl());
+            if (key == null) {
+                failed++;
+                log.error("[Batch] 객체 키 추출 실패: imageId={}, imageUrl={}", image.getImageId(), image.getImageUrl());
+                continue;
+            }
 
-            s3Client.deleteObject(deleteObjectRequest);
+            List<String> keys = new ArrayList<>(3);
+            keys.add(key);
+            if (image.getContentHash() != null) {
+                addDerivedVariantKeys(keys, key);
+            }
+            addVariantKey(keys, image.getThumbnailUrl());
+            addVariantKey(keys, image.getMediumUrl());
+            keysByImageId.put(image.getImageId(), keys);
+            objectKeys.addAll(keys);
+        }
+
+        Set<String> failedKeys = objectStorage.deleteAll(objectKeys);
+
+        List<Long> deletableIds = new ArrayList<>();
+        for (Map.Entry<Long, List<String>> entry : keysByImageId.entrySet()) {
+            if (entry.getValue().stream().anyMatch(failedKeys::contains)) {
+                failed++;
+            } else {
+                deletableIds.add(entry.getKey());
+            }
+        }
+
+        if (deletableIds.isEmpty()) {
+            return new ChunkResult(0, failed);
+        }
 
+        try {
+            int deleted = imageRepository.deleteExpiredByIds(deletableIds, now);
+            if (deleted < deletableIds.size()) {
+                // 조회 이후 게시글/프로필에 연결된 이미지 (expires_at = NULL)
+                log.warn("[Batch] 삭제 시점에 만료 상태가 아닌 이미지: {}건", deletableIds.size() - deleted);
+            }
+            return new ChunkResult(deleted, failed);
         } catch (Exception e) {
-            log.error("[Batch] S3 파일 삭제 실패: s3Key={}, error={}", s3Key, e.getMessage(), e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+            log.error("[Batch] DB 일괄 삭제 실패: imageIds={}건, error={}", deletableIds.size(), e.getMessage(), e);
+            return new ChunkResult(0, failed + deletableIds.size());
         }
     }
 
     /**
-     * S3 URL에서 키 추출
-     * 예시: https://bucket-name.s3.region.amazonaws.com/images/2025/10/11/test.jpg
-     *       → images/2025/10/11/test.jpg
+     * 남은 참조가 있는 공유 객체 URL 조회 (중복 업로드 제거, 청크당 SELECT 1회)
+     * - 참조 수 = 같은 image_url을 가진 행 수, 만료 행은 이번 배치에서 함께 삭제되므로 제외
+     * - 병렬 청크가 같은 객체의 만료 행을 나눠 가져도 서로를 참조로 세지 않음 (객체 삭제는 멱등)
      */
-    private String extractS3Key(String imageUrl) {
-        int keyStartIndex = imageUrl.indexOf(".com/") + 5;
-        return imageUrl.substring(keyStartIndex);
+    private Set<String> findSharedImageUrls(List<Image> images, LocalDateTime now) {
+        Set<String> contentHashes = new HashSet<>();
+        for (Image image : images) {
+            if (image.getContentHash() != null) {
+                contentHashes.add(image.getContentHash());
+            }
+        }
+        if (contentHashes.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> sharedUrls = new HashSet<>(imageRepository.findLiveImageUrlsByContentHashes(contentHashes, now));
+        if (!sharedUrls.isEmpty()) {
+            log.debug("[Batch] 공유 객체 삭제 생략: objects={}건", sharedUrls.size());
+        }
+        return sharedUrls;
+    }
+
+    /**
+     * 변형 키 추가 (미생성 또는 원본 URL 재사용이면 생략)
+     */
+    private void addVariantKey(List<String> keys, String variantUrl) {
+        if (variantUrl == null) {
+            return;
+        }
+        String variantKey = objectStorage.keyOf(variantUrl);
+        if (variantKey != null && !keys.contains(variantKey)) {
+            keys.add(variantKey);
+        }
+    }
+
+    /**
+     * 원본 키에서 파생한 변형 키 추가 (없는 객체는 저장소가 삭제 성공 처리)
+     */
+    private static void addDerivedVariantKeys(List<String> keys, String key) {
+        keys.add(S3KeyGenerator.generateVariantKey(key, ImageVariantService.THUMBNAIL));
+        keys.add(S3KeyGenerator.generateVariantKey(key, ImageVariantService.MEDIUM));
+    }
+
+    private static Counter imagesCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("image.cleanup.images")
+                .description("고아 이미지 정리 처리 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 청크 처리 결과
+     *
+     * @param deleted DB 삭제 수
+     * @param failed 실패 수 (객체/DB 삭제 실패, 키 추출 실패)
+     */
+    record ChunkResult(int deleted, int failed) {
+    }
+
+    /**
+     * 배치 실행 결과
+     *
+     * @param chunks 처리 청크 수
+     * @param scanned 조회 이미지 수
+     * @param deleted DB 삭제 수
+     * @param failed 실패 수
+     * @param elapsedMillis 소요 시간
+     * @param imagesPerSecond 처리량 (조회 이미지 기준)
+     * @param resumed 체크포인트에서 재개 여부
+     */
+    record CleanupReport(int chunks, int scanned, int deleted, int failed,
+                         long elapsedMillis, double imagesPerSecond, boolean resumed) {
+    }
+
+    /**
+     * 진행 상황 집계 (청크 스레드 간 공유)
+     */
+    static final class CleanupProgress {
+
+        private final long startNanos;
+        private final AtomicInteger chunks = new AtomicInteger();
+        private final AtomicInteger scanned = new AtomicInteger();
+        private final AtomicInteger deleted = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+
+        CleanupProgress(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        void add(int chunkImages, ChunkResult result) {
+            chunks.incrementAndGet();
+            scanned.addAndGet(chunkImages);
+            deleted.addAndGet(result.deleted());
+            failed.addAndGet(result.failed());
+        }
+
+        int scanned() {
+            return scanned.get();
+        }
+
+        double imagesPerSecond() {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            return elapsedNanos <= 0 ? 0 : scanned.get() * 1_000_000_000d / elapsedNanos;
+        }
+
+        CleanupReport toReport(boolean resumed) {
+            long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+            return new CleanupReport(chunks.get(), scanned.get(), deleted.get(), failed.get(),
+                    elapsedMillis, imagesPerSecond(), resumed);
+        }
+    }
+
+    /**
+     * 체크포인트 커서 추적
+     * - 청크는 순서와 무관하게 완료되므로 "앞 청크가 모두 완료된" 구간까지만 커서 전진
+     * - 재시작 시 미완료 청크는 재처리 (누락 없음)
+     */
+    static final class CheckpointTracker {
+
+        private final Map<Integer, Image> lastImageByChunk = new HashMap<>();
+        private final Set<Integer> completedChunks = new HashSet<>();
+        private BatchCheckpoint checkpoint;
+        private int nextChunkNo;
+
+        CheckpointTracker(BatchCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+        }
+
+        synchronized void register(int chunkNo, Image lastImage) {
+            lastImageByChunk.put(chunkNo, lastImage);
+        }
+
+        /**
+         * 청크 완료 처리
+         *
+         * @return 전진한 체크포인트 (전진 없으면 null)
+         */
+        synchronized BatchCheckpoint complete(int chunkNo) {
+            completedChunks.add(chunkNo);
+
+            Image cursor = null;
+            while (completedChunks.remove(nextChunkNo)) {
+                cursor = lastImageByChunk.remove(nextChunkNo);
+                nextChunkNo++;
+            }
+            if (cursor == null) {
+                return null;
+            }
+
+            if (checkpoint == null) {
+                checkpoint = BatchCheckpoint.builder()
+                        .jobName(JOB_NAME)
+                        .cursorExpiresAt(cursor.getExpiresAt())
+                        .cursorImageId(cursor.getImageId())
+                        .build();
+            } else {
+                checkpoint.advance(cursor.getExpiresAt(), cursor.getImageId());
+            }
+            return checkpoint;
+        }
+
+        synchronized boolean hasCheckpoint() {
+            return checkpoint != null;
+        }
     }
 }
@@ -1,103 +1,450 @@
 package com.ktb.community.service;
 
+import com.ktb.community.config.ObjectStorage;
+import com.ktb.community.dto.request.PresignedUploadRequest;
 import com.ktb.community.dto.response.ImageResponse;
+import com.ktb.community.dto.response.PresignedUploadResponse;
 import com.ktb.community.entity.Image;
 import com.ktb.community.enums.ErrorCode;
 import com.ktb.community.exception.BusinessException;
 import com.ktb.community.repository.ImageRepository;
 import com.ktb.community.util.FileValidator;
 import com.ktb.community.util.S3KeyGenerator;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.NoSuchFileException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * 이미지 업로드 서비스
- * LLD.md Section 7.5 참조 (S3 직접 연동 방식)
+ * LLD.md Section 7.5 참조 (ObjectStorage: S3 또는 로컬 디스크)
+ *
+ * 트랜잭션 분리
+ * - 저장소 전송은 트랜잭션 밖에서 수행 (전송 중 DB 커넥션 미점유)
+ * - Image 저장은 전송 완료 후 짧은 트랜잭션 1회 (Repository.save, 호출자 트랜잭션이 있으면 참여)
+ *
+ * 중복 제거 (Content-hash)
+ * - 원본 SHA-256을 content_hash에 저장, 같은 해시의 만료되지 않은 이미지가 있으면 저장소 객체 재사용
+ * - 공유 객체는 참조하는 행이 모두 만료된 뒤에만 삭제 (ImageCleanupBatchService)
+ *
+ * 격벽 (Bulkhead, ImageUploadBulkhead)
+ * - 동시 전송 수 + 전송 바이트 예산(전송 중 파일 크기 합)으로 제한, 짧은 대기 후 503 + Retry-After
+ * - 허가는 검증/해시 후 전송 직전에 획득 (힙 상한 아님, 업로드당 힙은 스트리밍 버퍼만 사용)
+ *
+ * 직접 업로드 (Presigned PUT)
+ * - 발급: 대기 Image 행(upload_pending, expires_at = 1시간 후) + 서명 URL → 파일 바이트는 앱 서버를 거치지 않음
+ * - 확인: 저장소 Range GET으로 앞 8바이트만 읽어 Magic Number/크기 검증 후 대기 해제
+ * - 확인되지 않은 업로드는 일반 고아 이미지와 같이 TTL 배치가 객체/행 삭제
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ImageService {
 
-    private final S3Client s3Client;
+    private final ObjectStorage objectStorage;
     private final ImageRepository imageRepository;
+    private final ImageVariantService imageVariantService;
 
-    @Value("${aws.s3.bucket}")
-    private String bucketName;
+    // 저장소 전송 전용 가상 스레드 (비동기 업로드, spring.threads.virtual.enabled와 무관하게 항상 가상 스레드)
+    private final ExecutorService uploadExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("image-upload-", 0).factory());
+    private final ImageUploadBulkhead uploadBulkhead;
 
-    @Value("${aws.s3.region}")
-    private String region;
+    // 직접 업로드 (multipart 업로드와 같은 크기 제한)
+    private final long maxFileSize;
+    private final Duration presignedExpiresIn;
+
+    // 업로드 지연 히스토그램 (단계별: 저장소 전송 / DB 저장)
+    private final Timer storageTransferTimer;
+    private final Timer dbSaveTimer;
+
+    public ImageService(ObjectStorage objectStorage,
+                        ImageRepository imageRepository,
+                        ImageVariantService imageVariantService,
+                        ImageUploadBulkhead uploadBulkhead,
+                        MeterRegistry meterRegistry,
+                        @Value("${spring.servlet.multipart.max-file-size:5MB}") DataSize maxFileSize,
+                        @Value("${image.presigned.expires-in-ms:600000}") long presignedExpiresInMs) {
+        this.objectStorage = objectStorage;
+        this.imageRepository = imageRepository;
+        this.imageVariantService = imageVariantService;
+        this.uploadBulkhead = uploadBulkhead;
+        this.maxFileSize = maxFileSize.toBytes();
+        this.presignedExpiresIn = Duration.ofMillis(presignedExpiresInMs);
+        this.storageTransferTimer = uploadTimer(meterRegistry, "storage");
+        this.dbSaveTimer = uploadTimer(meterRegistry, "db");
+    }
 
     /**
-     * 이미지 업로드
-     * - 파일 검증 (MIME type, Magic Number)
-     * - S3 업로드
-     * - DB 저장 (expires_at = 1시간 후)
+     * 이미지 업로드 (동기)
+     * - 파일 검증 (MIME type, Magic Number: 헤더만 peek) + SHA-256 계산 (스트리밍, 파일 전체를 힙에 적재하지 않음)
+     * - 같은 해시의 이미지가 있으면 저장소 전송 없이 기존 객체 공유 (새 Image 행만 저장)
+     * - 없으면 저장소 스트리밍 업로드 후 DB 저장 (expires_at = 1시간 후)
+     * - 썸네일/중간 크기 변형은 커밋 후 비동기 생성 (ImageVariantService)
+     *
+     * 회원가입/프로필 수정처럼 업로드 결과(imageId)를 바로 이어서 연결하는 경로용
+     * (UserController가 서비스 트랜잭션 전에 호출, 호출 스레드에서 실행)
      */
-    @Transactional
     public ImageResponse uploadImage(MultipartFile file) {
-        log.debug("[Image] 이미지 업로드 시작: filename={}, size={}, contentType={}", 
+        log.debug("[Image] 이미지 업로드 시작: filename={}, size={}, contentType={}",
+            file.getOriginalFilename(), file.getSize(), file.getContentType());
+
+        // 1. 파일 검증 + 형식 판별 + 해시 (실패 시 격벽 허가 획득 전 400)
+        ValidatedFile validated = validate(file);
+
+        // 2. 중복 업로드 → 기존 객체 재사용
+        Image existing = findReusableImage(validated.contentHash());
+        if (existing != null) {
+            return saveDuplicate(file, validated, existing);
+        }
+
+        // 3. 저장소 업로드 (트랜잭션 밖, 키 확장자는 판별된 형식 기준)
+        String key = S3KeyGenerator.generateKey(validated.contentType());
+        try (ImageUploadBulkhead.Permit permit = uploadBulkhead.acquire(file.getSize())) {
+            transfer(file, key, validated);
+        }
+
+        // 4. DB 저장 (짧은 트랜잭션)
+        return saveImage(file, key, validated);
+    }
+
+    /**
+     * 이미지 업로드 (비동기, POST /images)
+     * - 검증/해시/중복 확인/격벽 허가 획득은 요청 스레드에서 (빠른 실패, 중복이면 저장소 전송 없이 즉시 완료)
+     * - 저장소 전송 + DB 저장은 가상 스레드에서 수행 → 요청 스레드는 전송 동안 반환됨 (Servlet 비동기 처리)
+     *
+     * @return 저장된 이미지 (실패 시 BusinessException으로 완료)
+     */
+    public CompletableFuture<ImageResponse> uploadImageAsync(MultipartFile file) {
+        log.debug("[Image] 비동기 이미지 업로드 시작: filename={}, size={}, contentType={}",
             file.getOriginalFilename(), file.getSize(), file.getContentType());
-        
-        // 1. 파일 검증
-        FileValidator.validateImageFile(file);
 
-        // 2. S3 업로드
-        String s3Key = S3KeyGenerator.generateKey(file.getOriginalFilename());
-        String imageUrl = uploadToS3(file, s3Key);
+        ValidatedFile validated = validate(file);
+        Image existing = findReusableImage(validated.contentHash());
+        if (existing != null) {
+            return CompletableFuture.completedFuture(saveDuplicate(file, validated, existing));
+        }
+
+        String key = S3KeyGenerator.generateKey(validated.contentType());
+        ImageUploadBulkhead.Permit permit = uploadBulkhead.acquire(file.getSize());
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try (permit) {
+                    transfer(file, key, validated);
+                }
+                return saveImage(file, key, validated);
+            }, uploadExecutor);
+        } catch (RuntimeException e) {
+            // 실행기 종료 (애플리케이션 종료 중)
+            permit.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 직접 업로드 URL 발급 (POST /images/presigned)
+     * - 선언된 형식/크기 검증 후 대기 Image 저장 (upload_pending, expires_at = 1시간 후)
+     * - 서명 URL은 Content-Type/Content-Length를 고정 → 선언과 다른 업로드는 저장소가 거부
+     * - 확인(confirmUpload) 전까지 게시글 연결 불가, 확인되지 않으면 TTL 배치가 정리
+     *
+     * @param request 파일명, MIME type, 크기
+     * @return 대기 이미지 ID + 업로드 URL/헤더
+     */
+    public PresignedUploadResponse createPresignedUpload(PresignedUploadRequest request) {
+        FileValidator.validateContentType(request.getContentType());
+        if (request.getFileSize() > maxFileSize) {
+            throw new BusinessException(ErrorCode.FILE_TOO_LARGE);
+        }
+
+        // 대기 키 확장자는 서명 URL에 고정되는 선언 형식 기준 (확인 시 최종 키는 판별 형식 기준)
+        String key = S3KeyGenerator.generateUploadKey(request.getContentType());
+        Image image = Image.builder()
+                .imageUrl(objectStorage.url(key))
+                .fileSize(request.getFileSize().intValue())
+                .originalFilename(request.getFilename())
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .uploadPending(true)
+                .build();
+        Image savedImage = dbSaveTimer.record(() -> imageRepository.save(image));
+
+        ObjectStorage.PresignedUpload upload = objectStorage.presignPut(
+                key, request.getContentType(), request.getFileSize(), presignedExpiresIn);
+        log.info("[Image] 직접 업로드 URL 발급: imageId={}, key={}, expiresAt={}",
+                savedImage.getImageId(), key, upload.expiresAt());
+
+        return PresignedUploadResponse.of(savedImage, upload);
+    }
+
+    /**
+     * 직접 업로드 확인 (POST /images/{imageId}/confirm)
+     * - 대기 객체 헤더로 형식을 판별해 최종 키 확장자 결정 (클라이언트 파일명 확장자 미사용)
+     * - 대기 객체(uploads/...)를 서명된 적 없는 새 키(images/...)로 저장소 내부 복사 후 사본만 검증
+     *   → 확인 이후 서명 URL 재사용(PUT)으로 연결된 객체가 바뀌지 않음
+     *   (판별과 복사 사이에 대기 객체가 바뀌어 사본 형식이 키 확장자와 다르면 거부)
+     * - 헤더는 Range GET으로 앞 8바이트 + 전체 크기만 조회 (객체 전체를 받지 않음)
+     * - Magic Number/크기 검증 실패 시 객체와 대기 행을 삭제하고 400/413
+     * - 성공 시 image_url을 사본으로 교체 + 대기 해제 (expires_at = 확인 시점 + 1시간) + 대기 객체 삭제 + 변형 생성 예약
+     * - 이미 확인된 이미지는 그대로 반환 (재시도 안전)
+     *
+     * @param imageId 발급 시 받은 이미지 ID
+     * @return 확인된 이미지
+     */
+    public ImageResponse confirmUpload(Long imageId) {
+        Image image = imageRepository.findById(imageId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.IMAGE_NOT_FOUND));
+        if (!image.isUploadPending()) {
+            return ImageResponse.from(image);
+        }
+        if (image.getExpiresAt() != null && image.getExpiresAt().isBefore(LocalDateTime.now())) {
+            // 고아 이미지 배치가 객체를 이미 삭제했을 수 있음
+            throw new BusinessException(ErrorCode.IMAGE_NOT_FOUND, "Upload expired");
+        }
+
+        String stagingKey = objectStorage.keyOf(image.getImageUrl());
+        if (stagingKey == null) {
+            // 저장소 전환 전 발급된 업로드
+            throw new BusinessException(ErrorCode.IMAGE_NOT_FOUND, "Uploaded file not found");
+        }
+
+        // 서명 URL은 만료 전까지 재사용 가능 → 서명된 적 없는 키로 복사한 사본만 검증/연결
+        String stagedType;
+        String key = null;
+        ObjectStorage.ObjectPrefix prefix = null;
+        try {
+            stagedType = FileValidator.detectImageType(
+                    objectStorage.readPrefix(stagingKey, FileValidator.MAGIC_HEADER_SIZE).bytes());
+            if (stagedType != null) {
+                key = S3KeyGenerator.generateKey(stagedType);
+                objectStorage.copy(stagingKey, key);
+                prefix = objectStorage.readPrefix(key, FileValidator.MAGIC_HEADER_SIZE);
+            }
+        } catch (NoSuchFileException e) {
+            throw new BusinessException(ErrorCode.IMAGE_NOT_FOUND, "Uploaded file not found");
+        } catch (IOException e) {
+            log.error("[Image] 직접 업로드 확인 중 저장소 에러: imageId={}, key={}", imageId, stagingKey, e);
+            if (key != null) {
+                deleteObjects(imageId, List.of(key));
+            }
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "Storage read error");
+        }
+
+        String contentType = prefix == null ? null : FileValidator.detectImageType(prefix.bytes());
+        if (contentType == null || !contentType.equals(stagedType) || prefix.totalSize() > maxFileSize) {
+            rejectUpload(image, stagingKey, key);
+            throw new BusinessException(contentType == null || !contentType.equals(stagedType)
+                    ? ErrorCode.INVALID_FILE_TYPE : ErrorCode.FILE_TOO_LARGE);
+        }
+
+        String imageUrl = objectStorage.url(key);
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
+        if (imageRepository.confirmUpload(imageId, imageUrl, (int) prefix.totalSize(), expiresAt) == 0) {
+            // 동시 확인 요청이 먼저 반영됨 (그 요청의 사본이 연결되므로 이 사본은 폐기)
+            deleteObjects(imageId, List.of(key));
+            return ImageResponse.from(imageRepository.findById(imageId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.IMAGE_NOT_FOUND)));
+        }
+        image.confirmUpload(imageUrl, (int) prefix.totalSize(), expiresAt);
+        log.info("[Image] 직접 업로드 확인: imageId={}, stagingKey={}, key={}, size={}",
+                imageId, stagingKey, key, prefix.totalSize());
+
+        // 대기 객체 삭제 (이후 같은 서명 URL로 다시 PUT해도 연결된 객체는 바뀌지 않음)
+        deleteObjects(imageId, List.of(stagingKey));
+        imageVariantService.generateAfterCommit(imageId, key, contentType, image.getContentHash());
+
+        return ImageResponse.from(image);
+    }
+
+    /**
+     * 검증 실패한 직접 업로드 정리 (대기 객체 + 사본 + 대기 행)
+     * - 객체 삭제 실패 시 행은 남겨 TTL 배치가 재시도 (배치는 대기 키 기준)
+     *
+     * @param key 사본 키 (대기 객체 헤더 판별 실패로 복사 전이면 null)
+     */
+    private void rejectUpload(Image image, String stagingKey, String key) {
+        log.warn("[Image] 직접 업로드 검증 실패: imageId={}, key={}", image.getImageId(), stagingKey);
+        if (key != null) {
+            deleteObjects(image.getImageId(), List.of(key));
+        }
+        if (objectStorage.deleteAll(List.of(stagingKey)).isEmpty()) {
+            imageRepository.delete(image);
+        }
+    }
+
+    /**
+     * 객체 삭제 (실패 시 로그만)
+     */
+    private void deleteObjects(Long imageId, List<String> keys) {
+        Set<String> failed = objectStorage.deleteAll(keys);
+        if (!failed.isEmpty()) {
+            log.warn("[Image] 직접 업로드 객체 삭제 실패: imageId={}, keys={}", imageId, failed);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        uploadExecutor.close();  // 진행 중 전송 완료 대기
+    }
+
+    /**
+     * 검증 + 형식 판별 + SHA-256 계산 (hex)
+     * - 검증한 스트림의 헤더로 실제 형식 판별 (키 확장자/저장 Content-Type/변형 형식에 사용, 선언 형식 미사용)
+     * - 검증한 스트림을 DigestInputStream으로 끝까지 읽음 (multipart 임시 파일 순차 읽기, 메모리 8KB 버퍼)
+     * - 해시를 먼저 알아야 업로드(PUT) 여부를 결정할 수 있으므로 전송 전에 계산
+     */
+    private static ValidatedFile validate(MultipartFile file) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        String contentType;
+        try (InputStream validated = FileValidator.openValidatedStream(file);
+             InputStream content = new DigestInputStream(validated, digest)) {
+            validated.mark(FileValidator.MAGIC_HEADER_SIZE);
+            contentType = FileValidator.detectImageType(validated.readNBytes(FileValidator.MAGIC_HEADER_SIZE));
+            validated.reset();
+            content.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "Failed to read file");
+        }
+        return new ValidatedFile(contentType, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * 재사용할 기존 이미지 조회 (만료되지 않은 같은 해시 이미지 중 최신)
+     *
+     * @return 기존 이미지 (없으면 null)
+     */
+    private Image findReusableImage(String contentHash) {
+        List<Image> candidates = imageRepository.findLiveByContentHash(
+                contentHash, LocalDateTime.now(), PageRequest.of(0, 1));
+        return candidates.isEmpty() ? null : candidates.get(0);
+    }
+
+    /**
+     * 저장소 전송 (검증 완료 파일을 다시 열어 스트리밍, 전송 후 닫음)
+     */
+    private void transfer(MultipartFile file, String key, ValidatedFile validated) {
+        InputStream content;
+        try {
+            content = file.getInputStream();
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "Failed to read file");
+        }
+
+        try (content) {
+            storageTransferTimer.record(() ->
+                    uploadToStorage(content, file.getSize(), validated.contentType(), key, validated.contentHash()));
+        } catch (IOException e) {
+            // 업로드 완료 후 스트림 닫기 실패 (업로드 결과에는 영향 없음)
+            log.warn("[Image] 업로드 스트림 닫기 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
 
-        // 3. DB 저장 (expires_at = 1시간 후)
+    /**
+     * Image 저장 (expires_at = 1시간 후) + 변형 생성 예약
+     */
+    private ImageResponse saveImage(MultipartFile file, String key, ValidatedFile validated) {
         Image image = Image.builder()
-                .imageUrl(imageUrl)
+                .imageUrl(objectStorage.url(key))
                 .fileSize((int) file.getSize())
                 .originalFilename(file.getOriginalFilename())
                 .expiresAt(LocalDateTime.now().plusHours(1))
+                .contentHash(validated.contentHash())
                 .build();
 
-        Image savedImage = imageRepository.save(image);
-        log.info("[Image] 이미지 업로드 완료: imageId={}, s3Key={}", savedImage.getImageId(), s3Key);
+        Image savedImage = dbSaveTimer.record(() -> imageRepository.save(image));
+        log.info("[Image] 이미지 업로드 완료: imageId={}, key={}", savedImage.getImageId(), key);
+
+        imageVariantService.generateAfterCommit(
+                savedImage.getImageId(), key, validated.contentType(), validated.contentHash());
 
         return ImageResponse.from(savedImage);
     }
 
     /**
-     * S3 업로드 수행
-     * - PutObjectRequest 생성 및 S3 업로드
-     * - 이미지 URL 반환
+     * 중복 업로드 Image 저장 (저장소 객체/변형 URL 공유, expires_at = 1시간 후)
+     * - 행은 업로드마다 따로 두어 게시글/프로필 연결·TTL 관리는 기존과 동일
+     * - 기존 이미지의 변형이 아직 생성 전이면 NULL (응답은 원본 URL로 대체) + 변형 생성 재예약
+     *   변형 키는 원본 키에서 파생되므로 재생성은 같은 객체를 덮어쓰고, 결과는 공유 행 전체에 반영
+     *   (기존 이미지의 생성이 이 행 저장 전에 반영을 마친 경우에도 NULL로 남지 않음)
      */
-    private String uploadToS3(MultipartFile file, String s3Key) {
-        try {
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .contentType(file.getContentType())
-                    .acl(ObjectCannedACL.PUBLIC_READ)  // 이미지 객체만 public 설정
-                    .build();
+    private ImageResponse saveDuplicate(MultipartFile file, ValidatedFile validated, Image existing) {
+        Image image = Image.builder()
+                .imageUrl(existing.getImageUrl())
+                .fileSize((int) file.getSize())
+                .originalFilename(file.getOriginalFilename())
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .contentHash(validated.contentHash())
+                .thumbnailUrl(existing.getThumbnailUrl())
+                .mediumUrl(existing.getMediumUrl())
+                .build();
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(file.getBytes()));
+        Image savedImage = dbSaveTimer.record(() -> imageRepository.save(image));
+        log.info("[Image] 중복 이미지 업로드 (저장소 객체 재사용): imageId={}, sourceImageId={}",
+                savedImage.getImageId(), existing.getImageId());
 
-            // S3 URL 생성
-            return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, s3Key);
+        String key = objectStorage.keyOf(existing.getImageUrl());
+        if (existing.getThumbnailUrl() == null && key != null) {
+            imageVariantService.generateAfterCommit(
+                    savedImage.getImageId(), key, validated.contentType(), validated.contentHash());
+        }
 
-        } catch (IOException e) {
-            log.error("[Image] S3 업로드 실패 (IOException): s3Key={}", s3Key, e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, 
-                "S3 upload failed: " + e.getMessage());
+        return ImageResponse.from(savedImage);
+    }
+
+    /**
+     * 저장소 업로드 수행 (Content-Length 지정 스트리밍, SHA-256은 저장소가 무결성 검증에 사용)
+     */
+    private void uploadToStorage(InputStream content, long contentLength, String contentType,
+                                 String key, String contentHash) {
+        try {
+            objectStorage.put(key, content, contentLength, contentType, contentHash);
         } catch (Exception e) {
-            log.error("[Image] S3 업로드 에러: s3Key={}", s3Key, e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, 
-                "S3 upload error: " + e.getMessage());
+            log.error("[Image] 저장소 업로드 에러: key={}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                "Storage upload error: " + e.getMessage());
         }
     }
+
+    /**
+     * 검증된 업로드 파일 정보
+     *
+     * @param contentType Magic Number로 판별된 MIME type
+     * @param contentHash SHA-256 (hex)
+     */
+    private record ValidatedFile(String contentType, String contentHash) {
+    }
+
+    private static Timer uploadTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("image.upload.latency")
+                .description("이미지 업로드 단계별 지연 시간")
+                .tag("phase", phase)
+                .publishPercentileHistogram()           // 버킷 히스토그램 (Prometheus 등 집계용)
+                .publishPercentiles(0.5, 0.95, 0.99)    // 인스턴스별 분위수 (/actuator/metrics)
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,182 @@
+package com.ktb.community.service;
+
+import com.ktb.community.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 이미지 업로드 격벽 (Bulkhead)
+ * ImageService의 저장소 전송(회원가입/프로필 수정 동기 업로드, POST /images 비동기 업로드)을 감쌈
+ *
+ * 두 한도를 모두 통과해야 전송 시작
+ * - 동시 전송 수 (image.upload.max-concurrent): 저장소 커넥션 수 상한
+ * - 전송 바이트 예산 (image.upload.max-in-flight-bytes): 저장소로 전송 중인 파일 크기 합 상한 (KiB 단위 가중 허가)
+ *   저장소 대역폭/SDK 송신 버퍼를 나눠 쓰는 단위, 예산보다 큰 파일은 예산 전체를 사용 (단독 실행)
+ *
+ * 힙 상한이 아님
+ * - 허가는 multipart 파싱(디스크 스풀, file-size-threshold: 0)과 해시 계산 이후 전송 직전에 획득
+ * - 업로드 경로는 스트리밍이라 업로드당 힙 할당은 파일 크기와 무관한 상수 (ImageUploadBulkheadTest에서 스레드 할당량으로 측정)
+ * - 스풀 디스크/동시 요청 수는 spring.servlet.multipart.max-request-size와 Tomcat 커넥션 한도가 제한
+ *
+ * 빠른 거절
+ * - 최대 acquire-timeout-ms만 대기 (공정 대기열), 초과 시 503 + Retry-After (ServiceUnavailableException)
+ * - 과부하 시 요청이 쌓여 힙/커넥션을 잡고 있지 않도록 대기 시간을 짧게 유지
+ *
+ * 메트릭
+ * - image.upload.bulkhead.wait (Timer, outcome=acquired|rejected): 허가 대기 시간
+ * - image.upload.bulkhead.in_flight / in_flight_bytes / queued (Gauge)
+ */
+@Slf4j
+@Component
+public class ImageUploadBulkhead {
+
+    private static final int KIB = 1024;
+
+    private final int maxConcurrent;
+    private final int byteBudgetKib;
+    private final long acquireTimeoutNanos;
+    private final long retryAfterSeconds;
+
+    // 공정 모드: 큰 파일이 작은 파일에 계속 밀려 기아 상태가 되지 않도록
+    private final Semaphore slots;
+    private final Semaphore bytePermits;
+
+    private final Timer acquiredWaitTimer;
+    private final Timer rejectedWaitTimer;
+
+    public ImageUploadBulkhead(MeterRegistry meterRegistry,
+                               @Value("${image.upload.max-concurrent:32}") int maxConcurrent,
+                               @Value("${image.upload.max-in-flight-bytes:64MB}") DataSize maxInFlightBytes,
+                               @Value("${image.upload.acquire-timeout-ms:100}") long acquireTimeoutMs,
+                               @Value("${image.upload.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.byteBudgetKib = (int) Math.clamp(maxInFlightBytes.toBytes() / KIB, 1, Integer.MAX_VALUE);
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, acquireTimeoutMs));
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+        this.slots = new Semaphore(this.maxConcurrent, true);
+        this.bytePermits = new Semaphore(byteBudgetKib, true);
+
+        this.acquiredWaitTimer = waitTimer(meterRegistry, "acquired");
+        this.rejectedWaitTimer = waitTimer(meterRegistry, "rejected");
+        Gauge.builder("image.upload.bulkhead.in_flight", this, ImageUploadBulkhead::inFlight)
+                .description("진행 중인 저장소 전송 수")
+                .register(meterRegistry);
+        Gauge.builder("image.upload.bulkhead.in_flight_bytes", this, ImageUploadBulkhead::inFlightBytes)
+                .description("저장소로 전송 중인 파일 크기 합 (허가 기준)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("image.upload.bulkhead.queued", this, ImageUploadBulkhead::queued)
+                .description("허가 대기 중인 업로드 수 (추정)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전송 허가 획득 (동시 전송 슬롯 → 전송 바이트 예산 순, 합계 대기 acquire-timeout-ms 이내)
+     *
+     * @param contentLength 업로드 파일 크기 (전송 바이트 예산 가중치)
+     * @return 허가 (전송 완료 후 close, 다른 스레드에서 반환 가능)
+     * @throws ServiceUnavailableException 대기 시간 내 허가 획득 실패 (503 + Retry-After)
+     */
+    public Permit acquire(long contentLength) {
+        int weight = weightOf(contentLength);
+        long start = System.nanoTime();
+        boolean slotAcquired = false;
+        boolean bytesAcquired = false;
+
+        try {
+            slotAcquired = slots.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+            if (slotAcquired) {
+                long remaining = Math.max(0, acquireTimeoutNanos - (System.nanoTime() - start));
+                bytesAcquired = bytePermits.tryAcquire(weight, remaining, TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        long waited = System.nanoTime() - start;
+        if (!bytesAcquired) {
+            if (slotAcquired) {
+                slots.release();
+            }
+            rejectedWaitTimer.record(waited, TimeUnit.NANOSECONDS);
+            log.warn("[Image] 업로드 격벽 포화: size={}, inFlight={}, inFlightBytes={}, waitMs={}",
+                    contentLength, inFlight(), inFlightBytes(), TimeUnit.NANOSECONDS.toMillis(waited));
+            throw new ServiceUnavailableException("Upload capacity exhausted", retryAfterSeconds);
+        }
+
+        acquiredWaitTimer.record(waited, TimeUnit.NANOSECONDS);
+        return new Permit(weight);
+    }
+
+    /**
+     * 진행 중인 전송 수
+     */
+    public int inFlight() {
+        return maxConcurrent - slots.availablePermits();
+    }
+
+    /**
+     * 전송 중인 파일 크기 합 (허가 기준 bytes, KiB 단위 올림)
+     */
+    public long inFlightBytes() {
+        return (long) (byteBudgetKib - bytePermits.availablePermits()) * KIB;
+    }
+
+    /**
+     * 전송 바이트 예산 (bytes)
+     */
+    public long maxInFlightBytes() {
+        return (long) byteBudgetKib * KIB;
+    }
+
+    private int queued() {
+        return slots.getQueueLength() + bytePermits.getQueueLength();
+    }
+
+    /**
+     * 파일 크기 → 가중치 (KiB 올림, 최소 1, 최대 예산 전체)
+     */
+    private int weightOf(long contentLength) {
+        long kib = Math.ceilDiv(Math.max(0, contentLength), KIB);
+        return (int) Math.clamp(kib, 1, byteBudgetKib);
+    }
+
+    private static Timer waitTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("image.upload.bulkhead.wait")
+                .description("이미지 업로드 격벽 허가 대기 시간")
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전송 허가 (슬롯 1 + 전송 바이트 가중치)
+     * - close는 1회만 반영 (중복 호출 안전)
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final int weight;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(int weight) {
+            this.weight = weight;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                bytePermits.release(weight);
+                slots.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.ktb.community.service;
+
+import com.ktb.community.config.ObjectStorage;
+import com.ktb.community.repository.ImageRepository;
+import com.ktb.community.util.S3KeyGenerator;
+import com.ktb.community.util.TransactionUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 이미지 리사이즈 변형 생성 서비스
+ * - 업로드 커밋 후 가상 스레드에서 원본을 저장소에서 다시 읽어 썸네일/중간 크기 생성 (요청 스레드 미점유)
+ * - 변형 키: S3KeyGenerator.generateVariantKey (원본 키 + "_thumbnail" / "_medium")
+ * - 변형 URL은 같은 원본 객체를 공유하는 중복 업로드 행 전체에 반영 (ImageRepository.updateVariants)
+ * - 원본이 변형 크기 이하이면 업로드 없이 원본 URL 사용 (확대 없음)
+ * - GIF는 애니메이션 보존을 위해 변형 미생성 (응답에서 원본 URL로 대체)
+ *
+ * 메모리: 디코딩은 Semaphore로 동시 실행 제한 + 서브샘플링 디코딩 (중간 크기 이상 해상도만 적재)
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    static final String THUMBNAIL = "thumbnail";
+    static final String MEDIUM = "medium";
+
+    private static final Set<String> RESIZABLE_CONTENT_TYPES = Set.of("image/jpeg", "image/png");
+
+    private final ObjectStorage objectStorage;
+    private final ImageRepository imageRepository;
+    private final int thumbnailSize;
+    private final int mediumSize;
+
+    private final ExecutorService variantExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("image-variant-", 0).factory());
+    private final Semaphore decodePermits;
+
+    public ImageVariantService(ObjectStorage objectStorage,
+                               ImageRepository imageRepository,
+                               @Value("${image.variant.thumbnail-size:200}") int thumbnailSize,
+                               @Value("${image.variant.medium-size:800}") int mediumSize,
+                               @Value("${image.variant.max-concurrent:2}") int maxConcurrent) {
+        this.objectStorage = objectStorage;
+        this.imageRepository = imageRepository;
+        this.thumbnailSize = thumbnailSize;
+        this.mediumSize = mediumSize;
+        this.decodePermits = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    /**
+     * 변형 생성 예약 (트랜잭션 커밋 후 비동기 실행)
+     * - 롤백 시 미실행 (Image 행이 없으므로)
+     *
+     * @param imageId 이미지 ID
+     * @param key 원본 객체 키
+     * @param contentType 원본 MIME type
+     * @param contentHash 원본 SHA-256 hex (중복 업로드 행 반영용, 없으면 null)
+     */
+    public void generateAfterCommit(Long imageId, String key, String contentType, String contentHash) {
+        if (!RESIZABLE_CONTENT_TYPES.contains(contentType)) {
+            log.debug("[Image] 변형 미생성 형식: imageId={}, contentType={}", imageId, contentType);
+            return;
+        }
+        TransactionUtils.afterCommit(() -> variantExecutor.execute(() -> generate(imageId, key, contentType, contentHash)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        variantExecutor.close();
+    }
+
+    /**
+     * 변형 생성 + Image 반영
+     * - 실패 시 로그만 (변형 URL은 NULL로 남고 응답은 원본 URL로 대체)
+     * - 생성 중 객체를 참조하는 행이 모두 삭제됨 (반영 0건) → 방금 업로드한 변형 객체 삭제 (원본 URL 재사용분은 제외)
+     */
+    void generate(Long imageId, String key, String contentType, String contentHash) {
+        try {
+            decodePermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try {
+            SourceImage source = readSource(key);
+            if (source == null) {
+                log.warn("[Image] 변형 생성 불가 (디코더 없음): imageId={}, key={}", imageId, key);
+                return;
+            }
+
+            String formatName = "image/png".equals(contentType) ? "png" : "jpg";
+            List<String> storedKeys = new ArrayList<>(2);
+            String thumbnailUrl = storeVariant(source, key, THUMBNAIL, thumbnailSize, formatName, contentType, storedKeys);
+            String mediumUrl = storeVariant(source, key, MEDIUM, mediumSize, formatName, contentType, storedKeys);
+
+            int updated = imageRepository.updateVariants(
+                    imageId, contentHash, objectStorage.url(key), thumbnailUrl, mediumUrl);
+            if (updated == 0) {
+                log.warn("[Image] 변형 생성 중 이미지 삭제됨: imageId={}, 변형 삭제={}", imageId, storedKeys);
+                deleteVariants(imageId, storedKeys);
+                return;
+            }
+            log.debug("[Image] 변형 생성 완료: imageId={}, rows={}, original={}x{}",
+                    imageId, updated, source.originalWidth(), source.originalHeight());
+        } catch (Exception e) {
+            log.error("[Image] 변형 생성 실패: imageId={}, key={}, error={}", imageId, key, e.getMessage(), e);
+        } finally {
+            decodePermits.release();
+        }
+    }
+
+    /**
+     * 반영되지 못한 변형 객체 삭제 (고아 배치는 images 행 기준이라 행 없는 변형은 회수 불가)
+     */
+    private void deleteVariants(Long imageId, List<String> storedKeys) {
+        if (storedKeys.isEmpty()) {
+            return;
+        }
+        Set<String> failed = objectStorage.deleteAll(storedKeys);
+        if (!failed.isEmpty()) {
+            log.error("[Image] 변형 객체 삭제 실패: imageId={}, keys={}", imageId, failed);
+        }
+    }
+
+    /**
+     * 원본 디코딩 (서브샘플링)
+     * - 긴 변이 mediumSize 이상으로 유지되는 최대 정수 배율로 픽셀을 건너뛰며 디코딩
+     *
+     * @return 디코딩 결과 (지원 디코더 없으면 null)
+     */
+    private SourceImage readSource(String key) throws IOException {
+        try (InputStream in = objectStorage.get(key);
+             ImageInputStream imageInput = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / Math.max(1, mediumSize));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                return new SourceImage(reader.read(0, param), width, height);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 변형 1개 생성 및 업로드
+     *
+     * @param storedKeys 업로드한 변형 키를 추가할 목록 (원본 URL 재사용 시 추가 안 함)
+     * @return 변형 URL (원본이 maxSize 이하이면 원본 URL)
+     */
+    private String storeVariant(SourceImage source, String key, String variant, int maxSize,
+                                String formatName, String contentType, List<String> storedKeys) throws IOException {
+        if (Math.max(source.originalWidth(), source.originalHeight()) <= maxSize) {
+            return objectStorage.url(key);
+        }
+
+        byte[] encoded = encode(resize(source.image(), maxSize, formatName), formatName);
+        String variantKey = S3KeyGenerator.generateVariantKey(key, variant);
+
+        objectStorage.put(variantKey, new ByteArrayInputStream(encoded), encoded.length, contentType, null);
+        storedKeys.add(variantKey);
+
+        return objectStorage.url(variantKey);
+    }
+
+    /**
+     * 긴 변 기준 비율 유지 축소 (Bilinear)
+     */
+    private static BufferedImage resize(BufferedImage image, int maxSize, String formatName) {
+        double scale = (double) maxSize / Math.max(image.getWidth(), image.getHeight());
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        boolean png = "png".equals(formatName);
+        BufferedImage resized = new BufferedImage(width, height,
+                png ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (!png) {
+                // JPEG은 알파 채널 없음: 투명 영역을 흰색으로
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private static byte[] encode(BufferedImage image, String formatName) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, formatName, out)) {
+            throw new IOException("No ImageIO writer for " + formatName);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 디코딩된 원본 (서브샘플링 적용) + 원본 해상도
+     */
+    private record SourceImage(BufferedImage image, int originalWidth, int originalHeight) {
+    }
+}
@@ -1,9 +1,9 @@
 package com.ktb.community.service;
 
 import com.ktb.community.dto.response.PostResponse;
+import com.ktb.community.entity.Image;
 import com.ktb.community.entity.Post;
 import com.ktb.community.entity.PostLike;
-import com.ktb.community.entity.User;
 import com.ktb.community.enums.ErrorCode;
 import com.ktb.community.enums.PostStatus;
 import com.ktb.community.enums.UserStatus;
@@ -14,7 +14,6 @@ import com.ktb.community.repository.PostStatsRepository;
 import com.ktb.community.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -38,42 +37,32 @@ public class LikeService {
     private final PostRepository postRepository;
     private final PostStatsRepository postStatsRepository;
     private final UserRepository userRepository;
+    private final PostImageResolver postImageResolver;
+    private final CountCacheService countCacheService;
+    private final LikedPostIdCache likedPostIdCache;
 
     /**
      * 게시글 좋아요 추가 (FR-LIKE-001)
-     * - 게시글 존재 확인 (ACTIVE만)
-     * - 중복 방지 (UNIQUE KEY)
-     * - 좋아요 수 자동 증가 (동시성 제어)
+     * - 단일 INSERT IGNORE (존재 확인 + 중복 방지를 uq_user_post로 처리)
+     * - 행이 추가된 경우에만 좋아요 수 증가 (동시성 제어)
+     * - 실패(0행) 시에만 원인 조회 → 오류 코드 결정
      * - Optimistic Update: 응답에 like_count 제거
      */
     @Transactional
     public Map<String, String> addLike(Long postId, Long userId) {
-        // 게시글 존재 확인 (ACTIVE만)
-        Post post = postRepository.findByIdWithUserAndStats(postId, PostStatus.ACTIVE)
-                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND,
-                        "Post not found with id: " + postId));
-
-        // 사용자 확인
-        User user = userRepository.findByUserIdAndUserStatus(userId, UserStatus.ACTIVE)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND,
-                        "User not found or inactive with id: " + userId));
-
-        // 중복 확인
-        if (postLikeRepository.existsByUserUserIdAndPostPostId(userId, postId)) {
-            throw new BusinessException(ErrorCode.ALREADY_LIKED,
-                    "User already liked this post: userId=" + userId + ", postId=" + postId);
+        // 좋아요 생성 (중복/게시글 없음/사용자 없음이면 0행)
+        int inserted = postLikeRepository.insertIfAbsent(userId, postId);
+        if (inserted == 0) {
+            throw resolveAddLikeFailure(postId, userId);
         }
 
-        // 좋아요 생성
-        PostLike postLike = PostLike.builder()
-                .user(user)
-                .post(post)
-                .build();
-        postLikeRepository.save(postLike);
-
         // 좋아요 수 자동 증가 (동시성 제어)
         postStatsRepository.incrementLikeCount(postId);
 
+        // 좋아요한 게시글 수/ID 캐시 반영 (커밋 후)
+        countCacheService.adjustLikedPostCountAfterCommit(userId, 1);
+        likedPostIdCache.addAfterCommit(userId, postId);
+
         log.debug("[Like] 좋아요 추가 완료: postId={}", postId);
 
         // Optimistic Update: 클라이언트가 UI에서 즉시 +1 처리
@@ -84,30 +73,26 @@ public class LikeService {
 
     /**
      * 게시글 좋아요 취소 (FR-LIKE-002)
-     * - 좋아요 존재 확인
-     * - Hard Delete (영구 삭제)
-     * - 좋아요 수 자동 감소 (동시성 제어)
+     * - 단일 조건부 DELETE (Hard Delete, ACTIVE 게시글만)
+     * - 행이 삭제된 경우에만 좋아요 수 감소 (동시성 제어)
+     * - 실패(0행) 시에만 원인 조회 → 오류 코드 결정
      * - Optimistic Update: 응답에 like_count 제거
      */
     @Transactional
     public Map<String, String> removeLike(Long postId, Long userId) {
-        // 게시글 존재 확인
-        if (!postRepository.existsByPostIdAndPostStatus(postId, PostStatus.ACTIVE)) {
-            throw new BusinessException(ErrorCode.POST_NOT_FOUND,
-                    "Post not found with id: " + postId);
+        // 좋아요 삭제 (좋아요 없음/게시글 없음이면 0행)
+        int deleted = postLikeRepository.deleteIfPresent(userId, postId, PostStatus.ACTIVE);
+        if (deleted == 0) {
+            throw resolveRemoveLikeFailure(postId, userId);
         }
 
-        // 좋아요 조회
-        PostLike postLike = postLikeRepository.findByUserUserIdAndPostPostId(userId, postId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.LIKE_NOT_FOUND,
-                        "Like not found: userId=" + userId + ", postId=" + postId));
-
-        // 좋아요 삭제 (Hard Delete)
-        postLikeRepository.delete(postLike);
-
         // 좋아요 수 자동 감소 (동시성 제어)
         postStatsRepository.decrementLikeCount(postId);
 
+        // 좋아요한 게시글 수/ID 캐시 반영 (커밋 후)
+        countCacheService.adjustLikedPostCountAfterCommit(userId, -1);
+        likedPostIdCache.removeAfterCommit(userId, postId);
+
         log.debug("[Like] 좋아요 취소 완료: postId={}", postId);
 
         // Optimistic Update: 클라이언트가 UI에서 즉시 -1 처리
@@ -120,10 +105,22 @@ public class LikeService {
      * 좋아요한 게시글 목록 조회 (FR-LIKE-003)
      * - 사용자 존재 확인
      * - Fetch Join (N+1 방지)
+     * - 게시글 이미지는 페이지 단위 일괄 조회 (IN 쿼리 1회)
      * - ACTIVE 게시글만 조회
+     * - total_count: CountCacheService (COUNT 쿼리 없음)
      */
     @Transactional(readOnly = true)
     public Map<String, Object> getLikedPosts(Long userId, int offset, int limit) {
+        return getLikedPosts(userId, offset, limit, false);
+    }
+
+    /**
+     * 좋아요한 게시글 목록 조회 (total_count 정확도 지정)
+     *
+     * @param exact true면 COUNT 쿼리로 정확한 total_count 조회 (ADMIN 전용)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getLikedPosts(Long userId, int offset, int limit, boolean exact) {
         // 사용자 확인 (ACTIVE + INACTIVE 허용 = Read 권한)
         if (!userRepository.existsByUserIdAndUserStatusIn(
                 userId, List.of(UserStatus.ACTIVE, UserStatus.INACTIVE))) {
@@ -136,13 +133,21 @@ public class LikeService {
         Pageable pageable = PageRequest.of(page, limit);
 
         // 좋아요한 게시글 조회 (Fetch Join으로 N+1 방지)
-        Page<PostLike> likePage = postLikeRepository.findByUserIdWithPost(
+        List<PostLike> likes = postLikeRepository.findByUserIdWithPost(
                 userId, PostStatus.ACTIVE, pageable);
 
-        // DTO 변환 (PostLike → Post → PostResponse)
-        List<PostResponse> posts = likePage.getContent().stream()
+        List<Post> likedPosts = likes.stream()
                 .map(PostLike::getPost)
-                .map(PostResponse::from)
+                .collect(Collectors.toList());
+
+        // 이미지 일괄 조회 (post.getPostImages() 지연 로딩 대신)
+        Map<Long, List<Image>> images = postImageResolver.resolveImages(
+                likedPosts.stream().map(Post::getPostId).collect(Collectors.toList()));
+
+        // DTO 변환 (PostLike → Post → PostResponse)
+        List<PostResponse> posts = likedPosts.stream()
+                .map(post -> PostResponse.from(post, null,
+                        images.getOrDefault(post.getPostId(), List.of())))
                 .collect(Collectors.toList());
 
         // 응답 구성
@@ -150,9 +155,37 @@ public class LikeService {
         response.put("posts", posts);
 
         Map<String, Object> pagination = new HashMap<>();
-        pagination.put("total_count", likePage.getTotalElements());
+        pagination.put("total_count", countCacheService.getLikedPostCount(userId, exact));
         response.put("pagination", pagination);
 
         return response;
     }
+
+    /**
+     * 좋아요 추가 실패 원인 (INSERT 0행일 때만 조회)
+     */
+    private BusinessException resolveAddLikeFailure(Long postId, Long userId) {
+        if (!postRepository.existsByPostIdAndPostStatus(postId, PostStatus.ACTIVE)) {
+            return new BusinessException(ErrorCode.POST_NOT_FOUND,
+                    "Post not found with id: " + postId);
+        }
+        if (userRepository.findByUserIdAndUserStatus(userId, UserStatus.ACTIVE).isEmpty()) {
+            return new BusinessException(ErrorCode.USER_NOT_FOUND,
+                    "User not found or inactive with id: " + userId);
+        }
+        return new BusinessException(ErrorCode.ALREADY_LIKED,
+                "User already liked this post: userId=" + userId + ", postId=" + postId);
+    }
+
+    /**
+     * 좋아요 취소 실패 원인 (DELETE 0행일 때만 조회)
+     */
+    private BusinessException resolveRemoveLikeFailure(Long postId, Long userId) {
+        if (!postRepository.existsByPostIdAndPostStatus(postId, PostStatus.ACTIVE)) {
+            return new BusinessException(ErrorCode.POST_NOT_FOUND,
+                    "Post not found with id: " + postId);
+        }
+        return new BusinessException(ErrorCode.LIKE_NOT_FOUND,
+                "Like not found: userId=" + userId + ", postId=" + postId);
+    }
 }
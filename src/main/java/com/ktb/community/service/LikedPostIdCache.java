@@ -0,0 +1,217 @@
+package com.ktb.community.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.ktb.community.repository.PostLikeRepository;
+import com.ktb.community.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별 좋아요한 게시글 ID 캐시 (isLikedByCurrentUser 일괄 판정용)
+ * - Value: 정렬된 long[] (박싱 없음, 이진 탐색)
+ * - 최초 조회 시 사용자의 좋아요 ID를 최대 max-ids개까지 적재 (postId 내림차순 = 최신 게시글 우선)
+ * - max-ids 초과 사용자: 적재 범위(completeFrom 이상)만 캐시로 판정, 그 미만은 IN 쿼리 1회
+ * - 좋아요/취소 커밋 후 적재된 항목에 postId 삽입/삭제 (copy-on-write: 새 배열로 교체, 쿼리 없음)
+ *   · 적재는 cache.get(userId, loader), 반영은 asMap().computeIfPresent로 실행
+ *     → 적재 중 반영은 적재 완료 후 적재 결과에 적용 (커밋 전 스냅샷을 읽은 적재도 보정됨)
+ *   · 잘린 항목(max-ids 초과 사용자)이거나 삽입 시 상한을 넘으면 무효화 → 다음 조회 시 재적재
+ *   · 미적재 사용자는 무시 (다음 조회 시 적재)
+ * - expire-after-write-ms: 적재 시점 기준 (반영으로 갱신되지 않음)
+ *   남은 오차(적재 쿼리가 좋아요 커밋 이전 트랜잭션 스냅샷을 읽고 반영보다 늦게 시작한 경우)의 최대 유지 시간
+ *   단건 판정(게시글 상세)은 이 캐시를 쓰지 않고 exists 쿼리로 정확히 판정
+ *
+ * 피드 한 페이지당 쿼리: 캐시 적중 시 0회 (좋아요/취소 직후 포함), 미적재 시 적재 쿼리 1회
+ * (적재 범위 밖 게시글이 섞인 경우에만 IN 쿼리 1회 추가)
+ */
+@Slf4j
+@Component
+public class LikedPostIdCache {
+
+    private final PostLikeRepository postLikeRepository;
+    private final int maxIdsPerUser;
+
+    /**
+     * Key: userId, Value: 좋아요한 게시글 ID (정렬)
+     */
+    private final Cache<Long, LikedPostIds> likedPostIds;
+
+    public LikedPostIdCache(
+            PostLikeRepository postLikeRepository,
+            @Value("${post.liked-cache.max-users:10000}") long maxUsers,
+            @Value("${post.liked-cache.max-ids-per-user:5000}") int maxIdsPerUser,
+            @Value("${post.liked-cache.expire-after-write-ms:1800000}") long expireAfterWriteMs
+    ) {
+        this.postLikeRepository = postLikeRepository;
+        this.maxIdsPerUser = maxIdsPerUser;
+        this.likedPostIds = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfter(new UntilLoadExpiration(Duration.ofMillis(expireAfterWriteMs)))
+                .build();
+    }
+
+    /**
+     * 게시글 목록 중 사용자가 좋아요한 게시글 ID
+     *
+     * @param userId 사용자 ID
+     * @param postIds 페이지의 게시글 ID 목록
+     * @return 좋아요한 게시글 ID 집합
+     */
+    public Set<Long> findLikedAmong(Long userId, Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Set.of();
+        }
+
+        LikedPostIds cached = likedPostIds.get(userId, this::load);
+
+        Set<Long> liked = new HashSet<>();
+        List<Long> uncovered = new ArrayList<>();
+        for (Long postId : postIds) {
+            if (!cached.covers(postId)) {
+                uncovered.add(postId);
+            } else if (cached.contains(postId)) {
+                liked.add(postId);
+            }
+        }
+
+        // 적재 범위 밖 (좋아요가 max-ids 초과인 사용자의 오래된 게시글)
+        if (!uncovered.isEmpty()) {
+            liked.addAll(postLikeRepository.findLikedPostIds(userId, uncovered));
+        }
+
+        return liked;
+    }
+
+    /**
+     * 좋아요 추가 반영 (커밋 후 적재된 항목에 삽입)
+     */
+    public void addAfterCommit(Long userId, Long postId) {
+        TransactionUtils.afterCommit(() -> likedPostIds.asMap().computeIfPresent(userId, (id, cached) -> {
+            if (!cached.isComplete() || cached.sortedIds().length >= maxIdsPerUser) {
+                return null;  // 무효화 (적재 범위 재계산 필요)
+            }
+            return cached.with(postId);
+        }));
+    }
+
+    /**
+     * 좋아요 취소 반영 (커밋 후 적재된 항목에서 삭제)
+     */
+    public void removeAfterCommit(Long userId, Long postId) {
+        TransactionUtils.afterCommit(() -> likedPostIds.asMap().computeIfPresent(userId, (id, cached) ->
+                cached.isComplete() ? cached.without(postId) : null));
+    }
+
+    /**
+     * 사용자의 좋아요 ID 적재 (최대 max-ids개, postId 내림차순)
+     * - cache.get의 loader로만 호출 (같은 사용자의 동시 적재 1회, 무효화와 직렬화)
+     */
+    private LikedPostIds load(Long userId) {
+        List<Long> ids = postLikeRepository.findLikedPostIdsByUserId(userId, PageRequest.of(0, maxIdsPerUser + 1));
+
+        boolean truncated = ids.size() > maxIdsPerUser;
+        List<Long> kept = truncated ? ids.subList(0, maxIdsPerUser) : ids;
+
+        long[] sorted = kept.stream().mapToLong(Long::longValue).sorted().toArray();
+        // 잘린 경우 적재된 최소 ID 이상만 완전한 범위
+        long completeFrom = truncated && sorted.length > 0 ? sorted[0] : Long.MIN_VALUE;
+
+        LikedPostIds loaded = new LikedPostIds(sorted, completeFrom);
+
+        log.debug("[LikedCache] 좋아요 ID 적재: userId={}, count={}, truncated={}", userId, sorted.length, truncated);
+
+        return loaded;
+    }
+
+    /**
+     * 좋아요한 게시글 ID (불변)
+     *
+     * @param sortedIds 오름차순 정렬된 게시글 ID
+     * @param completeFrom 이 값 이상의 postId는 sortedIds로 완전히 판정 가능
+     */
+    record LikedPostIds(long[] sortedIds, long completeFrom) {
+
+        boolean covers(long postId) {
+            return postId >= completeFrom;
+        }
+
+        boolean contains(long postId) {
+            return Arrays.binarySearch(sortedIds, postId) >= 0;
+        }
+
+        /**
+         * 잘리지 않은 항목 (사용자의 좋아요 전체 적재)
+         */
+        boolean isComplete() {
+            return completeFrom == Long.MIN_VALUE;
+        }
+
+        /**
+         * postId를 삽입한 새 항목 (이미 있으면 그대로)
+         */
+        LikedPostIds with(long postId) {
+            int index = Arrays.binarySearch(sortedIds, postId);
+            if (index >= 0) {
+                return this;
+            }
+            int insertAt = -index - 1;
+            long[] ids = new long[sortedIds.length + 1];
+            System.arraycopy(sortedIds, 0, ids, 0, insertAt);
+            ids[insertAt] = postId;
+            System.arraycopy(sortedIds, insertAt, ids, insertAt + 1, sortedIds.length - insertAt);
+            return new LikedPostIds(ids, completeFrom);
+        }
+
+        /**
+         * postId를 삭제한 새 항목 (없으면 그대로)
+         */
+        LikedPostIds without(long postId) {
+            int index = Arrays.binarySearch(sortedIds, postId);
+            if (index < 0) {
+                return this;
+            }
+            long[] ids = new long[sortedIds.length - 1];
+            System.arraycopy(sortedIds, 0, ids, 0, index);
+            System.arraycopy(sortedIds, index + 1, ids, index, sortedIds.length - index - 1);
+            return new LikedPostIds(ids, completeFrom);
+        }
+    }
+
+    /**
+     * 캐시 항목 만료 = 적재 시점 + expire-after-write-ms (좋아요/취소 반영은 만료 시각 유지)
+     */
+    private static class UntilLoadExpiration implements Expiry<Long, LikedPostIds> {
+
+        private final long durationNanos;
+
+        private UntilLoadExpiration(Duration duration) {
+            this.durationNanos = duration.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Long userId, LikedPostIds ids, long currentTime) {
+            return durationNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long userId, LikedPostIds ids, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(Long userId, LikedPostIds ids, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.ktb.community.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.ktb.community.dto.response.PostSummaryResponse;
+import com.ktb.community.enums.PostStatus;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 게시글 피드 첫 페이지 캐시 (latest, cursor=null)
+ * - Key: limit, Value: 완성된 PostSummaryResponse 목록 + nextCursor/hasMore
+ * - refreshAfterWrite: 만료 전 백그라운드 재조회 (통계 최신화, 요청은 기존 값으로 즉시 응답)
+ * - 게시글 작성/수정/삭제 커밋 후 무효화
+ */
+@Slf4j
+@Component
+public class PostFeedCache {
+
+    /**
+     * 캐시 대상 최대 limit (초과 시 캐시 우회, 키 폭증 방지)
+     */
+    public static final int MAX_CACHED_LIMIT = 50;
+
+    private final PostRepository postRepository;
+    private final PostFeedCache self;  // Self-injection for proxy access (@Transactional 로더)
+    private final LoadingCache<Integer, FeedPage> firstPages;
+
+    /**
+     * Self-injection 생성자
+     * @param self @Lazy로 주입하여 순환 의존성 방지
+     */
+    public PostFeedCache(
+            PostRepository postRepository,
+            @Lazy PostFeedCache self,
+            @Value("${post.feed-cache.refresh-after-ms:5000}") long refreshAfterMs,
+            @Value("${post.feed-cache.expire-after-ms:60000}") long expireAfterMs
+    ) {
+        this.postRepository = postRepository;
+        this.self = self;
+        this.firstPages = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_LIMIT)
+                .refreshAfterWrite(Duration.ofMillis(refreshAfterMs))
+                .expireAfterWrite(Duration.ofMillis(expireAfterMs))
+                .build(limit -> this.self.loadFirstPage(limit));
+    }
+
+    /**
+     * 피드 첫 페이지 조회 (캐시)
+     * - limit이 MAX_CACHED_LIMIT 초과 시 캐시 우회
+     */
+    public FeedPage getFirstPage(int limit) {
+        if (limit > MAX_CACHED_LIMIT) {
+            return self.loadFirstPage(limit);
+        }
+        return firstPages.get(limit);
+    }
+
+    /**
+     * 피드 첫 페이지 DB 조회 (캐시 로더)
+     * - 백그라운드 refresh에서도 호출되므로 자체 읽기 트랜잭션 필요
+     */
+    @Transactional(readOnly = true)
+    public FeedPage loadFirstPage(int limit) {
+        List<PostSummaryResponse> posts = postRepository.findSummariesByStatusWithoutCursor(
+                PostStatus.ACTIVE, PageRequest.of(0, limit + 1));
+        log.debug("[FeedCache] 피드 첫 페이지 로드: limit={}, count={}", limit, posts.size());
+        return FeedPage.of(posts, limit);
+    }
+
+    /**
+     * 새 게시글 작성 → 모든 첫 페이지 무효화 (커밋 후)
+     * - 커밋 전 무효화 시 동시 요청이 이전 데이터를 재적재할 수 있음
+     */
+    public void invalidateAllAfterCommit() {
+        TransactionUtils.afterCommit(firstPages::invalidateAll);
+    }
+
+    /**
+     * 게시글 수정/삭제 → 해당 게시글이 포함된 첫 페이지만 무효화 (커밋 후)
+     *
+     * @param postId 게시글 ID
+     */
+    public void evictPostAfterCommit(Long postId) {
+        TransactionUtils.afterCommit(() -> firstPages.asMap().entrySet()
+                .removeIf(entry -> entry.getValue().contains(postId)));
+    }
+
+    /**
+     * 피드 페이지 (cursor 방식 응답 구성요소)
+     *
+     * @param posts 게시글 목록 (불변)
+     * @param nextCursor 다음 페이지 cursor (마지막 페이지면 null)
+     * @param hasMore 다음 페이지 존재 여부
+     */
+    public record FeedPage(List<PostSummaryResponse> posts, Long nextCursor, boolean hasMore) {
+
+        /**
+         * limit+1 조회 결과 → FeedPage 변환
+         * - hasMore 판단 및 초과 데이터 제거
+         */
+        public static FeedPage of(List<PostSummaryResponse> posts, int limit) {
+            boolean hasMore = posts.size() > limit;
+            List<PostSummaryResponse> page = hasMore ? posts.subList(0, limit) : posts;
+
+            Long nextCursor = hasMore && !page.isEmpty()
+                    ? page.get(page.size() - 1).getPostId()
+                    : null;
+
+            return new FeedPage(List.copyOf(page), nextCursor, hasMore);
+        }
+
+        boolean contains(Long postId) {
+            return posts.stream().anyMatch(post -> Objects.equals(post.getPostId(), postId));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.ktb.community.service;
+
+import com.ktb.community.entity.Image;
+import com.ktb.community.entity.PostImage;
+import com.ktb.community.repository.PostImageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 이미지 일괄 조회 (목록 페이지용)
+ * - 페이지의 postId 목록으로 PostImage + Image를 IN 쿼리 1회 조회
+ * - post.getPostImages() 지연 로딩(게시글 수만큼 SELECT) 대체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostImageResolver {
+
+    private final PostImageRepository postImageRepository;
+
+    /**
+     * 게시글별 이미지 조회 (원본/변형 URL 포함)
+     *
+     * @param postIds 페이지의 게시글 ID 목록
+     * @return Key: postId, Value: 이미지 목록 (display_order 순서, 이미지 없는 게시글은 미포함)
+     */
+    public Map<Long, List<Image>> resolveImages(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+
+        // 쿼리에서 display_order 정렬 → 순서대로 추가
+        Map<Long, List<Image>> images = new HashMap<>();
+        for (PostImage postImage : postImageRepository.findByPostIdsWithImage(postIds)) {
+            images.computeIfAbsent(postImage.getId().getPostId(), k -> new ArrayList<>())
+                    .add(postImage.getImage());
+        }
+
+        log.debug("[Image] 게시글 이미지 일괄 조회: posts={}, postsWithImages={}", postIds.size(), images.size());
+
+        return images;
+    }
+}
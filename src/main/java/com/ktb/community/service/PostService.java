@@ -3,6 +3,7 @@ package com.ktb.community.service;
 import com.ktb.community.dto.request.PostCreateRequest;
 import com.ktb.community.dto.request.PostUpdateRequest;
 import com.ktb.community.dto.response.PostResponse;
+import com.ktb.community.dto.response.PostSummaryResponse;
 import com.ktb.community.entity.Post;
 import com.ktb.community.entity.PostStats;
 import com.ktb.community.entity.User;
@@ -14,13 +15,13 @@ import com.ktb.community.entity.Image;
 import com.ktb.community.entity.PostImage;
 import com.ktb.community.repository.ImageRepository;
 import com.ktb.community.repository.PostImageRepository;
-import com.ktb.community.repository.PostRepository;
 import com.ktb.community.repository.PostLikeRepository;
+import com.ktb.community.repository.PostRepository;
 import com.ktb.community.repository.PostStatsRepository;
 import com.ktb.community.repository.UserRepository;
+import com.ktb.community.service.PostFeedCache.FeedPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -30,11 +31,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 // import jakarta.persistence.EntityManager; // Phase 5에서 제거됨 (detached entity 이슈 해결)
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * 게시글 서비스
@@ -51,6 +54,10 @@ public class PostService {
     private final ImageRepository imageRepository;
     private final PostImageRepository postImageRepository;
     private final PostLikeRepository postLikeRepository;
+    private final LikedPostIdCache likedPostIdCache;
+    private final PostViewCountBuffer postViewCountBuffer;
+    private final PostFeedCache postFeedCache;
+    private final CountCacheService countCacheService;
     // EntityManager: Phase 5에서 제거됨 (detached entity 이슈 해결)
     // - 기존: entityManager.refresh(post.getStats()) 사용
     // - 문제: clearAutomatically=true 설정 시 detached entity 예외 발생
@@ -89,6 +96,7 @@ public class PostService {
             Image image = imageRepository.findById(request.getImageId())
                     .orElseThrow(() -> new BusinessException(ErrorCode.IMAGE_NOT_FOUND,
                             "Image not found with id: " + request.getImageId()));
+            requireUploaded(image);
 
             // expires_at 클리어 (영구 보존)
             image.clearExpiresAt();
@@ -104,6 +112,10 @@ public class PostService {
             log.info("[Post] 게시글 이미지 연결: postId={}, imageId={}", savedPost.getPostId(), image.getImageId());
         }
 
+        // 피드 첫 페이지 캐시 무효화, 게시글 수 증가 (커밋 후)
+        postFeedCache.invalidateAllAfterCommit();
+        countCacheService.adjustActivePostCountAfterCommit(1);
+
         log.debug("[Post] 게시글 작성 완료: postId={}", savedPost.getPostId());
 
         return PostResponse.from(savedPost);
@@ -112,80 +124,123 @@ public class PostService {
     /**
      * 게시글 목록 조회 (FR-POST-002)
      * - ACTIVE 상태만 조회
-     * - Fetch Join (N+1 방지)
-     * - 정렬: latest (cursor) / likes (offset)
+     * - 목록 DTO 프로젝션 (본문 LONGTEXT 대신 발췌, 첫 이미지 1장)
+     * - 정렬: latest (cursor) / likes (keyset cursor, offset 지정 시 offset)
+     * - isLikedByCurrentUser: 페이지당 LikedPostIdCache 1회 조회 (비로그인 시 null)
      * - 하이브리드 페이지네이션
+     *
+     * @param cursor latest: 마지막 postId, likes: 이전 응답의 nextCursor (opaque)
+     * @param offset likes 전용 (하위 호환), null이면 keyset cursor 방식
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getPosts(String cursor, Integer offset, int limit, String sort) {
+        return getPosts(cursor, offset, limit, sort, false);
+    }
+
+    /**
+     * 게시글 목록 조회 (offset 방식 total_count 정확도 지정)
+     *
+     * @param exact true면 COUNT 쿼리로 정확한 total_count 조회 (ADMIN 전용, offset 방식에만 적용)
      */
     @Transactional(readOnly = true)
-    public Map<String, Object> getPosts(Long cursor, Integer offset, int limit, String sort) {
+    public Map<String, Object> getPosts(String cursor, Integer offset, int limit, String sort, boolean exact) {
         if ("latest".equalsIgnoreCase(sort)) {
-            return getPostsCursor(cursor, limit);
+            return getPostsCursor(parseLatestCursor(cursor), limit);
+        } else if ("likes".equalsIgnoreCase(sort) && offset == null) {
+            return getPostsLikesCursor(cursor, limit);
         } else {
-            return getPostsOffset(offset != null ? offset : 0, limit, sort);
+            return getPostsOffset(offset != null ? offset : 0, limit, sort, exact);
         }
     }
 
     /**
      * Cursor 기반 게시글 목록 조회 (latest 전용)
+     * - 첫 페이지(cursor=null): PostFeedCache (요청 대부분이 첫 페이지)
+     * - 후속 페이지: DB 조회
      */
     private Map<String, Object> getPostsCursor(Long cursor, int limit) {
+        FeedPage page;
+        if (cursor == null) {
+            page = postFeedCache.getFirstPage(limit);
+        } else {
+            // limit+1 조회 (hasMore 판단용)
+            List<PostSummaryResponse> posts = postRepository.findSummariesByStatusWithCursor(
+                    PostStatus.ACTIVE, cursor, PageRequest.of(0, limit + 1));
+            page = FeedPage.of(posts, limit);
+        }
+
+        // 응답 구성 (cursor 방식)
+        Map<String, Object> response = new HashMap<>();
+        response.put("posts", withLikedFlags(page.posts()));
+        response.put("nextCursor", page.nextCursor());
+        response.put("hasMore", page.hasMore());
+
+        log.debug("[Post] Cursor 게시글 목록 조회 완료: cursor={}, count={}, hasMore={}",
+                cursor, page.posts().size(), page.hasMore());
+
+        return response;
+    }
+
+    /**
+     * Keyset 기반 게시글 목록 조회 (likes 전용)
+     * - 복합 커서 (likeCount, postId): 몇 번째 페이지든 동일 비용 (OFFSET 스캔/COUNT 없음)
+     * - nextCursor는 opaque 문자열 (클라이언트는 그대로 다음 요청에 전달)
+     */
+    private Map<String, Object> getPostsLikesCursor(String cursor, int limit) {
+        LikesCursor likesCursor = LikesCursor.decode(cursor);
+
         // limit+1 조회 (hasMore 판단용)
-        List<Post> posts = (cursor == null)
-                ? postRepository.findByStatusWithoutCursor(PostStatus.ACTIVE, PageRequest.of(0, limit + 1))
-                : postRepository.findByStatusWithCursor(PostStatus.ACTIVE, cursor, PageRequest.of(0, limit + 1));
+        List<PostSummaryResponse> posts = (likesCursor == null)
+                ? postRepository.findSummariesByStatusOrderByLikesWithoutCursor(PostStatus.ACTIVE, PageRequest.of(0, limit + 1))
+                : postRepository.findSummariesByStatusOrderByLikesWithCursor(PostStatus.ACTIVE,
+                        likesCursor.likeCount(), likesCursor.postId(), PageRequest.of(0, limit + 1));
 
         // hasMore 판단 및 초과 데이터 제거
         boolean hasMore = posts.size() > limit;
         if (hasMore) {
-            posts.remove(limit);
+            posts = posts.subList(0, limit);
         }
 
-        // nextCursor 계산
-        Long nextCursor = hasMore && !posts.isEmpty()
-                ? posts.get(posts.size() - 1).getPostId()
-                : null;
-
-        // DTO 변환
-        List<PostResponse> postResponses = posts.stream()
-                .map(PostResponse::from)
-                .collect(Collectors.toList());
+        // nextCursor 계산 (마지막 게시글의 likeCount, postId)
+        String nextCursor = null;
+        if (hasMore && !posts.isEmpty()) {
+            PostSummaryResponse last = posts.get(posts.size() - 1);
+            nextCursor = new LikesCursor(last.getStats().getLikeCount(), last.getPostId()).encode();
+        }
 
         // 응답 구성 (cursor 방식)
         Map<String, Object> response = new HashMap<>();
-        response.put("posts", postResponses);
+        response.put("posts", withLikedFlags(posts));
         response.put("nextCursor", nextCursor);
         response.put("hasMore", hasMore);
 
-        log.debug("[Post] Cursor 게시글 목록 조회 완료: cursor={}, count={}, hasMore={}", cursor, posts.size(), hasMore);
+        log.debug("[Post] Likes 게시글 목록 조회 완료: cursor={}, count={}, hasMore={}", likesCursor, posts.size(), hasMore);
 
         return response;
     }
 
     /**
      * Offset 기반 게시글 목록 조회 (likes 등)
+     * - total_count: CountCacheService (COUNT 쿼리 없음, exact=true + ADMIN이면 COUNT)
      */
-    private Map<String, Object> getPostsOffset(int offset, int limit, String sort) {
+    private Map<String, Object> getPostsOffset(int offset, int limit, String sort, boolean exact) {
         // 페이지 정보 생성
         int page = offset / limit;
         Pageable pageable = PageRequest.of(page, limit, getSort(sort));
 
-        // 게시글 조회 (Fetch Join으로 N+1 방지)
-        Page<Post> postPage = postRepository.findByStatusWithUserAndStats(PostStatus.ACTIVE, pageable);
-
-        // DTO 변환
-        List<PostResponse> posts = postPage.getContent().stream()
-                .map(PostResponse::from)
-                .collect(Collectors.toList());
+        // 게시글 조회 (목록 DTO 프로젝션, 본문 미조회)
+        List<PostSummaryResponse> posts = postRepository.findSummariesByStatus(PostStatus.ACTIVE, pageable);
+        long totalCount = countCacheService.getActivePostCount(exact);
 
         // 응답 구성 (offset 방식)
         Map<String, Object> response = new HashMap<>();
-        response.put("posts", posts);
+        response.put("posts", withLikedFlags(posts));
 
         Map<String, Object> pagination = new HashMap<>();
-        pagination.put("total_count", postPage.getTotalElements());
+        pagination.put("total_count", totalCount);
         response.put("pagination", pagination);
 
-        log.debug("[Post] Offset 게시글 목록 조회 완료: offset={}, count={}, total={}", offset, posts.size(), postPage.getTotalElements());
+        log.debug("[Post] Offset 게시글 목록 조회 완료: offset={}, count={}, total={}", offset, posts.size(), totalCount);
 
         return response;
     }
@@ -194,19 +249,19 @@ public class PostService {
      * 게시글 상세 조회 (FR-POST-003)
      * - ACTIVE 상태만 조회
      * - Fetch Join (N+1 방지)
-     * - 조회수 자동 증가 (동시성 제어)
+     * - 조회수 증가: Write-behind 버퍼에 누적 (post_stats 행 잠금 없음)
      * - 현재 사용자의 좋아요 여부 포함 (비로그인 시 null)
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public PostResponse getPostDetail(Long postId) {
         Post post = postRepository.findByIdWithUserAndStats(postId, PostStatus.ACTIVE)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND,
                         "Post not found with id: " + postId));
 
-        // 조회수 증가 (동시성 제어)
-        postStatsRepository.incrementViewCount(postId);
+        // 조회수 증가 (메모리 누적 → PostViewCountBuffer가 주기적으로 일괄 반영)
+        postViewCountBuffer.increment(postId);
 
-        // 현재 사용자의 좋아요 여부 확인
+        // 현재 사용자의 좋아요 여부 확인 (단건 exists 쿼리로 정확히 판정, 좋아요 API 409 판정과 일치)
         Long currentUserId = getCurrentUserIdOrNull();
         Boolean isLiked = null;
         if (currentUserId != null) {
@@ -262,6 +317,7 @@ public class PostService {
             Image newImage = imageRepository.findById(request.getImageId())
                     .orElseThrow(() -> new BusinessException(ErrorCode.IMAGE_NOT_FOUND,
                             "Image not found with id: " + request.getImageId()));
+            requireUploaded(newImage);
 
             // expires_at 클리어 (영구 보존)
             newImage.clearExpiresAt();
@@ -279,6 +335,9 @@ public class PostService {
         }
         // Case 3: 이미지 유지 (둘 다 없음)
 
+        // 피드 첫 페이지 캐시에서 해당 게시글 제거 (커밋 후)
+        postFeedCache.evictPostAfterCommit(postId);
+
         log.debug("[Post] 게시글 수정 완료: postId={}", postId);
 
         return PostResponse.from(post);
@@ -304,9 +363,25 @@ public class PostService {
         // Soft Delete
         post.updateStatus(PostStatus.DELETED);
 
+        // 피드 첫 페이지 캐시에서 해당 게시글 제거, 게시글 수 감소 (커밋 후)
+        postFeedCache.evictPostAfterCommit(postId);
+        countCacheService.adjustActivePostCountAfterCommit(-1);
+
         log.debug("[Post] 게시글 삭제 완료: postId={}", postId);
     }
 
+    /**
+     * 직접 업로드 확인 여부 검사 (확인 전 이미지는 저장소 객체가 검증되지 않음)
+     *
+     * @param image 연결할 이미지
+     */
+    private void requireUploaded(Image image) {
+        if (image.isUploadPending()) {
+            throw new BusinessException(ErrorCode.IMAGE_NOT_FOUND,
+                    "Image upload not confirmed: " + image.getImageId());
+        }
+    }
+
     /**
      * 게시글의 기존 이미지 TTL 복원 + 브릿지 삭제
      * - PostImage 조회 (Fetch Join) → Image TTL 복원 (now + 1h) → 브릿지 삭제
@@ -349,6 +424,68 @@ public class PostService {
         return Sort.by(Sort.Order.desc("createdAt"));
     }
 
+    /**
+     * latest 정렬 cursor 파싱 (postId)
+     */
+    private Long parseLatestCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * likes 정렬 복합 커서 (likeCount, postId)
+     * - 인코딩: Base64URL("likeCount:postId")
+     */
+    record LikesCursor(Integer likeCount, Long postId) {
+
+        String encode() {
+            String raw = likeCount + ":" + postId;
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static LikesCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(':');
+                return new LikesCursor(
+                        Integer.parseInt(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "Invalid cursor: " + cursor);
+            }
+        }
+    }
+
+    /**
+     * 목록 항목에 현재 사용자의 좋아요 여부 채우기
+     * - 페이지 전체를 LikedPostIdCache 1회 조회로 판정 (항목별 exists 쿼리 없음)
+     * - 비로그인: 원본 그대로 반환 (isLikedByCurrentUser = null)
+     * - 피드 캐시 인스턴스는 공유되므로 사본에 채움
+     */
+    private List<PostSummaryResponse> withLikedFlags(List<PostSummaryResponse> posts) {
+        Long currentUserId = getCurrentUserIdOrNull();
+        if (currentUserId == null || posts.isEmpty()) {
+            return posts;
+        }
+
+        Set<Long> likedPostIds = likedPostIdCache.findLikedAmong(currentUserId,
+                posts.stream().map(PostSummaryResponse::getPostId).toList());
+
+        return posts.stream()
+                .map(post -> post.withLikedByCurrentUser(likedPostIds.contains(post.getPostId())))
+                .toList();
+    }
+
     /**
      * 현재 사용자 ID 추출 (인증 실패 시 null 반환)
      */
@@ -0,0 +1,232 @@
+package com.ktb.community.service;
+
+import com.ktb.community.repository.PostStatsRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 Write-behind 버퍼
+ * - 게시글 상세 조회 시 post_stats UPDATE 대신 메모리(LongAdder)에 누적
+ * - 주기적으로(기본 5초) 같은 증가분끼리 묶어 multi-row UPDATE로 반영
+ * - 종료 시(@PreDestroy) 잔여 증가분 flush
+ *
+ * 유실 범위 (bounded loss):
+ * - 정상 종료: 유실 없음
+ * - 비정상 종료: 마지막 flush 이후 누적분 (flush 주기 이내)
+ * - DB 장애: 실패분은 버퍼로 되돌려 재시도, 단 max-pending-posts 초과분은 폐기 후 카운트
+ *
+ * 메트릭 (/actuator/metrics)
+ * - post.view_buffer.pending.posts / pending (Gauge): 미반영 게시글 수 / 조회수
+ * - post.view_buffer.flushed / dropped (Counter): 누적 반영 / 폐기 조회수
+ */
+@Slf4j
+@Component
+public class PostViewCountBuffer {
+
+    /**
+     * IN 절 최대 크기 (한 UPDATE에 묶는 게시글 수)
+     */
+    private static final int MAX_IN_CLAUSE_SIZE = 1000;
+
+    private final PostStatsRepository postStatsRepository;
+    private final int maxPendingPosts;
+
+    /**
+     * 게시글별 미반영 조회수 (Key: postId)
+     * - LongAdder: 인기 게시글에 요청이 몰려도 CAS 경합 없이 증가 (내부 striping)
+     */
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 직전 flush에서 분리한 LongAdder
+     * - 분리 직전에 참조를 얻은 요청의 늦은 증가분을 다음 flush에서 회수
+     */
+    private List<DetachedCounter> detached = new ArrayList<>();
+
+    private final LongAdder flushedViews = new LongAdder();
+    private final LongAdder droppedViews = new LongAdder();
+
+    public PostViewCountBuffer(
+            PostStatsRepository postStatsRepository,
+            MeterRegistry meterRegistry,
+            @Value("${post.view-count.max-pending-posts:100000}") int maxPendingPosts
+    ) {
+        this.postStatsRepository = postStatsRepository;
+        this.maxPendingPosts = maxPendingPosts;
+
+        Gauge.builder("post.view_buffer.pending.posts", this, PostViewCountBuffer::getPendingPostCount)
+                .description("조회수 미반영 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("post.view_buffer.pending", this, PostViewCountBuffer::getPendingViewCount)
+                .description("DB 미반영 조회수 합계")
+                .register(meterRegistry);
+        FunctionCounter.builder("post.view_buffer.flushed", flushedViews, LongAdder::sum)
+                .description("DB에 반영한 누적 조회수")
+                .register(meterRegistry);
+        FunctionCounter.builder("post.view_buffer.dropped", droppedViews, LongAdder::sum)
+                .description("버퍼 상한 초과로 폐기한 누적 조회수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가 (메모리 누적, DB 접근 없음)
+     *
+     * @param postId 게시글 ID
+     */
+    public void increment(Long postId) {
+        pending.computeIfAbsent(postId, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * 누적된 조회수를 DB에 반영
+     * - 스케줄: post.view-count.flush-interval-ms (기본 5초)
+     * - 증가분(delta)이 같은 게시글끼리 묶어 UPDATE 1회로 처리
+     */
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // delta별 그룹핑 (대부분 1~수십 범위에 몰리므로 UPDATE 수가 크게 줄어듦)
+        Map<Long, List<Long>> postIdsByDelta = new HashMap<>();
+        deltas.forEach((postId, delta) ->
+                postIdsByDelta.computeIfAbsent(delta, k -> new ArrayList<>()).add(postId));
+
+        long flushed = 0;
+        int statements = 0;
+        for (Map.Entry<Long, List<Long>> entry : postIdsByDelta.entrySet()) {
+            long delta = entry.getKey();
+            List<Long> postIds = entry.getValue();
+
+            for (int from = 0; from < postIds.size(); from += MAX_IN_CLAUSE_SIZE) {
+                List<Long> chunk = postIds.subList(from, Math.min(from + MAX_IN_CLAUSE_SIZE, postIds.size()));
+                try {
+                    postStatsRepository.addViewCounts(chunk, (int) delta);
+                    flushed += delta * chunk.size();
+                    statements++;
+                } catch (Exception e) {
+                    log.error("[ViewCount] 조회수 반영 실패, 버퍼로 복원: delta={}, posts={}, error={}",
+                            delta, chunk.size(), e.getMessage());
+                    restore(chunk, delta);
+                }
+            }
+        }
+
+        flushedViews.add(flushed);
+        log.debug("[ViewCount] 조회수 flush 완료: posts={}, views={}, statements={}",
+                deltas.size(), flushed, statements);
+    }
+
+    /**
+     * 종료 시 잔여 조회수 반영 (정상 종료 시 유실 없음)
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("[ViewCount] 종료 전 조회수 flush: pendingPosts={}", pending.size());
+        flush();
+        // 마지막 분리분의 늦은 증가분까지 회수
+        flush();
+    }
+
+    /**
+     * 버퍼 비우기
+     * 1. 직전 주기에 분리한 LongAdder의 늦은 증가분 회수
+     * 2. 현재 LongAdder 분리 (remove 후 sum)
+     */
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+
+        for (DetachedCounter counter : detached) {
+            long late = counter.adder().sum() - counter.drained();
+            if (late > 0) {
+                deltas.merge(counter.postId(), late, Long::sum);
+            }
+        }
+
+        List<DetachedCounter> nowDetached = new ArrayList<>(pending.size());
+        for (Long postId : pending.keySet()) {
+            LongAdder adder = pending.remove(postId);
+            if (adder == null) {
+                continue;
+            }
+            long sum = adder.sum();
+            nowDetached.add(new DetachedCounter(postId, adder, sum));
+            if (sum > 0) {
+                deltas.merge(postId, sum, Long::sum);
+            }
+        }
+        detached = nowDetached;
+
+        return deltas;
+    }
+
+    /**
+     * 반영 실패분을 버퍼로 복원
+     * - max-pending-posts 초과 시 폐기 (메모리 상한 = 유실 상한)
+     */
+    private void restore(List<Long> postIds, long delta) {
+        for (Long postId : postIds) {
+            if (pending.size() >= maxPendingPosts && !pending.containsKey(postId)) {
+                droppedViews.add(delta);
+                continue;
+            }
+            pending.computeIfAbsent(postId, k -> new LongAdder()).add(delta);
+        }
+    }
+
+    /**
+     * 미반영 게시글 수 (메트릭)
+     */
+    public int getPendingPostCount() {
+        return pending.size();
+    }
+
+    /**
+     * 미반영 조회수 합계 (메트릭)
+     */
+    public long getPendingViewCount() {
+        long total = 0;
+        for (LongAdder adder : pending.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    /**
+     * 누적 반영 조회수 (메트릭)
+     */
+    public long getFlushedViewCount() {
+        return flushedViews.sum();
+    }
+
+    /**
+     * 누적 폐기 조회수 (메트릭, DB 장애 + 버퍼 상한 초과 시)
+     */
+    public long getDroppedViewCount() {
+        return droppedViews.sum();
+    }
+
+    /**
+     * flush 시점에 분리된 카운터
+     *
+     * @param postId 게시글 ID
+     * @param adder 분리된 LongAdder
+     * @param drained 분리 시점에 이미 반영한 값
+     */
+    private record DetachedCounter(Long postId, LongAdder adder, long drained) {}
+}
@@ -15,7 +15,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -32,7 +31,6 @@ public class UserService {
     private final UserRepository userRepository;
     private final ImageRepository imageRepository;
     private final PasswordEncoder passwordEncoder;
-    private final ImageService imageService;
     
     /**
      * 사용자 프로필 조회 (FR-USER-001)
@@ -50,11 +48,13 @@ public class UserService {
      * 사용자 프로필 수정 (FR-USER-002)
      * - 본인만 수정 가능
      * - 닉네임 중복 확인
-     * - 프로필 이미지 업로드 (Multipart)
+     * - 프로필 이미지 변경 (업로드는 호출자가 트랜잭션 밖에서 먼저 수행 → 저장소 전송 동안 DB 커넥션 미점유)
+     *
+     * @param profileImageId 업로드된 새 프로필 이미지 ID (변경 없으면 null)
      */
     @Transactional
-    public UserResponse updateProfile(Long userId, Long authenticatedUserId, 
-                                     UpdateProfileRequest request) {
+    public UserResponse updateProfile(Long userId, Long authenticatedUserId,
+                                     UpdateProfileRequest request, Long profileImageId) {
         // 권한 확인
         if (!userId.equals(authenticatedUserId)) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS);
@@ -73,8 +73,8 @@ public class UserService {
             user.updateNickname(request.getNickname());
         }
         
-        // 프로필 이미지 업로드 및 변경 (있을 경우)
-        if (request.getProfileImage() != null && !request.getProfileImage().isEmpty()) {
+        // 프로필 이미지 변경 (있을 경우)
+        if (profileImageId != null) {
             // 1. 기존 이미지 TTL 복원 (고아 이미지 처리)
             Image oldImage = user.getProfileImage();
             if (oldImage != null) {
@@ -83,9 +83,8 @@ public class UserService {
                          oldImage.getImageId(), oldImage.getExpiresAt());
             }
 
-            // 2. 새 이미지 업로드
-            com.ktb.community.dto.response.ImageResponse imageResponse = imageService.uploadImage(request.getProfileImage());
-            Image newImage = imageRepository.findById(imageResponse.getImageId())
+            // 2. 업로드된 새 이미지 조회
+            Image newImage = imageRepository.findById(profileImageId)
                     .orElseThrow(() -> new BusinessException(ErrorCode.IMAGE_NOT_FOUND));
 
             // 3. 새 이미지 연결 (영구 보존)
@@ -4,7 +4,9 @@ import com.ktb.community.enums.ErrorCode;
 import com.ktb.community.exception.BusinessException;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
 
@@ -26,53 +28,94 @@ public class FileValidator {
     private static final byte[] GIF_MAGIC_87A = {0x47, 0x49, 0x46, 0x38, 0x37, 0x61}; // GIF87a
     private static final byte[] GIF_MAGIC_89A = {0x47, 0x49, 0x46, 0x38, 0x39, 0x61}; // GIF89a
 
+    // Magic Number 확인에 필요한 최대 헤더 길이 (PNG 8바이트, 직접 업로드 확인 시 범위 GET 길이)
+    public static final int MAGIC_HEADER_SIZE = 8;
+
+    // 업로드 스트림 버퍼 크기 (요청당 고정 힙 사용량)
+    private static final int STREAM_BUFFER_SIZE = 8 * 1024;
+
     /**
-     * 이미지 파일 검증
+     * 이미지 파일 검증 후 업로드용 스트림 반환
      * 1. MIME type 검증
-     * 2. Magic Number 검증
+     * 2. Magic Number 검증 (헤더 8바이트만 peek 후 reset → 파일 전체를 힙에 적재하지 않음)
+     *
+     * 반환 스트림은 파일 처음부터 읽히며, 호출자가 닫아야 함
      *
      * @param file 업로드된 파일
+     * @return 검증된 파일 스트림 (mark/reset 지원)
      * @throws BusinessException 유효하지 않은 파일 형식
      */
-    public static void validateImageFile(MultipartFile file) {
+    public static InputStream openValidatedStream(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new BusinessException(ErrorCode.INVALID_INPUT);
         }
 
         // 1. MIME type 검증
-        String contentType = file.getContentType();
-        if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType)) {
-            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
-        }
+        validateContentType(file.getContentType());
 
         // 2. Magic Number 검증
+        InputStream in = null;
         try {
-            byte[] bytes = file.getBytes();
-            if (!isValidImageMagicNumber(bytes)) {
+            in = new BufferedInputStream(file.getInputStream(), STREAM_BUFFER_SIZE);
+            in.mark(MAGIC_HEADER_SIZE);
+            byte[] header = in.readNBytes(MAGIC_HEADER_SIZE);
+            in.reset();
+
+            if (!isValidImageMagicNumber(header)) {
+                in.close();
                 throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
             }
+            return in;
         } catch (IOException e) {
+            closeQuietly(in);
             // 디버깅: 파일 읽기 실패 원인 로깅
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, 
-                "Failed to read file bytes: " + e.getMessage());
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                "Failed to read file header: " + e.getMessage());
         }
     }
 
+    /**
+     * MIME type 검증 (JPG/PNG/GIF)
+     *
+     * @param contentType 선언된 MIME type
+     * @throws BusinessException 허용되지 않은 형식
+     */
+    public static void validateContentType(String contentType) {
+        if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType)) {
+            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
+        }
+    }
+
+    /**
+     * Magic Number로 실제 이미지 형식 판별 (직접 업로드 확인: 저장소에서 헤더만 범위 GET)
+     *
+     * @param header 파일 헤더 바이트 배열 (MAGIC_HEADER_SIZE 이상)
+     * @return 판별된 MIME type (이미지가 아니면 null)
+     */
+    public static String detectImageType(byte[] header) {
+        if (header == null || header.length < MAGIC_HEADER_SIZE) {
+            return null;
+        }
+        if (startsWithMagic(header, JPEG_MAGIC)) {
+            return "image/jpeg";
+        }
+        if (startsWithMagic(header, PNG_MAGIC)) {
+            return "image/png";
+        }
+        if (startsWithMagic(header, GIF_MAGIC_87A) || startsWithMagic(header, GIF_MAGIC_89A)) {
+            return "image/gif";
+        }
+        return null;
+    }
+
     /**
      * Magic Number로 실제 이미지 파일인지 검증
      *
-     * @param bytes 파일 바이트 배열
+     * @param bytes 파일 헤더 바이트 배열
      * @return 유효한 이미지 여부
      */
     private static boolean isValidImageMagicNumber(byte[] bytes) {
-        if (bytes == null || bytes.length < 8) {
-            return false;
-        }
-
-        return startsWithMagic(bytes, JPEG_MAGIC)
-                || startsWithMagic(bytes, PNG_MAGIC)
-                || startsWithMagic(bytes, GIF_MAGIC_87A)
-                || startsWithMagic(bytes, GIF_MAGIC_89A);
+        return detectImageType(bytes) != null;
     }
 
     /**
@@ -94,4 +137,15 @@ public class FileValidator {
         }
         return true;
     }
+
+    private static void closeQuietly(InputStream in) {
+        if (in == null) {
+            return;
+        }
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // 검증 실패 경로: 원래 예외 우선
+        }
+    }
 }
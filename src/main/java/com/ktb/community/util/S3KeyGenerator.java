@@ -1,42 +1,87 @@
 package com.ktb.community.util;
 
+import com.ktb.community.enums.ErrorCode;
+import com.ktb.community.exception.BusinessException;
+
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * S3 키 생성 유틸리티
  * 날짜 기반 디렉토리 구조 + UUID 파일명
+ * 확장자는 검증된 MIME type에서 결정 (클라이언트 파일명의 확장자는 사용하지 않음)
  */
 public class S3KeyGenerator {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM/dd");
 
+    // 허용 MIME type별 확장자 (FileValidator 허용 형식과 동일)
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif"
+    );
+
     /**
      * S3 키 생성
      * 형식: images/2025/10/11/{UUID}.{extension}
      *
-     * @param originalFilename 원본 파일명
+     * @param contentType 검증된 MIME type (Magic Number 판별 결과 또는 검증된 선언 형식)
      * @return S3 키
+     * @throws BusinessException 허용되지 않은 형식
      */
-    public static String generateKey(String originalFilename) {
+    public static String generateKey(String contentType) {
         String datePath = LocalDate.now().format(DATE_FORMATTER);
         String uuid = UUID.randomUUID().toString();
-        String extension = extractExtension(originalFilename);
-        
+        String extension = extensionOf(contentType);
+
         return String.format("images/%s/%s%s", datePath, uuid, extension);
     }
 
     /**
-     * 파일 확장자 추출 (점 포함)
+     * 직접 업로드 대기 S3 키 생성 (presigned PUT 대상)
+     * 형식: uploads/2025/10/11/{UUID}.{extension}
+     * 확인 시 images/ 키로 복사 후 삭제, 확인 이후 재업로드로 남는 객체는 버킷 수명 주기 규칙(uploads/)으로 정리
+     *
+     * @param contentType 검증된 선언 MIME type (서명 URL에 고정되는 형식)
+     * @return S3 키
+     * @throws BusinessException 허용되지 않은 형식
+     */
+    public static String generateUploadKey(String contentType) {
+        return "uploads/" + generateKey(contentType).substring("images/".length());
+    }
+
+    /**
+     * 리사이즈 변형 S3 키 생성 (원본 키에서 파생)
+     * 형식: images/2025/10/11/{UUID}_{variant}.{extension}
+     *
+     * @param originalKey 원본 S3 키
+     * @param variant 변형 이름 (예: "thumbnail", "medium")
+     * @return 변형 S3 키
+     */
+    public static String generateVariantKey(String originalKey, String variant) {
+        int slashIndex = originalKey.lastIndexOf('/');
+        int dotIndex = originalKey.lastIndexOf('.');
+        if (dotIndex <= slashIndex) {
+            return originalKey + "_" + variant;
+        }
+        return originalKey.substring(0, dotIndex) + "_" + variant + originalKey.substring(dotIndex);
+    }
+
+    /**
+     * MIME type → 확장자 (점 포함)
      *
-     * @param filename 파일명
+     * @param contentType MIME type
      * @return 확장자 (예: ".jpg", ".png")
+     * @throws BusinessException 허용되지 않은 형식
      */
-    private static String extractExtension(String filename) {
-        if (filename == null || !filename.contains(".")) {
-            return "";
+    private static String extensionOf(String contentType) {
+        String extension = contentType == null ? null : EXTENSIONS.get(contentType);
+        if (extension == null) {
+            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
         }
-        return filename.substring(filename.lastIndexOf("."));
+        return extension;
     }
 }
@@ -0,0 +1,31 @@
+package com.ktb.community.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 유틸리티
+ * 캐시 무효화/카운터 반영 등 커밋 이후에만 수행해야 하는 작업 등록
+ */
+public class TransactionUtils {
+
+    /**
+     * 트랜잭션 커밋 후 실행
+     * - 롤백 시 실행되지 않음
+     * - 트랜잭션 밖에서 호출 시 즉시 실행
+     *
+     * @param action 커밋 후 실행할 작업
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,115 @@
+package com.ktb.community.config;
+
+import com.ktb.community.dto.response.UserResponse;
+import com.ktb.community.entity.User;
+import com.ktb.community.enums.ErrorCode;
+import com.ktb.community.enums.UserRole;
+import com.ktb.community.exception.BusinessException;
+import com.ktb.community.repository.UserRepository;
+import com.ktb.community.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 읽기/쓰기 DataSource 분리 통합 테스트 (H2 인스턴스 2개)
+ * - primary에만 사용자 저장 (replica는 스키마만 존재 = 복제 지연 상태)
+ * - JPA 경로(JpaTransactionManager + Hibernate)에서 readOnly 트랜잭션이 replica로 가는지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_it_primary;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "datasource.routing.enabled=true",
+        "spring.datasource.replica.url=jdbc:h2:mem:routing_it_replica;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@DisplayName("읽기/쓰기 DataSource 분리 통합 테스트")
+class DataSourceRoutingIntegrationTest {
+
+    private static boolean replicaInitialized;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        if (!replicaInitialized) {
+            new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(replicaDataSource);
+            replicaInitialized = true;
+        }
+
+        user = userRepository.save(User.builder()
+                .email("routing@example.com")
+                .passwordHash("hashedPassword")
+                .nickname("routing")
+                .role(UserRole.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        userRepository.deleteById(user.getUserId());
+    }
+
+    @Test
+    @DisplayName("기본 DataSource는 지연 커넥션 프록시 (라우팅 시점 = 첫 쿼리)")
+    void dataSource_IsLazyRoutingProxy() {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource())
+                .isInstanceOf(ReplicationRoutingDataSource.class);
+    }
+
+    @Test
+    @DisplayName("readOnly 조회 - replica에 없는 사용자는 USER_NOT_FOUND")
+    void getProfile_ReadsFromReplica() {
+        assertThatThrownBy(() -> userService.getProfile(user.getUserId()))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.USER_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("read-your-writes - 본인 쓰기 커밋 직후 readOnly 조회는 primary")
+    void getProfile_AfterOwnWrite_ReadsFromPrimary() {
+        // Given - 본인 인증 상태에서 쓰기 트랜잭션 커밋
+        authenticate(user.getUserId());
+        userRepository.save(user);
+
+        // When
+        UserResponse response = userService.getProfile(user.getUserId());
+
+        // Then
+        assertThat(response.getUserId()).isEqualTo(user.getUserId());
+    }
+
+    private static void authenticate(Long userId) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                String.valueOf(userId), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+}
@@ -0,0 +1,208 @@
+package com.ktb.community.config;
+
+import com.ktb.community.config.RateLimitBucketStore.ClientKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JdbcRateLimitBucketStore 테스트
+ * 같은 H2 DB를 공유하는 애플리케이션 컨텍스트 여러 개 = 다중 인스턴스 배포
+ */
+@DisplayName("JdbcRateLimitBucketStore 테스트")
+class JdbcRateLimitBucketStoreTest {
+
+    private static final ClientKey LOGIN_KEY =
+            new ClientKey("com.ktb.community.controller.AuthController.login", "192.168.1.1", null);
+
+    private final DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:ratelimit;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+
+    private final List<AnnotationConfigApplicationContext> contexts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS rate_limit_buckets ("
+                + "id VARCHAR(64) PRIMARY KEY, state BLOB)");
+        jdbcTemplate.execute("DELETE FROM rate_limit_buckets");
+    }
+
+    @AfterEach
+    void tearDown() {
+        contexts.forEach(AnnotationConfigApplicationContext::close);
+    }
+
+    @Test
+    @DisplayName("다중 인스턴스 - 인스턴스 수와 무관하게 전체 한도 유지")
+    void multipleInstances_ShareLimit() {
+        // Given - 3개 인스턴스, 선취 없음
+        List<RateLimitBucketStore> stores = List.of(
+                startInstance("rate-limit.jdbc.prefetch-tokens=1"),
+                startInstance("rate-limit.jdbc.prefetch-tokens=1"),
+                startInstance("rate-limit.jdbc.prefetch-tokens=1"));
+
+        // When - 인스턴스를 번갈아 가며 10회씩 요청 (분당 5회 제한)
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            for (RateLimitBucketStore store : stores) {
+                if (store.tryConsume(LOGIN_KEY, 5).consumed()) {
+                    allowed++;
+                }
+            }
+        }
+
+        // Then - 인스턴스별 5회(총 15회)가 아닌 전체 5회
+        assertThat(allowed).isEqualTo(5);
+        assertThat(rowCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 선취 - 전체 한도를 넘지 않고 남김없이 소진")
+    void prefetch_NeverExceedsLimit() {
+        // Given - 분당 100회 → 선취량 min(20, 100 / 10) = 10
+        List<RateLimitBucketStore> stores = List.of(
+                startInstance("rate-limit.jdbc.prefetch-tokens=20"),
+                startInstance("rate-limit.jdbc.prefetch-tokens=20"),
+                startInstance("rate-limit.jdbc.prefetch-tokens=20"));
+
+        // When - 각 인스턴스가 거절될 때까지 번갈아 요청
+        int allowed = 0;
+        for (int i = 0; i < 100; i++) {
+            for (RateLimitBucketStore store : stores) {
+                if (store.tryConsume(LOGIN_KEY, 100).consumed()) {
+                    allowed++;
+                }
+            }
+        }
+
+        // Then
+        assertThat(allowed).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("토큰 선취 - 임대 만료 후 미사용분 반환, 간헐적 요청은 선취 없음 (전체 한도만큼 허용)")
+    void prefetch_ReturnsUnusedTokensAfterLease() throws InterruptedException {
+        // Given - 분당 100회 → 선취량 10, 임대 50ms
+        List<RateLimitBucketStore> stores = List.of(
+                startInstance("rate-limit.jdbc.prefetch-tokens=20", "rate-limit.jdbc.prefetch-lease-ms=50"),
+                startInstance("rate-limit.jdbc.prefetch-tokens=20", "rate-limit.jdbc.prefetch-lease-ms=50"),
+                startInstance("rate-limit.jdbc.prefetch-tokens=20", "rate-limit.jdbc.prefetch-lease-ms=50"));
+        ClientKey sporadicKey = new ClientKey(LOGIN_KEY.endpoint(), "192.168.1.2", null);
+
+        // When - 인스턴스마다 연속 2회 (선취 후 미사용분 남김), 다른 키는 1회만 → 임대 만료 후 거절될 때까지 요청
+        int allowed = 0;
+        int sporadicAllowed = 0;
+        for (RateLimitBucketStore store : stores) {
+            for (int i = 0; i < 2; i++) {
+                if (store.tryConsume(LOGIN_KEY, 100).consumed()) {
+                    allowed++;
+                }
+            }
+        }
+        if (stores.get(0).tryConsume(sporadicKey, 100).consumed()) {
+            sporadicAllowed++;
+        }
+
+        Thread.sleep(100);
+
+        for (int i = 0; i < 100; i++) {
+            for (RateLimitBucketStore store : stores) {
+                if (store.tryConsume(LOGIN_KEY, 100).consumed()) {
+                    allowed++;
+                }
+            }
+            if (stores.get(1).tryConsume(sporadicKey, 100).consumed()) {
+                sporadicAllowed++;
+            }
+        }
+
+        // Then - 미사용 선취분을 폐기하면 한도보다 적게 허용됨 (분 단위 리필 전)
+        assertThat(allowed).isEqualTo(100);
+        assertThat(sporadicAllowed).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("동시 요청 - 인스턴스 간 경쟁에도 한도 초과 없음")
+    void concurrentRequests_NeverExceedLimit() throws InterruptedException {
+        // Given
+        List<RateLimitBucketStore> stores = List.of(
+                startInstance("rate-limit.jdbc.prefetch-tokens=5"),
+                startInstance("rate-limit.jdbc.prefetch-tokens=5"));
+        int threadCount = 20;
+        int requestsPerThread = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // When - 200회 요청, 분당 50회 제한
+        for (int t = 0; t < threadCount; t++) {
+            RateLimitBucketStore store = stores.get(t % stores.size());
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < requestsPerThread; i++) {
+                        if (store.tryConsume(LOGIN_KEY, 50).consumed()) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertThat(allowed.get()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("행 키 - 클라이언트 키별 고정 길이 SHA-256")
+    void rowKey_FixedLengthPerClient() {
+        ClientKey user = new ClientKey(LOGIN_KEY.endpoint(), LOGIN_KEY.ip(), "1");
+        ClientKey longIp = new ClientKey(LOGIN_KEY.endpoint(), "1".repeat(1000), null);
+
+        assertThat(JdbcRateLimitBucketStore.toRowKey(LOGIN_KEY)).hasSize(64);
+        assertThat(JdbcRateLimitBucketStore.toRowKey(longIp)).hasSize(64);
+        assertThat(JdbcRateLimitBucketStore.toRowKey(LOGIN_KEY))
+                .isEqualTo(JdbcRateLimitBucketStore.toRowKey(
+                        new ClientKey(LOGIN_KEY.endpoint(), LOGIN_KEY.ip(), null)))
+                .isNotEqualTo(JdbcRateLimitBucketStore.toRowKey(user));
+    }
+
+    /**
+     * rate-limit.store=jdbc 애플리케이션 컨텍스트 (인스턴스 1대)
+     */
+    private RateLimitBucketStore startInstance(String... properties) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        TestPropertyValues.of("rate-limit.store=jdbc").and(properties).applyTo(context);
+        context.registerBean(DataSource.class, () -> dataSource);
+        context.register(LocalRateLimitBucketStore.class, JdbcRateLimitBucketStore.class);
+        context.refresh();
+        contexts.add(context);
+        return context.getBean(RateLimitBucketStore.class);
+    }
+
+    private int rowCount() {
+        Integer count = new JdbcTemplate(dataSource)
+                .queryForObject("SELECT COUNT(*) FROM rate_limit_buckets", Integer.class);
+        return count != null ? count : 0;
+    }
+}
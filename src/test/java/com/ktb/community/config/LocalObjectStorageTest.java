@@ -0,0 +1,158 @@
+package com.ktb.community.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LocalObjectStorage 테스트
+ * - 저장 루트: JUnit 임시 디렉터리
+ */
+@DisplayName("로컬 객체 저장소 테스트")
+class LocalObjectStorageTest {
+
+    private static final byte[] CONTENT = {1, 2, 3, 4, 5};
+    private static final String KEY = "images/2025/10/20/uuid.jpg";
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalObjectStorage(root.toString(), "http://localhost:8080/files", "test-secret");
+    }
+
+    @Test
+    @DisplayName("저장/읽기 - 하위 디렉터리 생성, SHA-256 검증 통과, 임시 파일 미잔류")
+    void putAndGet() throws Exception {
+        // When
+        storage.put(KEY, new ByteArrayInputStream(CONTENT), CONTENT.length, "image/jpeg", sha256Hex(CONTENT));
+
+        // Then
+        try (InputStream in = storage.get(KEY)) {
+            assertThat(in.readAllBytes()).isEqualTo(CONTENT);
+        }
+        try (Stream<Path> files = Files.list(root.resolve("images/2025/10/20"))) {
+            assertThat(files).containsExactly(root.resolve(KEY));
+        }
+    }
+
+    @Test
+    @DisplayName("복사 - 대상 디렉터리 생성, 원본 유지, 없는 원본은 NoSuchFileException")
+    void copy() throws Exception {
+        // Given
+        String uploadKey = "uploads/2025/10/20/uuid.jpg";
+        storage.put(uploadKey, new ByteArrayInputStream(CONTENT), CONTENT.length, "image/jpeg", null);
+
+        // When
+        storage.copy(uploadKey, KEY);
+
+        // Then
+        assertThat(Files.readAllBytes(root.resolve(KEY))).isEqualTo(CONTENT);
+        assertThat(Files.exists(root.resolve(uploadKey))).isTrue();
+        try (Stream<Path> files = Files.list(root.resolve("images/2025/10/20"))) {
+            assertThat(files).containsExactly(root.resolve(KEY));
+        }
+        assertThatThrownBy(() -> storage.copy("uploads/missing.jpg", KEY)).isInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    @DisplayName("저장 - SHA-256 불일치 시 실패, 파일 미생성")
+    void put_HashMismatch() {
+        // When & Then
+        assertThatThrownBy(() -> storage.put(KEY, new ByteArrayInputStream(CONTENT), CONTENT.length,
+                "image/jpeg", "0".repeat(64)))
+                .isInstanceOf(IOException.class);
+        assertThat(Files.exists(root.resolve(KEY))).isFalse();
+    }
+
+    @Test
+    @DisplayName("앞부분 읽기 - 요청 길이만큼 + 전체 크기, 없는 객체는 NoSuchFileException")
+    void readPrefix() throws Exception {
+        // Given
+        storage.put(KEY, new ByteArrayInputStream(CONTENT), CONTENT.length, "image/jpeg", null);
+
+        // When
+        ObjectStorage.ObjectPrefix prefix = storage.readPrefix(KEY, 3);
+        ObjectStorage.ObjectPrefix whole = storage.readPrefix(KEY, 8);
+
+        // Then
+        assertThat(prefix.bytes()).containsExactly(1, 2, 3);
+        assertThat(prefix.totalSize()).isEqualTo(CONTENT.length);
+        assertThat(whole.bytes()).isEqualTo(CONTENT);
+        assertThatThrownBy(() -> storage.readPrefix("images/missing.jpg", 8)).isInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    @DisplayName("직접 업로드 서명 - 발급 조건과 다른 형식/크기/키, 만료 시 검증 실패")
+    void presignPut_Verify() {
+        // When
+        ObjectStorage.PresignedUpload upload = storage.presignPut(KEY, "image/jpeg", 5, Duration.ofMinutes(10));
+        String query = upload.url().substring(upload.url().indexOf('?') + 1);
+        long expires = Long.parseLong(query.split("&")[0].substring("expires=".length()));
+        String signature = query.split("&")[1].substring("signature=".length());
+
+        // Then
+        assertThat(upload.url()).startsWith(storage.url(KEY) + "?");
+        assertThat(upload.headers()).containsEntry("Content-Type", "image/jpeg");
+        assertThat(storage.verifyUpload(KEY, "image/jpeg", 5, expires, signature)).isTrue();
+        assertThat(storage.verifyUpload(KEY, "image/png", 5, expires, signature)).isFalse();
+        assertThat(storage.verifyUpload(KEY, "image/jpeg", 6, expires, signature)).isFalse();
+        assertThat(storage.verifyUpload("images/other.jpg", "image/jpeg", 5, expires, signature)).isFalse();
+        assertThat(storage.verifyUpload(KEY, "image/jpeg", 5, 0, signature)).isFalse();
+    }
+
+    @Test
+    @DisplayName("키 검증 - 저장 루트 밖 경로 거부")
+    void resolve_RejectsTraversal() {
+        assertThat(storage.resolve("../outside.jpg")).isNull();
+        assertThat(storage.resolve("images/../../outside.jpg")).isNull();
+        assertThat(storage.resolve("")).isNull();
+        assertThatThrownBy(() -> storage.get("../outside.jpg")).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - 없는 키도 성공 처리")
+    void deleteAll() throws Exception {
+        // Given
+        storage.put(KEY, new ByteArrayInputStream(CONTENT), CONTENT.length, "image/jpeg", null);
+
+        // When
+        Set<String> failedKeys = storage.deleteAll(List.of(KEY, "images/missing.jpg"));
+
+        // Then
+        assertThat(failedKeys).isEmpty();
+        assertThat(Files.exists(root.resolve(KEY))).isFalse();
+    }
+
+    @Test
+    @DisplayName("URL ↔ 키 변환 - 다른 저장소 URL은 null")
+    void urlAndKeyOf() {
+        assertThat(storage.url(KEY)).isEqualTo("http://localhost:8080/files/" + KEY);
+        assertThat(storage.keyOf(storage.url(KEY))).isEqualTo(KEY);
+        assertThat(storage.keyOf("https://test-bucket.s3.ap-northeast-2.amazonaws.com/" + KEY)).isNull();
+    }
+
+    private static String sha256Hex(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
@@ -0,0 +1,61 @@
+package com.ktb.community.config;
+
+import com.ktb.community.config.RateLimitBucketStore.ClientKey;
+import com.ktb.community.config.RateLimitBucketStore.ConsumeResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LocalRateLimitBucketStore 테스트
+ */
+@DisplayName("LocalRateLimitBucketStore 테스트")
+class LocalRateLimitBucketStoreTest {
+
+    private static final String LOGIN = "com.ktb.community.controller.AuthController.login";
+    private static final String LIKE = "com.ktb.community.controller.PostController.addLike";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final LocalRateLimitBucketStore bucketStore = new LocalRateLimitBucketStore(nanos::get);
+
+    @Test
+    @DisplayName("차감 결과 - 남은 토큰 수와 다음 토큰까지 대기 시간")
+    void tryConsume_ReturnsRemainingAndWait() {
+        ClientKey key = new ClientKey(LOGIN, "192.168.1.1", null);
+
+        ConsumeResult first = bucketStore.tryConsume(key, 2);
+        ConsumeResult second = bucketStore.tryConsume(key, 2);
+        ConsumeResult rejected = bucketStore.tryConsume(key, 2);
+
+        assertThat(first.consumed()).isTrue();
+        assertThat(first.remainingTokens()).isEqualTo(1);
+        assertThat(second.remainingTokens()).isZero();
+        assertThat(rejected.consumed()).isFalse();
+        assertThat(rejected.nanosToWaitForRefill()).isPositive();
+        assertThat(rejected.retryAfterSeconds()).isBetween(1L, 60L);
+    }
+
+    @Test
+    @DisplayName("활성 Bucket/제거 수 - 엔드포인트별 집계, 10분 미사용 만료 반영")
+    void countActiveBucketsAndEvictions_PerEndpoint() {
+        // Given
+        bucketStore.tryConsume(new ClientKey(LOGIN, "192.168.1.1", null), 5);
+        bucketStore.tryConsume(new ClientKey(LOGIN, "192.168.1.2", null), 5);
+        bucketStore.tryConsume(new ClientKey(LIKE, "192.168.1.1", "1"), 200);
+
+        assertThat(bucketStore.countActiveBuckets()).containsEntry(LOGIN, 2L).containsEntry(LIKE, 1L);
+        assertThat(bucketStore.countEvictions()).isEmpty();
+
+        // When - 10분 경과 후 좋아요 Bucket만 재사용
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(10) + 1);
+        bucketStore.tryConsume(new ClientKey(LIKE, "192.168.1.1", "1"), 200);
+
+        // Then
+        assertThat(bucketStore.countActiveBuckets()).doesNotContainKey(LOGIN).containsEntry(LIKE, 1L);
+        assertThat(bucketStore.countEvictions()).containsEntry(LOGIN, 2L);
+    }
+}
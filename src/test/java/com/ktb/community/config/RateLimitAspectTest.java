@@ -6,11 +6,11 @@ import io.github.bucket4j.Bucket;
 import jakarta.servlet.http.HttpServletRequest;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.Signature;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
@@ -19,6 +19,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.lang.reflect.Method;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,7 +33,6 @@ import static org.mockito.Mockito.*;
 @DisplayName("RateLimitAspect 테스트")
 class RateLimitAspectTest {
 
-    @InjectMocks
     private RateLimitAspect rateLimitAspect;
 
     @Mock
@@ -54,6 +55,8 @@ class RateLimitAspectTest {
 
     @BeforeEach
     void setUp() {
+        rateLimitAspect = new RateLimitAspect(new LocalRateLimitBucketStore(), new RateLimitMetrics());
+
         // RequestContextHolder 설정
         ServletRequestAttributes attributes = new ServletRequestAttributes(request);
         RequestContextHolder.setRequestAttributes(attributes);
@@ -279,4 +282,57 @@ class RateLimitAspectTest {
 
         assertThat(result).isEqualTo("success");
     }
+
+    @Test
+    @DisplayName("MethodSignature - 엔드포인트 이름은 Method별 1회만 계산")
+    void rateLimit_MethodSignature_EndpointResolvedOnce() throws Throwable {
+        // Given
+        MethodSignature methodSignature = mock(MethodSignature.class);
+        Method method = RateLimitAspectTest.class.getDeclaredMethod("rateLimit_MethodSignature_EndpointResolvedOnce");
+        when(pjp.getSignature()).thenReturn(methodSignature);
+        when(methodSignature.getMethod()).thenReturn(method);
+        when(methodSignature.getDeclaringTypeName()).thenReturn("com.ktb.community.controller.LikeController");
+        when(request.getRemoteAddr()).thenReturn("192.168.1.1");
+        when(rateLimit.requestsPerMinute()).thenReturn(2);
+        when(pjp.proceed()).thenReturn("success");
+
+        // When
+        rateLimitAspect.rateLimit(pjp, rateLimit);
+        rateLimitAspect.rateLimit(pjp, rateLimit);
+
+        // Then - 같은 키(버킷) 공유, 이름 계산은 1회
+        assertThatThrownBy(() -> rateLimitAspect.rateLimit(pjp, rateLimit))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_REQUESTS);
+        verify(methodSignature, times(1)).getDeclaringTypeName();
+        assertThat(rateLimitAspect.resolveEndpoint(methodSignature))
+            .isEqualTo("com.ktb.community.controller.LikeController.rateLimit_MethodSignature_EndpointResolvedOnce");
+    }
+
+    @Test
+    @DisplayName("필터 검사 완료 요청 - 재차감 없이 통과")
+    void rateLimit_CheckedByFilter_DoesNotConsume() throws Throwable {
+        // Given - 분당 2회 제한, 처음 3회는 RateLimitFilter가 이미 차감한 요청
+        when(pjp.getSignature()).thenReturn(signature);
+        when(signature.getDeclaringTypeName()).thenReturn("com.ktb.community.controller.AuthController");
+        when(signature.getName()).thenReturn("login");
+        when(request.getAttribute(RateLimitFilter.CHECKED_ENDPOINT_ATTRIBUTE)).thenReturn(
+            "com.ktb.community.controller.AuthController.login",
+            "com.ktb.community.controller.AuthController.login",
+            "com.ktb.community.controller.AuthController.login",
+            null);
+        when(request.getRemoteAddr()).thenReturn("192.168.1.1");
+        when(rateLimit.requestsPerMinute()).thenReturn(2);
+        when(pjp.proceed()).thenReturn("success");
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            rateLimitAspect.rateLimit(pjp, rateLimit);
+        }
+
+        // Then - 필터를 거치지 않은 요청은 Bucket 전체 용량 사용 가능
+        assertThat(rateLimitAspect.rateLimit(pjp, rateLimit)).isEqualTo("success");
+        assertThat(rateLimitAspect.rateLimit(pjp, rateLimit)).isEqualTo("success");
+        verify(pjp, times(5)).proceed();
+    }
 }
@@ -10,7 +10,6 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -40,7 +39,6 @@ import static org.mockito.Mockito.when;
 @DisplayName("RateLimit 동시성 테스트")
 class RateLimitConcurrencyTest {
 
-    @InjectMocks
     private RateLimitAspect rateLimitAspect;
 
     @Mock
@@ -57,6 +55,8 @@ class RateLimitConcurrencyTest {
 
     @BeforeEach
     void setUp() {
+        rateLimitAspect = new RateLimitAspect(new LocalRateLimitBucketStore(), new RateLimitMetrics());
+
         // RequestContextHolder 설정
         ServletRequestAttributes attributes = new ServletRequestAttributes(request);
         RequestContextHolder.setRequestAttributes(attributes);
@@ -0,0 +1,285 @@
+package com.ktb.community.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.community.security.JwtTokenProvider;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * RateLimitFilter 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitFilter 테스트")
+class RateLimitFilterTest {
+
+    private static final String FRONTEND_URL = "http://localhost:3000";
+    private static final String LOGIN_ENDPOINT = StubController.class.getName() + ".login";
+
+    @Mock
+    private RequestMappingHandlerMapping handlerMapping;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private RateLimitMetrics rateLimitMetrics;
+    private LocalRateLimitBucketStore bucketStore;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jwtTokenProvider = new JwtTokenProvider("testSecretKeytestSecretKeytestSecretKey", 1800000L, 604800000L);
+
+        Map<RequestMappingInfo, HandlerMethod> handlerMethods = new LinkedHashMap<>();
+        StubController controller = new StubController();
+        handlerMethods.put(
+                RequestMappingInfo.paths("/auth/login").methods(RequestMethod.POST).build(),
+                new HandlerMethod(controller, StubController.class.getMethod("login")));
+        handlerMethods.put(
+                RequestMappingInfo.paths("/posts/{postId}/like").methods(RequestMethod.POST).build(),
+                new HandlerMethod(controller, StubController.class.getMethod("addLike")));
+        handlerMethods.put(
+                RequestMappingInfo.paths("/posts").methods(RequestMethod.GET).build(),
+                new HandlerMethod(controller, StubController.class.getMethod("getPosts")));
+        when(handlerMapping.getHandlerMethods()).thenReturn(handlerMethods);
+
+        CorsConfiguration corsConfiguration = new CorsConfiguration();
+        corsConfiguration.setAllowedOrigins(List.of(FRONTEND_URL));
+        corsConfiguration.setAllowedMethods(List.of("GET", "POST"));
+        corsConfiguration.setAllowCredentials(true);
+        UrlBasedCorsConfigurationSource corsConfigurationSource = new UrlBasedCorsConfigurationSource();
+        corsConfigurationSource.registerCorsConfiguration("/**", corsConfiguration);
+
+        rateLimitMetrics = new RateLimitMetrics();
+        bucketStore = new LocalRateLimitBucketStore();
+        rateLimitFilter = new RateLimitFilter(
+                bucketStore,
+                rateLimitMetrics,
+                jwtTokenProvider,
+                handlerMapping,
+                corsConfigurationSource,
+                new ObjectMapper().findAndRegisterModules());
+        rateLimitFilter.afterSingletonsInstantiated();
+    }
+
+    @Test
+    @DisplayName("Rate limit 내 요청 - 체인 진행 및 검사 완료 표시")
+    void withinLimit_PassesAndMarksEndpoint() throws Exception {
+        // Given
+        MockHttpServletRequest request = request("POST", "/auth/login", "192.168.1.1");
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        rateLimitFilter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(request.getAttribute(RateLimitFilter.CHECKED_ENDPOINT_ATTRIBUTE)).isEqualTo(LOGIN_ENDPOINT);
+    }
+
+    @Test
+    @DisplayName("Rate limit 초과 - 체인 진행 없이 429 응답")
+    void exceedLimit_RejectsBeforeChain() throws Exception {
+        // Given - 분당 2회 제한
+        rateLimitFilter.doFilter(request("POST", "/auth/login", "192.168.1.1"),
+                new MockHttpServletResponse(), new MockFilterChain());
+        rateLimitFilter.doFilter(request("POST", "/auth/login", "192.168.1.1"),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        MockHttpServletRequest request = request("POST", "/auth/login", "192.168.1.1");
+        request.addHeader(HttpHeaders.ORIGIN, FRONTEND_URL);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        rateLimitFilter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getContentAsString()).contains("COMMON-004");
+        assertThat(response.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)).isEqualTo(FRONTEND_URL);
+        assertThat(request.getAttribute(RateLimitFilter.CHECKED_ENDPOINT_ATTRIBUTE)).isNull();
+    }
+
+    @Test
+    @DisplayName("Rate limit 헤더 - 남은 토큰 수, 초과 시 Retry-After")
+    void rateLimitHeaders_RemainingAndRetryAfter() throws Exception {
+        // Given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        MockHttpServletResponse third = new MockHttpServletResponse();
+
+        // When - 분당 2회 제한
+        rateLimitFilter.doFilter(request("POST", "/auth/login", "192.168.1.1"), first, new MockFilterChain());
+        rateLimitFilter.doFilter(request("POST", "/auth/login", "192.168.1.1"), second, new MockFilterChain());
+        rateLimitFilter.doFilter(request("POST", "/auth/login", "192.168.1.1"), third, new MockFilterChain());
+
+        // Then
+        assertThat(first.getHeader("X-RateLimit-Limit")).isEqualTo("2");
+        assertThat(first.getHeader("X-RateLimit-Remaining")).isEqualTo("1");
+        assertThat(first.getHeader(HttpHeaders.RETRY_AFTER)).isNull();
+        assertThat(second.getHeader("X-RateLimit-Remaining")).isEqualTo("0");
+        assertThat(third.getHeader("X-RateLimit-Remaining")).isEqualTo("0");
+        assertThat(Long.parseLong(third.getHeader(HttpHeaders.RETRY_AFTER))).isBetween(1L, 60L);
+    }
+
+    @Test
+    @DisplayName("엔드포인트 카운터 - 허용/거절 수와 활성 Bucket 수 집계")
+    void metrics_CountsPerEndpoint() throws Exception {
+        // Given - 2개 IP, 한 IP는 한도 초과
+        for (int i = 0; i < 3; i++) {
+            rateLimitFilter.doFilter(request("POST", "/auth/login", "192.168.1.1"),
+                    new MockHttpServletResponse(), new MockFilterChain());
+        }
+        rateLimitFilter.doFilter(request("POST", "/auth/login", "192.168.1.2"),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        // When
+        RateLimitMetrics.EndpointStats stats = rateLimitMetrics.snapshot(bucketStore).get(LOGIN_ENDPOINT);
+
+        // Then
+        assertThat(stats.requestsPerMinute()).isEqualTo(2);
+        assertThat(stats.allowed()).isEqualTo(3);
+        assertThat(stats.rejected()).isEqualTo(1);
+        assertThat(stats.rejectionRate()).isEqualTo(0.25);
+        assertThat(stats.activeBuckets()).isEqualTo(2);
+        assertThat(stats.evictions()).isZero();
+    }
+
+    @Test
+    @DisplayName("경로 변수 패턴 - 게시글이 달라도 같은 엔드포인트 한도 공유")
+    void pathVariablePattern_SharesEndpointLimit() throws Exception {
+        // Given
+        rateLimitFilter.doFilter(request("POST", "/posts/1/like", "192.168.1.1"),
+                new MockHttpServletResponse(), new MockFilterChain());
+        rateLimitFilter.doFilter(request("POST", "/posts/2/like", "192.168.1.1"),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        rateLimitFilter.doFilter(request("POST", "/posts/3/like", "192.168.1.1"), response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("규칙 없는 경로/메서드 - 제한 없이 통과")
+    void unmatchedRequest_PassesWithoutMark() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest otherPath = request("POST", "/auth/logout", "192.168.1.1");
+            MockHttpServletRequest otherMethod = request("GET", "/auth/login", "192.168.1.1");
+            MockFilterChain otherPathChain = new MockFilterChain();
+            MockFilterChain otherMethodChain = new MockFilterChain();
+
+            rateLimitFilter.doFilter(otherPath, new MockHttpServletResponse(), otherPathChain);
+            rateLimitFilter.doFilter(otherMethod, new MockHttpServletResponse(), otherMethodChain);
+
+            assertThat(otherPathChain.getRequest()).isNotNull();
+            assertThat(otherMethodChain.getRequest()).isNotNull();
+            assertThat(otherPath.getAttribute(RateLimitFilter.CHECKED_ENDPOINT_ATTRIBUTE)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 IP - 독립적인 Bucket")
+    void differentIps_IndependentBuckets() throws Exception {
+        // Given
+        rateLimitFilter.doFilter(request("POST", "/auth/login", "192.168.1.1"),
+                new MockHttpServletResponse(), new MockFilterChain());
+        rateLimitFilter.doFilter(request("POST", "/auth/login", "192.168.1.1"),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        rateLimitFilter.doFilter(request("POST", "/auth/login", "192.168.1.2"), new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("인증 사용자 - JWT subject별 독립적인 Bucket")
+    void authenticatedUsers_IndependentBuckets() throws Exception {
+        // Given
+        String user1Token = jwtTokenProvider.createAccessToken(1L, "user1@example.com", "USER");
+        String user2Token = jwtTokenProvider.createAccessToken(2L, "user2@example.com", "USER");
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest request = request("POST", "/auth/login", "192.168.1.1");
+            request.setCookies(new Cookie("access_token", user1Token));
+            rateLimitFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        MockHttpServletRequest user1Request = request("POST", "/auth/login", "192.168.1.1");
+        user1Request.setCookies(new Cookie("access_token", user1Token));
+        MockHttpServletRequest user2Request = request("POST", "/auth/login", "192.168.1.1");
+        user2Request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + user2Token);
+        MockHttpServletResponse user1Response = new MockHttpServletResponse();
+        MockFilterChain user2Chain = new MockFilterChain();
+
+        // When
+        rateLimitFilter.doFilter(user1Request, user1Response, new MockFilterChain());
+        rateLimitFilter.doFilter(user2Request, new MockHttpServletResponse(), user2Chain);
+
+        // Then
+        assertThat(user1Response.getStatus()).isEqualTo(429);
+        assertThat(user2Chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("CORS Preflight - 제한 대상 아님")
+    void preflight_NotLimited() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            rateLimitFilter.doFilter(request("OPTIONS", "/auth/login", "192.168.1.1"),
+                    new MockHttpServletResponse(), chain);
+            assertThat(chain.getRequest()).isNotNull();
+        }
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(ip);
+        return request;
+    }
+
+    /**
+     * @RateLimit 핸들러 (분당 2회)
+     */
+    static class StubController {
+
+        @RateLimit(requestsPerMinute = 2)
+        public void login() {
+        }
+
+        @RateLimit(requestsPerMinute = 2)
+        public void addLike() {
+        }
+
+        public void getPosts() {
+        }
+    }
+}
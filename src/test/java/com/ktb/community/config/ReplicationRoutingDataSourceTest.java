@@ -0,0 +1,142 @@
+package com.ktb.community.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReplicationRoutingDataSource 테스트
+ * - H2 인메모리 DB 2개 (primary/replica)에 각각 다른 표식 행 → 조회 결과로 라우팅 대상 확인
+ * - 운영과 동일하게 LazyConnectionDataSourceProxy로 감싸 트랜잭션 매니저와 함께 사용
+ */
+@DisplayName("읽기/쓰기 DataSource 라우팅 테스트")
+class ReplicationRoutingDataSourceTest {
+
+    private static final String WHERE_AM_I = "SELECT name FROM routing_marker";
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate writeTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = markedDatabase("routing_primary", "primary");
+        DataSource replica = markedDatabase("routing_replica", "replica");
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), 100, ticker::get);
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primary, replica, tracker));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        writeTx = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션 → replica")
+    void readOnlyTransaction_RoutesToReplica() {
+        assertThat(readOnlyTx.execute(status -> whereAmI())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션/트랜잭션 밖 → primary")
+    void writeTransactionAndNoTransaction_RouteToPrimary() {
+        assertThat(writeTx.execute(status -> whereAmI())).isEqualTo("primary");
+        assertThat(whereAmI()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("read-your-writes - 쓰기 커밋한 사용자의 읽기는 window 동안 primary, 다른 사용자는 replica")
+    void readYourWrites_WriterReadsFromPrimaryWithinWindow() {
+        // Given
+        authenticate("1");
+        writeTx.executeWithoutResult(status -> whereAmI());
+
+        // When & Then
+        assertThat(readOnlyTx.execute(status -> whereAmI())).isEqualTo("primary");
+
+        authenticate("2");
+        assertThat(readOnlyTx.execute(status -> whereAmI())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("read-your-writes - window 경과 후 replica")
+    void readYourWrites_ExpiresAfterWindow() {
+        // Given
+        authenticate("1");
+        writeTx.executeWithoutResult(status -> whereAmI());
+
+        // When
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(6));
+
+        // Then
+        assertThat(readOnlyTx.execute(status -> whereAmI())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("read-your-writes - 롤백된 쓰기는 기록하지 않음")
+    void readYourWrites_IgnoresRolledBackWrite() {
+        // Given
+        authenticate("1");
+        writeTx.executeWithoutResult(status -> {
+            whereAmI();
+            status.setRollbackOnly();
+        });
+
+        // When & Then
+        assertThat(readOnlyTx.execute(status -> whereAmI())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션이 쓰기 트랜잭션에 참여하면 primary 커넥션 공유")
+    void readOnlyJoiningWriteTransaction_StaysOnPrimary() {
+        String joined = writeTx.execute(status -> readOnlyTx.execute(inner -> whereAmI()));
+
+        assertThat(joined).isEqualTo("primary");
+    }
+
+    private String whereAmI() {
+        return jdbcTemplate.queryForObject(WHERE_AM_I, String.class);
+    }
+
+    private static void authenticate(String userId) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                userId, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    private static DataSource markedDatabase(String name, String marker) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS routing_marker (name VARCHAR(20))");
+        jdbc.update("DELETE FROM routing_marker");
+        jdbc.update("INSERT INTO routing_marker (name) VALUES (?)", marker);
+        return dataSource;
+    }
+}
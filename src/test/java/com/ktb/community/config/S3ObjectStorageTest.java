@@ -0,0 +1,74 @@
+package com.ktb.community.config;
+
+import com.ktb.community.support.InMemoryS3Client;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * S3ObjectStorage 테스트 (InMemoryS3Client)
+ * - 없는 객체 예외가 LocalObjectStorage와 같은지 확인 (ObjectStorage 계약: NoSuchFileException)
+ */
+@DisplayName("S3 객체 저장소 테스트")
+class S3ObjectStorageTest {
+
+    private static final String KEY = "images/2025/10/20/uuid.jpg";
+
+    private InMemoryS3Client s3Client;
+    private S3ObjectStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = new InMemoryS3Client();
+        storage = s3Client.asObjectStorage();
+    }
+
+    @Test
+    @DisplayName("읽기 - 저장된 내용 반환, 없는 객체는 NoSuchFileException")
+    void get() throws Exception {
+        // Given
+        s3Client.put(KEY, new byte[]{1, 2, 3});
+
+        // When
+        byte[] content;
+        try (InputStream in = storage.get(KEY)) {
+            content = in.readAllBytes();
+        }
+
+        // Then
+        assertThat(content).containsExactly(1, 2, 3);
+        assertThatThrownBy(() -> storage.get("images/missing.jpg"))
+                .isInstanceOf(NoSuchFileException.class)
+                .hasMessage("images/missing.jpg");
+    }
+
+    @Test
+    @DisplayName("복사 - 원본 유지, 이후 원본 덮어쓰기는 사본에 영향 없음, 없는 원본은 NoSuchFileException")
+    void copy() throws Exception {
+        // Given
+        String uploadKey = "uploads/2025/10/20/uuid.jpg";
+        s3Client.put(uploadKey, new byte[]{1, 2, 3});
+
+        // When
+        storage.copy(uploadKey, KEY);
+        s3Client.put(uploadKey, new byte[]{9});
+
+        // Then
+        assertThat(s3Client.get(KEY)).containsExactly(1, 2, 3);
+        assertThatThrownBy(() -> storage.copy("uploads/missing.jpg", KEY))
+                .isInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    @DisplayName("앞부분 읽기 - 없는 객체는 NoSuchFileException")
+    void readPrefix_Missing() {
+        assertThatThrownBy(() -> storage.readPrefix("images/missing.jpg", 8))
+                .isInstanceOf(NoSuchFileException.class);
+    }
+}
@@ -0,0 +1,67 @@
+package com.ktb.community.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VirtualThreadPinningMonitor 테스트
+ * - 고정 재현: 가상 스레드가 클래스 초기화(<clinit>) 중 블로킹 (JDK 24에서도 고정되는 경우)
+ * - JFR 스트림은 약 1초 주기로 이벤트 전달 → 최대 10초 폴링
+ */
+@DisplayName("가상 스레드 고정 감지 테스트")
+class VirtualThreadPinningMonitorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(meterRegistry, 10);
+        monitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    @DisplayName("클래스 초기화 중 블로킹 - 고정 지점(JDK 외 첫 프레임) 기록 + 고정 시간 Timer")
+    void detectsPinnedVirtualThread() throws Exception {
+        // When
+        Thread.ofVirtual().start(SlowInitializer::touch).join();
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (monitor.pinnedSites().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(monitor.pinnedSites().keySet()).anyMatch(site -> site.contains("SlowInitializer"));
+        assertThat(meterRegistry.get("jvm.threads.virtual.pinned").timer().count()).isPositive();
+    }
+
+    /**
+     * 초기화 중 100ms 블로킹하는 클래스 (최초 접근 스레드가 <clinit> 실행)
+     */
+    private static class SlowInitializer {
+
+        static {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        static void touch() {
+        }
+    }
+}
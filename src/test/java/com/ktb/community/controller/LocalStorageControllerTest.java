@@ -0,0 +1,198 @@
+package com.ktb.community.controller;
+
+import com.ktb.community.config.LocalObjectStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LocalStorageController 테스트 (컨트롤러 직접 호출, Mock 서블릿 요청/응답)
+ * - Mock 요청은 Tomcat sendfile 미지원 → FileChannel.transferTo 경로
+ */
+@DisplayName("로컬 저장소 서빙 테스트")
+class LocalStorageControllerTest {
+
+    private static final String KEY = "images/2025/10/20/uuid.png";
+    // PNG 시그니처 8바이트 + 본문 2바이트 (총 10바이트)
+    private static final byte[] CONTENT = {(byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A, 0x30, 0x31};
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStorage storage;
+    private LocalStorageController controller;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storage = new LocalObjectStorage(root.toString(), "http://localhost:8080/files", "test-secret");
+        storage.put(KEY, new ByteArrayInputStream(CONTENT), CONTENT.length, "image/png", null);
+        controller = new LocalStorageController(storage);
+    }
+
+    @Test
+    @DisplayName("전체 전송 - 200, ETag/Accept-Ranges/Content-Type/nosniff")
+    void serveFile_Full() throws Exception {
+        // When
+        MockHttpServletResponse response = serve(request());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(CONTENT);
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("\"a-");
+        assertThat(response.getHeader("X-Content-Type-Options")).isEqualTo("nosniff");
+    }
+
+    @Test
+    @DisplayName("Range - 단일 구간 206 + Content-Range, 접미 구간")
+    void serveFile_Range() throws Exception {
+        // Given
+        MockHttpServletRequest range = request();
+        range.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        MockHttpServletRequest suffix = request();
+        suffix.addHeader(HttpHeaders.RANGE, "bytes=-3");
+
+        // When
+        MockHttpServletResponse rangeResponse = serve(range);
+        MockHttpServletResponse suffixResponse = serve(suffix);
+
+        // Then
+        assertThat(rangeResponse.getStatus()).isEqualTo(206);
+        assertThat(rangeResponse.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(CONTENT, 2, 6));
+        assertThat(rangeResponse.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(suffixResponse.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(CONTENT, 7, 10));
+    }
+
+    @Test
+    @DisplayName("Range - 범위 밖 416, If-Range 불일치 시 전체 200")
+    void serveFile_UnsatisfiableAndIfRange() throws Exception {
+        // Given
+        MockHttpServletRequest outOfRange = request();
+        outOfRange.addHeader(HttpHeaders.RANGE, "bytes=10-");
+        MockHttpServletRequest staleIfRange = request();
+        staleIfRange.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+        staleIfRange.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+
+        // When
+        MockHttpServletResponse outOfRangeResponse = serve(outOfRange);
+        MockHttpServletResponse staleResponse = serve(staleIfRange);
+
+        // Then
+        assertThat(outOfRangeResponse.getStatus()).isEqualTo(416);
+        assertThat(outOfRangeResponse.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+        assertThat(staleResponse.getStatus()).isEqualTo(200);
+        assertThat(staleResponse.getContentAsByteArray()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("ETag - If-None-Match 일치 시 304 (본문 없음)")
+    void serveFile_NotModified() throws Exception {
+        // Given
+        String etag = serve(request()).getHeader(HttpHeaders.ETAG);
+        MockHttpServletRequest conditional = request();
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+        // When
+        MockHttpServletResponse response = serve(conditional);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("없는 파일/루트 밖 경로 - 404")
+    void serveFile_NotFound() throws Exception {
+        assertThat(serve(new MockHttpServletRequest("GET", "/files/images/missing.png")).getStatus()).isEqualTo(404);
+        assertThat(serve(new MockHttpServletRequest("GET", "/files/../secret.txt")).getStatus()).isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("미확인 uploads/ 키, 이미지가 아닌 내용/확장자 - 404 (nosniff)")
+    void serveFile_RejectsUnconfirmedAndNonImage() throws Exception {
+        // Given
+        byte[] html = "<script>alert(1)</script>".getBytes();
+        storage.put("uploads/2025/10/20/staged.png", new ByteArrayInputStream(CONTENT), CONTENT.length, "image/png", null);
+        storage.put("images/2025/10/20/page.png", new ByteArrayInputStream(html), html.length, "image/png", null);
+        storage.put("images/2025/10/20/page.html", new ByteArrayInputStream(CONTENT), CONTENT.length, "image/png", null);
+
+        // When
+        MockHttpServletResponse staged = serve(new MockHttpServletRequest("GET", "/files/uploads/2025/10/20/staged.png"));
+        MockHttpServletResponse htmlContent = serve(new MockHttpServletRequest("GET", "/files/images/2025/10/20/page.png"));
+        MockHttpServletResponse htmlExtension = serve(new MockHttpServletRequest("GET", "/files/images/2025/10/20/page.html"));
+
+        // Then
+        assertThat(staged.getStatus()).isEqualTo(404);
+        assertThat(htmlContent.getStatus()).isEqualTo(404);
+        assertThat(htmlExtension.getStatus()).isEqualTo(404);
+        assertThat(htmlExtension.getContentAsByteArray()).isEmpty();
+        assertThat(htmlExtension.getHeader("X-Content-Type-Options")).isEqualTo("nosniff");
+    }
+
+    @Test
+    @DisplayName("직접 업로드 - 서명 일치 시 저장 200, 선언과 다른 Content-Type은 403 (미저장)")
+    void uploadFile_SignedPut() throws Exception {
+        // Given
+        String key = "images/2025/10/20/direct.png";
+        byte[] content = {(byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A};
+        URI uploadUrl = URI.create(storage.presignPut(key, "image/png", content.length, Duration.ofMinutes(10)).url());
+
+        // When
+        MockHttpServletResponse forged = upload(uploadUrl, "image/gif", content);
+        MockHttpServletResponse response = upload(uploadUrl, "image/png", content);
+
+        // Then
+        assertThat(forged.getStatus()).isEqualTo(403);
+        assertThat(response.getStatus()).isEqualTo(200);
+        try (InputStream in = storage.get(key)) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    @DisplayName("Range 해석 - 다중 구간/형식 오류는 전체 전송(null)")
+    void parseRange_IgnoresUnsupported() {
+        assertThat(LocalStorageController.parseRange("bytes=0-1,3-4", 10)).isNull();
+        assertThat(LocalStorageController.parseRange("bytes=5-2", 10)).isNull();
+        assertThat(LocalStorageController.parseRange("items=0-1", 10)).isNull();
+        assertThat(LocalStorageController.parseRange("bytes=3-100", 10))
+                .isEqualTo(new LocalStorageController.ByteRange(3, 7));
+    }
+
+    private MockHttpServletResponse upload(URI uploadUrl, String contentType, byte[] content) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", uploadUrl.getPath());
+        for (String parameter : uploadUrl.getQuery().split("&")) {
+            String[] pair = parameter.split("=", 2);
+            request.addParameter(pair[0], pair[1]);
+        }
+        request.setContentType(contentType);
+        request.setContent(content);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.uploadFile(request, response);
+        return response;
+    }
+
+    private MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/files/" + KEY);
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.serveFile(request, response);
+        return response;
+    }
+}
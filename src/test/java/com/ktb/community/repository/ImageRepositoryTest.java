@@ -0,0 +1,158 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.config.JpaAuditingConfig;
+import com.ktb.community.entity.Image;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ImageRepository 고아 이미지 청크 조회/일괄 삭제, content_hash 조회, 변형 URL 반영 테스트
+ */
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@DisplayName("ImageRepository 테스트")
+class ImageRepositoryTest {
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private LocalDateTime now;
+    private Image expiredA;
+    private Image expiredB;
+    private Image expiredSameTime;
+    private Image notExpired;
+    private Image permanent;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.of(2025, 10, 20, 3, 0);
+        LocalDateTime sameTime = now.minusHours(1);
+
+        expiredA = persist("a.jpg", now.minusHours(3));
+        expiredB = persist("b.jpg", sameTime);
+        expiredSameTime = persist("c.jpg", sameTime);  // expires_at 동률 → image_id로 구분
+        notExpired = persist("d.jpg", now.plusHours(1));
+        permanent = persist("e.jpg", null);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Keyset 청크 조회 - (expires_at, image_id) 순서, 동률 시각도 누락/중복 없음")
+    void findExpired_KeysetChunks() {
+        // When
+        List<Image> first = imageRepository.findExpiredWithoutCursor(now, PageRequest.of(0, 2));
+        Image last = first.get(first.size() - 1);
+        List<Image> second = imageRepository.findExpiredAfterCursor(
+                now, last.getExpiresAt(), last.getImageId(), PageRequest.of(0, 2));
+
+        // Then
+        assertThat(first).extracting(Image::getImageId)
+                .containsExactly(expiredA.getImageId(), expiredB.getImageId());
+        assertThat(second).extracting(Image::getImageId)
+                .containsExactly(expiredSameTime.getImageId());
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - 만료 상태인 이미지만 삭제")
+    void deleteExpiredByIds_OnlyExpired() {
+        // When - 조회 이후 영구 보존/미만료 이미지가 섞여 들어온 경우
+        int deleted = imageRepository.deleteExpiredByIds(List.of(
+                expiredA.getImageId(),
+                expiredB.getImageId(),
+                notExpired.getImageId(),
+                permanent.getImageId()), now);
+
+        // Then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(imageRepository.findAll()).extracting(Image::getImageId)
+                .containsExactlyInAnyOrder(
+                        expiredSameTime.getImageId(),
+                        notExpired.getImageId(),
+                        permanent.getImageId());
+    }
+
+    @Test
+    @DisplayName("content_hash 조회 - 만료되지 않은 이미지만 재사용/공유 참조 대상")
+    void findByContentHash_OnlyLiveImages() {
+        // Given - x.jpg: 만료 행 + 연결된 행이 공유, y.jpg: 만료 행만
+        String sharedHash = "a".repeat(64);
+        String expiredOnlyHash = "b".repeat(64);
+        persistHashed("x.jpg", sharedHash, now.minusHours(1));
+        Image linked = persistHashed("x.jpg", sharedHash, null);
+        persistHashed("y.jpg", expiredOnlyHash, now.minusHours(2));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<Image> reusable = imageRepository.findLiveByContentHash(sharedHash, now, PageRequest.of(0, 1));
+        List<Image> expiredOnly = imageRepository.findLiveByContentHash(expiredOnlyHash, now, PageRequest.of(0, 1));
+        List<String> liveUrls = imageRepository.findLiveImageUrlsByContentHashes(
+                List.of(sharedHash, expiredOnlyHash), now);
+
+        // Then
+        assertThat(reusable).extracting(Image::getImageId).containsExactly(linked.getImageId());
+        assertThat(expiredOnly).isEmpty();
+        assertThat(liveUrls).containsExactly("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/x.jpg");
+    }
+
+    @Test
+    @DisplayName("변형 URL 반영 - 같은 객체를 공유하는 중복 행 포함, content_hash 없으면 해당 행만")
+    void updateVariants_IncludesDuplicateRows() {
+        // Given - source/duplicate: 같은 해시 + 같은 URL, otherUrl: 같은 해시지만 다른 객체
+        String hash = "c".repeat(64);
+        Image source = persistHashed("v.jpg", hash, now.plusHours(1));
+        Image duplicate = persistHashed("v.jpg", hash, now.plusHours(1));
+        Image otherUrl = persistHashed("w.jpg", hash, now.plusHours(1));
+        entityManager.flush();
+        entityManager.clear();
+        String url = source.getImageUrl();
+
+        // When
+        int shared = imageRepository.updateVariants(source.getImageId(), hash, url, url + "_t", url + "_m");
+        int unhashed = imageRepository.updateVariants(permanent.getImageId(), null, permanent.getImageUrl(),
+                "thumb", "medium");
+
+        // Then
+        assertThat(shared).isEqualTo(2);
+        assertThat(unhashed).isEqualTo(1);
+        assertThat(imageRepository.findById(duplicate.getImageId()).orElseThrow().getThumbnailUrl())
+                .isEqualTo(url + "_t");
+        assertThat(imageRepository.findById(otherUrl.getImageId()).orElseThrow().getThumbnailUrl()).isNull();
+    }
+
+    private Image persist(String filename, LocalDateTime expiresAt) {
+        Image image = Image.builder()
+                .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/" + filename)
+                .fileSize(1024)
+                .originalFilename(filename)
+                .expiresAt(expiresAt)
+                .build();
+        return entityManager.persist(image);
+    }
+
+    private Image persistHashed(String filename, String contentHash, LocalDateTime expiresAt) {
+        Image image = Image.builder()
+                .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/" + filename)
+                .fileSize(1024)
+                .originalFilename(filename)
+                .expiresAt(expiresAt)
+                .contentHash(contentHash)
+                .build();
+        return entityManager.persist(image);
+    }
+}
@@ -0,0 +1,115 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.config.JpaAuditingConfig;
+import com.ktb.community.entity.Post;
+import com.ktb.community.entity.User;
+import com.ktb.community.enums.PostStatus;
+import com.ktb.community.enums.UserRole;
+import com.ktb.community.enums.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostLikeRepository 단일 문장 좋아요/취소 테스트
+ * - INSERT IGNORE / 조건부 DELETE (H2 MySQL 모드)
+ */
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@DisplayName("PostLikeRepository 테스트")
+class PostLikeRepositoryTest {
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .email("test@example.com")
+                .passwordHash("hashedPassword")
+                .nickname("testuser")
+                .role(UserRole.USER)
+                .build();
+        entityManager.persist(user);
+
+        post = Post.builder()
+                .title("Test Post")
+                .content("Test Content")
+                .status(PostStatus.ACTIVE)
+                .user(user)
+                .build();
+        entityManager.persist(post);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("좋아요 추가 - 최초 1행, 중복은 uq_user_post로 0행")
+    void insertIfAbsent_DuplicateIgnored() {
+        // When
+        int first = postLikeRepository.insertIfAbsent(user.getUserId(), post.getPostId());
+        int second = postLikeRepository.insertIfAbsent(user.getUserId(), post.getPostId());
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(postLikeRepository.existsByUserUserIdAndPostPostId(user.getUserId(), post.getPostId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("좋아요 추가 - 비활성 게시글/사용자, 없는 게시글은 0행")
+    void insertIfAbsent_InactiveOrMissing_NoRow() {
+        // Given
+        User inactiveUser = User.builder()
+                .email("inactive@example.com")
+                .passwordHash("hashedPassword")
+                .nickname("inactive")
+                .role(UserRole.USER)
+                .build();
+        ReflectionTestUtils.setField(inactiveUser, "userStatus", UserStatus.INACTIVE);
+        entityManager.persist(inactiveUser);
+
+        Post deletedPost = Post.builder()
+                .title("Deleted Post")
+                .content("Deleted Content")
+                .status(PostStatus.DELETED)
+                .user(user)
+                .build();
+        entityManager.persist(deletedPost);
+        entityManager.flush();
+
+        // When & Then
+        assertThat(postLikeRepository.insertIfAbsent(inactiveUser.getUserId(), post.getPostId())).isZero();
+        assertThat(postLikeRepository.insertIfAbsent(user.getUserId(), deletedPost.getPostId())).isZero();
+        assertThat(postLikeRepository.insertIfAbsent(user.getUserId(), 999_999L)).isZero();
+        assertThat(postLikeRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 - 최초 1행, 반복 취소는 0행")
+    void deleteIfPresent_OnlyOnce() {
+        // Given
+        postLikeRepository.insertIfAbsent(user.getUserId(), post.getPostId());
+
+        // When
+        int first = postLikeRepository.deleteIfPresent(user.getUserId(), post.getPostId(), PostStatus.ACTIVE);
+        int second = postLikeRepository.deleteIfPresent(user.getUserId(), post.getPostId(), PostStatus.ACTIVE);
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(postLikeRepository.existsByUserUserIdAndPostPostId(user.getUserId(), post.getPostId())).isFalse();
+    }
+}
@@ -0,0 +1,113 @@
+package com.ktb.community.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * JwtAuthenticationFilter 단위 테스트
+ * - Claims만으로 인증 구성 (요청별 users 조회 없음)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter 테스트")
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private UserStatusCache userStatusCache;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider("testSecretKeytestSecretKeytestSecretKey", 1800000L, 604800000L);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userStatusCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("유효한 Access Token - subject/role claim으로 인증 설정")
+    void validAccessToken_SetsAuthenticationFromClaims() throws Exception {
+        // Given
+        String token = jwtTokenProvider.createAccessToken(7L, "test@example.com", "ADMIN");
+        when(userStatusCache.isAuthenticatable(7L, "ADMIN")).thenReturn(true);
+
+        // When
+        filter.doFilter(requestWithBearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("7");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("탈퇴 완료 사용자/권한 변경 전 토큰 - 인증 미설정")
+    void unavailableUser_NotAuthenticated() throws Exception {
+        // Given
+        String token = jwtTokenProvider.createAccessToken(7L, "test@example.com", "USER");
+        when(userStatusCache.isAuthenticatable(7L, "USER")).thenReturn(false);
+
+        // When
+        filter.doFilter(requestWithBearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("Refresh Token (role claim 없음) - 인증 미설정")
+    void refreshToken_NotAuthenticated() throws Exception {
+        // Given
+        String token = jwtTokenProvider.createRefreshToken(7L);
+
+        // When
+        filter.doFilter(requestWithBearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(userStatusCache, never()).isAuthenticatable(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("잘못된 토큰 - 인증 미설정, 다음 필터 진행")
+    void invalidToken_NotAuthenticated() throws Exception {
+        // Given
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(requestWithBearer("invalid.token.value"), new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+        verify(userStatusCache, never()).isAuthenticatable(anyLong(), anyString());
+    }
+
+    private MockHttpServletRequest requestWithBearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -1,5 +1,7 @@
 package com.ktb.community.security;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -175,4 +178,57 @@ class JwtTokenProviderTest {
         // Then
         assertThat(isExpired).isTrue();
     }
+
+    @Test
+    @DisplayName("Claims 파싱 - 반복 요청은 검증 토큰 캐시 적중")
+    void parseClaims_RepeatedToken_HitsCache() {
+        // Given
+        String token = jwtTokenProvider.createAccessToken(123L, "test@example.com", "USER");
+
+        // When
+        Optional<Claims> first = jwtTokenProvider.parseClaims(token);
+        Optional<Claims> second = jwtTokenProvider.parseClaims(token);
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(second.get().getSubject()).isEqualTo("123");
+        assertThat(second.get().get("role", String.class)).isEqualTo("USER");
+
+        CacheStats stats = jwtTokenProvider.getTokenCacheStats();
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Claims 파싱 - 검증 실패 토큰은 캐시하지 않음")
+    void parseClaims_InvalidToken_NotCached() {
+        // Given
+        JwtTokenProvider differentProvider = new JwtTokenProvider(
+                "differentSecretKeydifferentSecretKey", accessTokenValidity, refreshTokenValidity);
+        String forgedToken = differentProvider.createAccessToken(1L, "test@example.com", "ADMIN");
+
+        // When
+        Optional<Claims> first = jwtTokenProvider.parseClaims(forgedToken);
+        Optional<Claims> second = jwtTokenProvider.parseClaims(forgedToken);
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(jwtTokenProvider.getTokenCacheStats().hitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Claims 파싱 - 만료 토큰은 empty")
+    void parseClaims_ExpiredToken_ReturnsEmpty() {
+        // Given
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(testSecret, -1000L, refreshTokenValidity);
+        String expiredToken = expiredProvider.createAccessToken(1L, "test@example.com", "USER");
+
+        // When
+        Optional<Claims> claims = jwtTokenProvider.parseClaims(expiredToken);
+
+        // Then
+        assertThat(claims).isEmpty();
+    }
 }
@@ -0,0 +1,66 @@
+package com.ktb.community.security;
+
+import com.ktb.community.enums.UserRole;
+import com.ktb.community.enums.UserStatus;
+import com.ktb.community.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * UserStatusCache 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("사용자 상태 캐시 테스트")
+class UserStatusCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserStatusCache userStatusCache;
+
+    @BeforeEach
+    void setUp() {
+        userStatusCache = new UserStatusCache(userRepository, 60_000L, 100L);
+    }
+
+    @Test
+    @DisplayName("ACTIVE/INACTIVE + role 일치 - 허용, 1회 적재 후 캐시")
+    void isAuthenticatable_MatchingRole() {
+        // Given
+        when(userRepository.findAuthStateById(1L))
+                .thenReturn(Optional.of(new UserAuthState(UserStatus.ACTIVE, UserRole.USER)));
+        when(userRepository.findAuthStateById(2L))
+                .thenReturn(Optional.of(new UserAuthState(UserStatus.INACTIVE, UserRole.USER)));
+
+        // When & Then
+        assertThat(userStatusCache.isAuthenticatable(1L, "USER")).isTrue();
+        assertThat(userStatusCache.isAuthenticatable(1L, "USER")).isTrue();
+        assertThat(userStatusCache.isAuthenticatable(2L, "USER")).isTrue();
+        verify(userRepository, times(1)).findAuthStateById(1L);
+    }
+
+    @Test
+    @DisplayName("권한이 바뀐 사용자의 이전 토큰, DELETED/없는 사용자 - 거부")
+    void isAuthenticatable_RejectsStaleRoleAndDeleted() {
+        // Given
+        when(userRepository.findAuthStateById(1L))
+                .thenReturn(Optional.of(new UserAuthState(UserStatus.ACTIVE, UserRole.USER)));
+        when(userRepository.findAuthStateById(2L))
+                .thenReturn(Optional.of(new UserAuthState(UserStatus.DELETED, UserRole.USER)));
+        when(userRepository.findAuthStateById(3L)).thenReturn(Optional.empty());
+
+        // When & Then - ADMIN 토큰 발급 후 USER로 강등
+        assertThat(userStatusCache.isAuthenticatable(1L, "ADMIN")).isFalse();
+        assertThat(userStatusCache.isAuthenticatable(2L, "USER")).isFalse();
+        assertThat(userStatusCache.isAuthenticatable(3L, "USER")).isFalse();
+    }
+}
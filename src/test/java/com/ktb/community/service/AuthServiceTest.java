@@ -3,12 +3,14 @@ package com.ktb.community.service;
 import com.ktb.community.dto.request.LoginRequest;
 import com.ktb.community.dto.request.SignupRequest;
 import com.ktb.community.dto.response.AuthResponse;
+import com.ktb.community.entity.Image;
 import com.ktb.community.entity.User;
 import com.ktb.community.entity.UserToken;
 import com.ktb.community.enums.UserRole;
 import com.ktb.community.enums.UserStatus;
 import com.ktb.community.exception.BusinessException;
 import com.ktb.community.enums.ErrorCode;
+import com.ktb.community.repository.ImageRepository;
 import com.ktb.community.repository.UserRepository;
 import com.ktb.community.repository.UserTokenRepository;
 import com.ktb.community.security.JwtTokenProvider;
@@ -48,6 +50,9 @@ class AuthServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private ImageRepository imageRepository;
+
     @InjectMocks
     private AuthService authService;
 
@@ -83,7 +88,7 @@ class AuthServiceTest {
                 .thenReturn("refresh-token");
 
         // When: 회원가입 실행
-        AuthService.AuthResult result = authService.signup(request);
+        AuthService.AuthResult result = authService.signup(request, null);
 
         // Then: 토큰 검증
         assertThat(result).isNotNull();
@@ -102,6 +107,42 @@ class AuthServiceTest {
         verify(userTokenRepository).save(any(UserToken.class));// RefreshToken 저장 확인
     }
 
+    @Test
+    @DisplayName("회원가입 - 업로드 완료된 프로필 이미지를 ID로 연결 (영구 보존)")
+    void signup_WithProfileImageId_LinksImage() {
+        // Given
+        SignupRequest request = SignupRequest.builder()
+                .email("test@example.com")
+                .password("Test1234!")
+                .nickname("testuser")
+                .build();
+        Image image = Image.builder()
+                .imageUrl("https://test-bucket/profile.jpg")
+                .fileSize(1024)
+                .originalFilename("profile.jpg")
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build();
+
+        when(userRepository.existsByEmail(anyString())).thenReturn(false);
+        when(userRepository.existsByNickname(anyString())).thenReturn(false);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(imageRepository.findById(20L)).thenReturn(Optional.of(image));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            org.springframework.test.util.ReflectionTestUtils.setField(user, "userId", 1L);
+            return user;
+        });
+        when(jwtTokenProvider.createAccessToken(anyLong(), anyString(), anyString())).thenReturn("access-token");
+        when(jwtTokenProvider.createRefreshToken(anyLong())).thenReturn("refresh-token");
+
+        // When
+        AuthService.AuthResult result = authService.signup(request, 20L);
+
+        // Then
+        assertThat(result.user().getProfileImage()).isSameAs(image);
+        assertThat(image.getExpiresAt()).isNull();
+    }
+
     @Test
     @DisplayName("회원가입 실패 - 이메일 중복")
     void signup_EmailExists_ThrowsException() {
@@ -115,7 +156,7 @@ class AuthServiceTest {
         when(userRepository.existsByEmail(anyString())).thenReturn(true);
 
         // When & Then
-        assertThatThrownBy(() -> authService.signup(request))
+        assertThatThrownBy(() -> authService.signup(request, null))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EMAIL_ALREADY_EXISTS);
 
@@ -136,7 +177,7 @@ class AuthServiceTest {
         when(userRepository.existsByNickname(anyString())).thenReturn(true);
 
         // When & Then
-        assertThatThrownBy(() -> authService.signup(request))
+        assertThatThrownBy(() -> authService.signup(request, null))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NICKNAME_ALREADY_EXISTS);
 
@@ -21,13 +21,12 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -56,6 +55,9 @@ class CommentServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CountCacheService countCacheService;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -193,11 +195,9 @@ class CommentServiceTest {
                 .user(user)
                 .build();
 
-        Page<Comment> commentPage = new PageImpl<>(List.of(comment));
-
-        when(postRepository.existsByPostIdAndPostStatus(postId, PostStatus.ACTIVE)).thenReturn(true);
+        when(countCacheService.getCommentCount(postId, false)).thenReturn(OptionalLong.of(1L));
         when(commentRepository.findByPostIdAndStatusWithUser(eq(postId), eq(CommentStatus.ACTIVE), any(Pageable.class)))
-                .thenReturn(commentPage);
+                .thenReturn(List.of(comment));
 
         // When
         Map<String, Object> result = commentService.getComments(postId, offset, limit);
@@ -227,7 +227,7 @@ class CommentServiceTest {
         int offset = 0;
         int limit = 10;
 
-        when(postRepository.existsByPostIdAndPostStatus(postId, PostStatus.ACTIVE)).thenReturn(false);
+        when(countCacheService.getCommentCount(postId, false)).thenReturn(OptionalLong.empty());
 
         // When & Then
         assertThatThrownBy(() -> commentService.getComments(postId, offset, limit))
@@ -0,0 +1,156 @@
+package com.ktb.community.service;
+
+import com.ktb.community.enums.CommentStatus;
+import com.ktb.community.enums.PostStatus;
+import com.ktb.community.repository.CommentRepository;
+import com.ktb.community.repository.PostLikeRepository;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.PostStatsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CountCacheService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("total_count 캐시 테스트")
+class CountCacheServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private PostStatsRepository postStatsRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    private CountCacheService countCacheService;
+
+    @BeforeEach
+    void setUp() {
+        countCacheService = new CountCacheService(
+                postRepository, postLikeRepository, postStatsRepository, commentRepository, 600_000L, 1_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("게시글 수 - 최초 1회만 COUNT, 이후 캐시")
+    void getActivePostCount_LoadsOnce() {
+        // Given
+        when(postRepository.countByPostStatus(PostStatus.ACTIVE)).thenReturn(150L);
+
+        // When
+        long first = countCacheService.getActivePostCount(false);
+        long second = countCacheService.getActivePostCount(false);
+
+        // Then
+        assertThat(first).isEqualTo(150L);
+        assertThat(second).isEqualTo(150L);
+        verify(postRepository, times(1)).countByPostStatus(PostStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("게시글 수 - 작성/삭제 증감 반영 (COUNT 재조회 없음)")
+    void adjustActivePostCount_AppliesDelta() {
+        // Given
+        when(postRepository.countByPostStatus(PostStatus.ACTIVE)).thenReturn(10L);
+        countCacheService.getActivePostCount(false);
+
+        // When: 트랜잭션 밖이므로 즉시 반영
+        countCacheService.adjustActivePostCountAfterCommit(1);
+        countCacheService.adjustActivePostCountAfterCommit(1);
+        countCacheService.adjustActivePostCountAfterCommit(-1);
+
+        // Then
+        assertThat(countCacheService.getActivePostCount(false)).isEqualTo(11L);
+        verify(postRepository, times(1)).countByPostStatus(PostStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("좋아요 수 - 미적재 상태의 증감은 무시 (다음 조회 시 COUNT로 적재)")
+    void adjustLikedPostCount_NotLoaded_Ignored() {
+        // Given
+        Long userId = 1L;
+        countCacheService.adjustLikedPostCountAfterCommit(userId, 1);
+        when(postLikeRepository.countByUserIdAndPostStatus(userId, PostStatus.ACTIVE)).thenReturn(3L);
+
+        // When
+        long count = countCacheService.getLikedPostCount(userId, false);
+
+        // Then
+        assertThat(count).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("exact - 일반 사용자 요청은 캐시 값 반환")
+    void exact_NonAdmin_UsesCache() {
+        // Given
+        authenticate("ROLE_USER");
+        when(postRepository.countByPostStatus(PostStatus.ACTIVE)).thenReturn(5L);
+        countCacheService.getActivePostCount(false);
+
+        // When
+        countCacheService.getActivePostCount(true);
+
+        // Then
+        verify(postRepository, times(1)).countByPostStatus(PostStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("exact - ADMIN 요청은 COUNT 조회 후 캐시 갱신")
+    void exact_Admin_QueriesAndRefreshes() {
+        // Given
+        when(postRepository.countByPostStatus(PostStatus.ACTIVE)).thenReturn(5L, 7L);
+        countCacheService.getActivePostCount(false);
+        authenticate("ROLE_ADMIN");
+
+        // When
+        long exact = countCacheService.getActivePostCount(true);
+
+        // Then
+        assertThat(exact).isEqualTo(7L);
+        assertThat(countCacheService.getActivePostCount(false)).isEqualTo(7L);
+        verify(postRepository, times(2)).countByPostStatus(PostStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("댓글 수 - post_stats.comment_count 사용, 게시글 없으면 empty")
+    void getCommentCount_FromPostStats() {
+        // Given
+        when(postStatsRepository.findCommentCountByPostId(1L, PostStatus.ACTIVE)).thenReturn(Optional.of(12));
+        when(postStatsRepository.findCommentCountByPostId(999L, PostStatus.ACTIVE)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThat(countCacheService.getCommentCount(1L, false)).hasValue(12L);
+        assertThat(countCacheService.getCommentCount(999L, false)).isEmpty();
+        verify(commentRepository, never()).countByPostPostIdAndCommentStatus(anyLong(), any(CommentStatus.class));
+    }
+
+    private void authenticate(String role) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "1", null, List.of(new SimpleGrantedAuthority(role))));
+    }
+}
@@ -1,114 +1,487 @@
 package com.ktb.community.service;
 
+import com.ktb.community.entity.BatchCheckpoint;
 import com.ktb.community.entity.Image;
+import com.ktb.community.repository.BatchCheckpointRepository;
 import com.ktb.community.repository.ImageRepository;
+import com.ktb.community.support.InMemoryS3Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
  * ImageCleanupBatchService 테스트
+ * - 저장소: S3ObjectStorage + InMemoryS3Client (DeleteObjects 키 단위 실패 주입)
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("고아 이미지 배치 테스트")
 class ImageCleanupBatchServiceTest {
 
+    private static final String URL_PREFIX = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/";
+
     @Mock
     private ImageRepository imageRepository;
 
     @Mock
-    private S3Client s3Client;
+    private BatchCheckpointRepository checkpointRepository;
+
+    private InMemoryS3Client s3Client;
+
+    private SimpleMeterRegistry meterRegistry;
 
     private ImageCleanupBatchService batchService;
 
     @BeforeEach
     void setUp() {
-        // Self-injection 패턴: self를 null로 초기화 후 리플렉션으로 자기 자신 설정
-        batchService = new ImageCleanupBatchService(imageRepository, s3Client, null);
-        ReflectionTestUtils.setField(batchService, "self", batchService);
-        ReflectionTestUtils.setField(batchService, "bucketName", "test-bucket");
+        s3Client = new InMemoryS3Client();
+        meterRegistry = new SimpleMeterRegistry();
+        batchService = new ImageCleanupBatchService(imageRepository, checkpointRepository,
+                s3Client.asObjectStorage(), meterRegistry);
+        ReflectionTestUtils.setField(batchService, "chunkSize", 1000);
+        ReflectionTestUtils.setField(batchService, "parallelism", 1);
     }
 
     @Test
     @DisplayName("고아 이미지 배치 - 만료된 이미지 삭제 성공")
     void cleanupOrphanImages_Success() {
         // Given
-        Image expiredImage = Image.builder()
-                .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/2025/10/11/test.jpg")
-                .fileSize(1024)
-                .originalFilename("test.jpg")
-                .expiresAt(LocalDateTime.now().minusHours(2))
-                .build();
-
-        when(imageRepository.findByExpiresAtBefore(any(LocalDateTime.class)))
+        Image expiredImage = storedImage(1L, "images/2025/10/11/test.jpg", 2);
+        when(imageRepository.findExpiredWithoutCursor(any(LocalDateTime.class), any(Pageable.class)))
                 .thenReturn(List.of(expiredImage));
+        when(imageRepository.deleteExpiredByIds(anyCollection(), any(LocalDateTime.class))).thenReturn(1);
 
         // When
         batchService.cleanupOrphanImages();
 
         // Then
-        verify(imageRepository).findByExpiresAtBefore(any(LocalDateTime.class));
-        verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
-        verify(imageRepository).delete(expiredImage);
+        assertThat(s3Client.contains("images/2025/10/11/test.jpg")).isFalse();
+        verify(imageRepository).deleteExpiredByIds(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(imageRepository, never()).findExpiredAfterCursor(any(), any(), any(), any());
     }
 
     @Test
     @DisplayName("고아 이미지 배치 - 만료된 이미지 없음")
     void cleanupOrphanImages_NoExpiredImages() {
         // Given
-        when(imageRepository.findByExpiresAtBefore(any(LocalDateTime.class)))
+        when(imageRepository.findExpiredWithoutCursor(any(LocalDateTime.class), any(Pageable.class)))
                 .thenReturn(Collections.emptyList());
 
         // When
         batchService.cleanupOrphanImages();
 
         // Then
-        verify(imageRepository).findByExpiresAtBefore(any(LocalDateTime.class));
-        verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
-        verify(imageRepository, never()).delete(any(Image.class));
+        assertThat(s3Client.deleteObjectsBatchSizes()).isEmpty();
+        verify(imageRepository, never()).deleteExpiredByIds(anyCollection(), any(LocalDateTime.class));
     }
 
     @Test
-    @DisplayName("고아 이미지 배치 - 여러 이미지 동시 삭제")
+    @DisplayName("고아 이미지 배치 - 여러 이미지를 DeleteObjects 1회 + DELETE 1회로 삭제")
     void cleanupOrphanImages_MultipleImages() {
         // Given
-        Image image1 = Image.builder()
-                .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/test1.jpg")
-                .expiresAt(LocalDateTime.now().minusHours(2))
-                .build();
+        List<Image> images = List.of(
+                storedImage(1L, "images/test1.jpg", 3),
+                storedImage(2L, "images/test2.jpg", 2),
+                storedImage(3L, "images/test3.jpg", 1));
+        when(imageRepository.findExpiredWithoutCursor(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(images);
+        when(imageRepository.deleteExpiredByIds(anyCollection(), any(LocalDateTime.class))).thenReturn(3);
 
-        Image image2 = Image.builder()
-                .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/test2.jpg")
-                .expiresAt(LocalDateTime.now().minusHours(3))
-                .build();
+        // When
+        batchService.cleanupOrphanImages();
+
+        // Then
+        assertThat(s3Client.size()).isZero();
+        assertThat(s3Client.deleteObjectsBatchSizes()).containsExactly(3);
+        verify(imageRepository, times(1)).deleteExpiredByIds(eq(List.of(1L, 2L, 3L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Keyset 페이징 - 직전 청크 마지막 (expires_at, image_id) 이후 조회")
+    void cleanupOrphanImages_KeysetPaging() {
+        // Given - 청크 크기 2, 이미지 3개
+        ReflectionTestUtils.setField(batchService, "chunkSize", 2);
+        Image image1 = storedImage(1L, "images/test1.jpg", 3);
+        Image image2 = storedImage(2L, "images/test2.jpg", 2);
+        Image image3 = storedImage(3L, "images/test3.jpg", 1);
+
+        when(imageRepository.findExpiredWithoutCursor(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(image1, image2));
+        when(imageRepository.findExpiredAfterCursor(any(LocalDateTime.class), eq(image2.getExpiresAt()), eq(2L),
+                any(Pageable.class)))
+                .thenReturn(List.of(image3));
+        when(imageRepository.deleteExpiredByIds(anyCollection(), any(LocalDateTime.class))).thenReturn(2, 1);
+
+        // When
+        batchService.cleanupOrphanImages();
+
+        // Then - 마지막 청크가 청크 크기 미만이면 추가 조회 없음
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(imageRepository).findExpiredWithoutCursor(any(LocalDateTime.class), pageable.capture());
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(2);
+        assertThat(pageable.getValue().getOffset()).isZero();
+        verify(imageRepository, times(1)).findExpiredAfterCursor(any(), any(), any(), any());
+        assertThat(s3Client.deleteObjectsBatchSizes()).containsExactly(2, 1);
+        assertThat(s3Client.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("S3 키 단위 실패 - 실패한 이미지만 DB에 남김")
+    void cleanupOrphanImages_PerKeyFailure() {
+        // Given
+        s3Client.failOnKey("images/test2.jpg");
+        List<Image> images = List.of(
+                storedImage(1L, "images/test1.jpg", 3),
+                storedImage(2L, "images/test2.jpg", 2),
+                storedImage(3L, "images/test3.jpg", 1));
+        when(imageRepository.findExpiredWithoutCursor(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(images);
+        when(imageRepository.deleteExpiredByIds(anyCollection(), any(LocalDateTime.class))).thenReturn(2);
+
+        // When
+        batchService.cleanupOrphanImages();
+
+        // Then
+        assertThat(s3Client.contains("images/test2.jpg")).isTrue();
+        verify(imageRepository).deleteExpiredByIds(eq(List.of(1L, 3L)), any(LocalDateTime.class));
+    }
 
-        Image image3 = Image.builder()
-                .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/test3.jpg")
+    @Test
+    @DisplayName("S3 요청 실패 - 청크 DB 삭제 생략 (다음 배치에서 재시도)")
+    void cleanupChunk_S3RequestFailure() {
+        // Given
+        s3Client.failDeleteRequests(true);
+        List<Image> images = List.of(
+                storedImage(1L, "images/test1.jpg", 2),
+                storedImage(2L, "images/test2.jpg", 1));
+
+        // When
+        ImageCleanupBatchService.ChunkResult result = batchService.cleanupChunk(images, LocalDateTime.now());
+
+        // Then
+        assertThat(result.deleted()).isZero();
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(s3Client.size()).isEqualTo(2);
+        verify(imageRepository, never()).deleteExpiredByIds(anyCollection(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("S3 키 추출 실패 - 해당 이미지만 실패 처리")
+    void cleanupChunk_MalformedUrl() {
+        // Given
+        Image malformed = Image.builder()
+                .imageUrl("not-a-s3-url")
                 .expiresAt(LocalDateTime.now().minusHours(1))
                 .build();
+        ReflectionTestUtils.setField(malformed, "imageId", 9L);
+        List<Image> images = List.of(storedImage(1L, "images/test1.jpg", 2), malformed);
+        when(imageRepository.deleteExpiredByIds(anyCollection(), any(LocalDateTime.class))).thenReturn(1);
 
-        when(imageRepository.findByExpiresAtBefore(any(LocalDateTime.class)))
-                .thenReturn(List.of(image1, image2, image3));
+        // When
+        ImageCleanupBatchService.ChunkResult result = batchService.cleanupChunk(images, LocalDateTime.now());
+
+        // Then
+        assertThat(result.deleted()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(1);
+        verify(imageRepository).deleteExpiredByIds(eq(List.of(1L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("리사이즈 변형 - 원본과 함께 삭제, 변형 삭제 실패 시 행 유지")
+    void cleanupChunk_DeletesVariants() {
+        // Given
+        Image withVariants = storedImage(1L, "images/test1.jpg", 2);
+        s3Client.put("images/test1_thumbnail.jpg", new byte[]{1});
+        s3Client.put("images/test1_medium.jpg", new byte[]{1});
+        ReflectionTestUtils.setField(withVariants, "thumbnailUrl", URL_PREFIX + "images/test1_thumbnail.jpg");
+        ReflectionTestUtils.setField(withVariants, "mediumUrl", URL_PREFIX + "images/test1_medium.jpg");
+
+        Image variantFails = storedImage(2L, "images/test2.jpg", 1);
+        s3Client.put("images/test2_thumbnail.jpg", new byte[]{1});
+        ReflectionTestUtils.setField(variantFails, "thumbnailUrl", URL_PREFIX + "images/test2_thumbnail.jpg");
+        ReflectionTestUtils.setField(variantFails, "mediumUrl", URL_PREFIX + "images/test2.jpg");  // 원본 재사용
+        s3Client.failOnKey("images/test2_thumbnail.jpg");
+
+        when(imageRepository.deleteExpiredByIds(anyCollection(), any(LocalDateTime.class))).thenReturn(1);
 
         // When
-        batchService.cleanupOrphanImages();
+        ImageCleanupBatchService.ChunkResult result =
+                batchService.cleanupChunk(List.of(withVariants, variantFails), LocalDateTime.now());
+
+        // Then
+        assertThat(result.deleted()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(s3Client.deleteObjectsBatchSizes()).containsExactly(5);
+        assertThat(s3Client.contains("images/test1_thumbnail.jpg")).isFalse();
+        assertThat(s3Client.contains("images/test1_medium.jpg")).isFalse();
+        verify(imageRepository).deleteExpiredByIds(eq(List.of(1L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("중복 업로드 공유 객체 - 남은 참조가 있으면 행만 삭제, 없으면 S3 객체도 삭제")
+    void cleanupChunk_SharedObject_KeepsReferencedObject() {
+        // Given - shared.jpg는 만료되지 않은 다른 행이 참조 중, alone.jpg는 참조 없음
+        Image shared = storedImage(1L, "images/shared.jpg", 1);
+        ReflectionTestUtils.setField(shared, "contentHash", "a".repeat(64));
+        Image alone = storedImage(2L, "images/alone.jpg", 1);
+        ReflectionTestUtils.setField(alone, "contentHash", "b".repeat(64));
+
+        when(imageRepository.findLiveImageUrlsByContentHashes(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.of(URL_PREFIX + "images/shared.jpg"));
+        when(imageRepository.deleteExpiredByIds(anyCollection(), any(LocalDateTime.class))).thenReturn(2);
+
+        // When
+        ImageCleanupBatchService.ChunkResult result =
+                batchService.cleanupChunk(List.of(shared, alone), LocalDateTime.now());
 
         // Then
-        verify(imageRepository).findByExpiresAtBefore(any(LocalDateTime.class));
-        verify(s3Client, times(3)).deleteObject(any(DeleteObjectRequest.class));
-        verify(imageRepository, times(3)).delete(any(Image.class));
+        assertThat(result.deleted()).isEqualTo(2);
+        assertThat(result.failed()).isZero();
+        assertThat(s3Client.contains("images/shared.jpg")).isTrue();
+        assertThat(s3Client.contains("images/alone.jpg")).isFalse();
+        assertThat(s3Client.deleteObjectsBatchSizes()).containsExactly(3);  // 원본 + 파생 변형 키 2개
+        verify(imageRepository).deleteExpiredByIds(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("중복 업로드 마지막 참조 - 변형 URL이 NULL이어도 원본 키에서 파생한 변형 객체 삭제")
+    void cleanupChunk_LastDuplicateReference_DeletesDerivedVariants() {
+        // Given - 변형 생성 전에 저장된 중복 행 (변형 URL NULL), 변형 객체는 저장소에 존재
+        Image duplicate = storedImage(1L, "images/dup.jpg", 1);
+        ReflectionTestUtils.setField(duplicate, "contentHash", "c".repeat(64));
+        s3Client.put("images/dup_thumbnail.jpg", new byte[]{1});
+        s3Client.put("images/dup_medium.jpg", new byte[]{1});
+
+        when(imageRepository.findLiveImageUrlsByContentHashes(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+        when(imageRepository.deleteExpiredByIds(anyCollection(), any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        ImageCleanupBatchService.ChunkResult result =
+                batchService.cleanupChunk(List.of(duplicate), LocalDateTime.now());
+
+        // Then
+        assertThat(result.deleted()).isEqualTo(1);
+        assertThat(s3Client.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("DeleteObjects 키 제한 - 1,000개 초과 청크는 요청 분할")
+    void cleanupChunk_SplitsDeleteObjectsBy1000() {
+        // Given
+        List<Image> images = new ArrayList<>();
+        for (long id = 1; id <= 1500; id++) {
+            images.add(storedImage(id, "images/bulk/" + id + ".jpg", 1));
+        }
+        when(imageRepository.deleteExpiredByIds(anyCollection(), any(LocalDateTime.class))).thenReturn(1500);
+
+        // When
+        ImageCleanupBatchService.ChunkResult result = batchService.cleanupChunk(images, LocalDateTime.now());
+
+        // Then
+        assertThat(result.deleted()).isEqualTo(1500);
+        assertThat(s3Client.deleteObjectsBatchSizes()).containsExactly(1000, 500);
+        assertThat(s3Client.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 일괄 삭제 실패 - 청크 전체 실패 처리")
+    void cleanupChunk_DbFailure() {
+        // Given
+        List<Image> images = List.of(storedImage(1L, "images/test1.jpg", 1));
+        when(imageRepository.deleteExpiredByIds(anyCollection(), any(LocalDateTime.class)))
+                .thenThrow(new RuntimeException("DB down"));
+
+        // When
+        ImageCleanupBatchService.ChunkResult result = batchService.cleanupChunk(images, LocalDateTime.now());
+
+        // Then
+        assertThat(result.deleted()).isZero();
+        assertThat(result.failed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("병렬 실행 - 청크가 실제로 겹쳐 실행되고 상한 준수, 전체 삭제 후 체크포인트 삭제 + 메트릭")
+    void runCleanup_ParallelWithinCap() {
+        // Given - 청크 크기 2, 동시 실행 3, 이미지 10개 (청크 5개), 삭제 2건이 동시에 진행돼야 통과하는 저장소
+        ConcurrencyTrackingS3Client trackingS3Client = new ConcurrencyTrackingS3Client(2);
+        s3Client = trackingS3Client;
+        batchService = new ImageCleanupBatchService(imageRepository, checkpointRepository,
+                s3Client.asObjectStorage(), meterRegistry);
+        ReflectionTestUtils.setField(batchService, "chunkSize", 2);
+        ReflectionTestUtils.setField(batchService, "parallelism", 3);
+
+        List<Image> images = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            images.add(storedImage(id, "images/parallel/" + id + ".jpg", (int) (20 - id)));
+        }
+        stubKeysetPages(images, 2);
+
+        // When
+        ImageCleanupBatchService.CleanupReport report = batchService.runCleanup();
+
+        // Then
+        assertThat(report.chunks()).isEqualTo(5);
+        assertThat(report.deleted()).isEqualTo(10);
+        assertThat(report.failed()).isZero();
+        assertThat(report.imagesPerSecond()).isPositive();
+        assertThat(trackingS3Client.maxInFlight()).isBetween(2, 3);
+        assertThat(s3Client.size()).isZero();
+        assertThat(meterRegistry.get("image.cleanup.chunk").timer().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("image.cleanup.run").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("image.cleanup.images").tag("result", "deleted").counter().count())
+                .isEqualTo(10);
+        assertThat(meterRegistry.get("image.cleanup.images").tag("result", "failed").counter().count())
+                .isZero();
+        verify(checkpointRepository, atLeastOnce()).save(any(BatchCheckpoint.class));
+        verify(checkpointRepository).deleteById(ImageCleanupBatchService.JOB_NAME);
+    }
+
+    @Test
+    @DisplayName("체크포인트 재개 - 저장된 커서 이후부터 조회")
+    void runCleanup_ResumeFromCheckpoint() {
+        // Given - 이전 실행이 image 2까지 완료 후 중단
+        Image image3 = storedImage(3L, "images/test3.jpg", 1);
+        LocalDateTime cursorExpiresAt = LocalDateTime.now().minusHours(2);
+        BatchCheckpoint checkpoint = BatchCheckpoint.builder()
+                .jobName(ImageCleanupBatchService.JOB_NAME)
+                .cursorExpiresAt(cursorExpiresAt)
+                .cursorImageId(2L)
+                .build();
+        when(checkpointRepository.findById(ImageCleanupBatchService.JOB_NAME)).thenReturn(Optional.of(checkpoint));
+        when(imageRepository.findExpiredAfterCursor(any(LocalDateTime.class), eq(cursorExpiresAt), eq(2L),
+                any(Pageable.class)))
+                .thenReturn(List.of(image3));
+        when(imageRepository.deleteExpiredByIds(anyCollection(), any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        ImageCleanupBatchService.CleanupReport report = batchService.runCleanup();
+
+        // Then
+        assertThat(report.resumed()).isTrue();
+        assertThat(report.deleted()).isEqualTo(1);
+        assertThat(checkpoint.getCursorImageId()).isEqualTo(3L);
+        verify(imageRepository, never()).findExpiredWithoutCursor(any(), any());
+        verify(checkpointRepository).deleteById(ImageCleanupBatchService.JOB_NAME);
+    }
+
+    @Test
+    @DisplayName("체크포인트 추적 - 앞 청크가 모두 완료된 구간까지만 커서 전진")
+    void checkpointTracker_AdvancesOnlyContiguousPrefix() {
+        // Given
+        ImageCleanupBatchService.CheckpointTracker tracker = new ImageCleanupBatchService.CheckpointTracker(null);
+        Image last0 = storedImage(2L, "images/test2.jpg", 3);
+        Image last1 = storedImage(4L, "images/test4.jpg", 2);
+        Image last2 = storedImage(6L, "images/test6.jpg", 1);
+        tracker.register(0, last0);
+        tracker.register(1, last1);
+        tracker.register(2, last2);
+
+        // When & Then - 청크 1, 2가 먼저 끝나도 청크 0 완료 전에는 전진 없음
+        assertThat(tracker.complete(1)).isNull();
+        assertThat(tracker.complete(2)).isNull();
+        assertThat(tracker.hasCheckpoint()).isFalse();
+
+        BatchCheckpoint checkpoint = tracker.complete(0);
+        assertThat(checkpoint.getJobName()).isEqualTo(ImageCleanupBatchService.JOB_NAME);
+        assertThat(checkpoint.getCursorImageId()).isEqualTo(6L);
+        assertThat(checkpoint.getCursorExpiresAt()).isEqualTo(last2.getExpiresAt());
+    }
+
+    /**
+     * Keyset 페이지 스텁 (정렬된 이미지 목록을 커서 기준으로 분할)
+     */
+    private void stubKeysetPages(List<Image> sortedImages, int pageSize) {
+        when(imageRepository.findExpiredWithoutCursor(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(sortedImages.subList(0, Math.min(pageSize, sortedImages.size())));
+        when(imageRepository.findExpiredAfterCursor(any(LocalDateTime.class), any(LocalDateTime.class), any(Long.class),
+                any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    Long lastImageId = invocation.getArgument(2);
+                    int from = 0;
+                    while (from < sortedImages.size() && sortedImages.get(from).getImageId() <= lastImageId) {
+                        from++;
+                    }
+                    return sortedImages.subList(from, Math.min(from + pageSize, sortedImages.size()));
+                });
+        when(imageRepository.deleteExpiredByIds(anyCollection(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size());
+    }
+
+    /**
+     * S3에 업로드된 만료 이미지
+     */
+    private Image storedImage(Long imageId, String s3Key, int expiredHoursAgo) {
+        s3Client.put(s3Key, new byte[]{1, 2, 3});
+        Image image = Image.builder()
+                .imageUrl(URL_PREFIX + s3Key)
+                .fileSize(3)
+                .originalFilename(s3Key.substring(s3Key.lastIndexOf('/') + 1))
+                .expiresAt(LocalDateTime.now().minusHours(expiredHoursAgo))
+                .build();
+        ReflectionTestUtils.setField(image, "imageId", imageId);
+        return image;
+    }
+
+    /**
+     * DeleteObjects 동시 실행 수 기록 (요청마다 지연을 주어 청크 간 겹침 유도)
+     */
+    private static class ConcurrencyTrackingS3Client extends InMemoryS3Client {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        /**
+         * 지정 수의 삭제 요청이 동시에 진행될 때까지 대기 (순차 실행이면 시간 초과 후 진행 → maxInFlight 1)
+         */
+        private final CountDownLatch overlap;
+
+        ConcurrencyTrackingS3Client(int expectedOverlap) {
+            this.overlap = new CountDownLatch(expectedOverlap);
+        }
+
+        @Override
+        public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest request) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                overlap.countDown();
+                overlap.await(5, TimeUnit.SECONDS);
+                Thread.sleep(20);
+                return super.deleteObjects(request);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        int maxInFlight() {
+            return maxInFlight.get();
+        }
     }
 }
@@ -0,0 +1,418 @@
+package com.ktb.community.service;
+
+import com.ktb.community.dto.request.PresignedUploadRequest;
+import com.ktb.community.dto.response.ImageResponse;
+import com.ktb.community.dto.response.PresignedUploadResponse;
+import com.ktb.community.entity.Image;
+import com.ktb.community.enums.ErrorCode;
+import com.ktb.community.exception.BusinessException;
+import com.ktb.community.exception.ServiceUnavailableException;
+import com.ktb.community.repository.ImageRepository;
+import com.ktb.community.support.InMemoryS3Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ImageService 테스트
+ * - 저장소: S3ObjectStorage + InMemoryS3Client (putObject는 RequestBody 스트림을 끝까지 읽어 저장)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("이미지 업로드 테스트")
+class ImageServiceTest {
+
+    private static final byte[] JPEG_CONTENT = {
+            (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0x00, 0x10, 0x4A, 0x46, 0x49, 0x46, 0x00, 0x01
+    };
+    private static final byte[] PNG_CONTENT = {
+            (byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A, 0x00, 0x00, 0x00, 0x0D
+    };
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @Mock
+    private ImageVariantService imageVariantService;
+
+    private InMemoryS3Client s3Client;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ImageService imageService;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = new InMemoryS3Client();
+        meterRegistry = new SimpleMeterRegistry();
+        imageService = new ImageService(s3Client.asObjectStorage(),
+                imageRepository, imageVariantService,
+                new ImageUploadBulkhead(meterRegistry, 2, DataSize.ofMegabytes(64), 100, 1),
+                meterRegistry, DataSize.ofMegabytes(5), 600_000);
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 해시 계산 후 S3 스트리밍 전송 (getBytes 미호출), content_hash 저장")
+    void uploadImage_StreamsToS3() throws Exception {
+        // Given
+        MockMultipartFile file = spy(new MockMultipartFile("file", "photo.jpg", "image/jpeg", JPEG_CONTENT));
+        when(imageRepository.save(any(Image.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ImageResponse response = imageService.uploadImage(file);
+
+        // Then
+        String s3Key = response.getImageUrl().substring("https://test-bucket.s3.ap-northeast-2.amazonaws.com/".length());
+        assertThat(s3Client.get(s3Key)).isEqualTo(JPEG_CONTENT);
+        assertThat(response.getFileSize()).isEqualTo(JPEG_CONTENT.length);
+        assertThat(response.getExpiresAt()).isNotNull();
+        verify(file, never()).getBytes();
+        verify(file, times(2)).getInputStream();  // 검증+해시 1회, 전송 1회
+        verify(imageVariantService).generateAfterCommit(any(), eq(s3Key), eq("image/jpeg"), eq(sha256Hex(JPEG_CONTENT)));
+
+        ArgumentCaptor<Image> saved = ArgumentCaptor.forClass(Image.class);
+        verify(imageRepository).save(saved.capture());
+        assertThat(saved.getValue().getContentHash()).isEqualTo(sha256Hex(JPEG_CONTENT));
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 키 확장자/변형 형식은 파일명·선언 형식이 아닌 Magic Number 판별 형식")
+    void uploadImage_KeyExtensionFromDetectedType() {
+        // Given - 파일명 .html, 선언 image/png, 실제 내용 JPEG
+        MockMultipartFile file = new MockMultipartFile("file", "page.html", "image/png", JPEG_CONTENT);
+        when(imageRepository.save(any(Image.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ImageResponse response = imageService.uploadImage(file);
+
+        // Then
+        String s3Key = response.getImageUrl().substring("https://test-bucket.s3.ap-northeast-2.amazonaws.com/".length());
+        assertThat(s3Key).startsWith("images/").endsWith(".jpg");
+        verify(imageVariantService).generateAfterCommit(any(), eq(s3Key), eq("image/jpeg"), any());
+    }
+
+    @Test
+    @DisplayName("중복 업로드 - 같은 해시의 기존 이미지가 있으면 S3 전송 없이 객체/변형 URL 공유")
+    void uploadImageAsync_Duplicate_ReusesExistingObject() throws Exception {
+        // Given
+        String existingUrl = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/2025/10/20/existing.jpg";
+        Image existing = Image.builder()
+                .imageUrl(existingUrl)
+                .fileSize(JPEG_CONTENT.length)
+                .originalFilename("existing.jpg")
+                .contentHash(sha256Hex(JPEG_CONTENT))
+                .thumbnailUrl(existingUrl.replace(".jpg", "_thumbnail.jpg"))
+                .build();
+        when(imageRepository.findLiveByContentHash(eq(sha256Hex(JPEG_CONTENT)), any(), any()))
+                .thenReturn(List.of(existing));
+        when(imageRepository.save(any(Image.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ImageResponse response = imageService.uploadImageAsync(jpeg("again.jpg")).get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(response.getImageUrl()).isEqualTo(existingUrl);
+        assertThat(response.getThumbnailUrl()).isEqualTo(existingUrl.replace(".jpg", "_thumbnail.jpg"));
+        assertThat(response.getExpiresAt()).isNotNull();
+        assertThat(s3Client.size()).isZero();
+        verify(imageVariantService, never()).generateAfterCommit(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("중복 업로드 - 기존 이미지 변형 생성 전이면 공유 객체 기준으로 변형 생성 재예약")
+    void uploadImage_DuplicateWithoutVariants_SchedulesVariants() {
+        // Given
+        String existingUrl = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/2025/10/20/existing.jpg";
+        Image existing = Image.builder()
+                .imageUrl(existingUrl)
+                .fileSize(JPEG_CONTENT.length)
+                .originalFilename("existing.jpg")
+                .contentHash(sha256Hex(JPEG_CONTENT))
+                .build();
+        when(imageRepository.findLiveByContentHash(eq(sha256Hex(JPEG_CONTENT)), any(), any()))
+                .thenReturn(List.of(existing));
+        when(imageRepository.save(any(Image.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ImageResponse response = imageService.uploadImage(jpeg("again.jpg"));
+
+        // Then
+        assertThat(response.getImageUrl()).isEqualTo(existingUrl);
+        assertThat(s3Client.size()).isZero();
+        verify(imageVariantService).generateAfterCommit(any(), eq("images/2025/10/20/existing.jpg"),
+                eq("image/jpeg"), eq(sha256Hex(JPEG_CONTENT)));
+    }
+
+    @Test
+    @DisplayName("비동기 업로드 - 가상 스레드에서 S3 전송 후 저장, 단계별 지연 기록")
+    void uploadImageAsync_TransfersThenSaves() {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", JPEG_CONTENT);
+        when(imageRepository.save(any(Image.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ImageResponse response = imageService.uploadImageAsync(file).join();
+
+        // Then
+        assertThat(response.getImageUrl()).startsWith("https://test-bucket.s3.ap-northeast-2.amazonaws.com/");
+        assertThat(s3Client.size()).isEqualTo(1);
+        assertThat(meterRegistry.get("image.upload.latency").tag("phase", "storage").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("image.upload.latency").tag("phase", "db").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("격벽 - 동시 전송 한도 초과 시 짧은 대기 후 503 + Retry-After, 전송 완료 후 허가 반환")
+    void uploadImageAsync_RejectsWhenSaturated() throws Exception {
+        // Given - S3 전송이 끝나지 않는 상태로 한도(2)만큼 업로드 진행
+        BlockingS3Client blockingS3Client = new BlockingS3Client();
+        s3Client = blockingS3Client;
+        imageService = new ImageService(s3Client.asObjectStorage(),
+                imageRepository, imageVariantService,
+                new ImageUploadBulkhead(meterRegistry, 2, DataSize.ofMegabytes(64), 100, 1),
+                meterRegistry, DataSize.ofMegabytes(5), 600_000);
+        when(imageRepository.save(any(Image.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CompletableFuture<ImageResponse> first = imageService.uploadImageAsync(jpeg("a.jpg"));
+        CompletableFuture<ImageResponse> second = imageService.uploadImageAsync(jpeg("b.jpg"));
+        assertThat(blockingS3Client.started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // When & Then
+        assertThatThrownBy(() -> imageService.uploadImageAsync(jpeg("c.jpg")))
+                .isInstanceOf(BusinessException.class)
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SERVICE_UNAVAILABLE)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 1L);
+
+        blockingS3Client.release.countDown();
+        first.get(1, TimeUnit.SECONDS);
+        second.get(1, TimeUnit.SECONDS);
+        assertThat(imageService.uploadImageAsync(jpeg("d.jpg")).get(1, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - Magic Number 불일치 시 S3/DB 미호출")
+    void uploadImage_InvalidMagicNumber() {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "fake.jpg", "image/jpeg", "plain text body".getBytes());
+
+        // When & Then
+        assertThatThrownBy(() -> imageService.uploadImage(file))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_TYPE);
+        assertThat(s3Client.size()).isZero();
+        verify(imageRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 발급 - 대기 행 저장 + Content-Type 서명 포함 PUT URL")
+    void createPresignedUpload_SavesPendingImage() {
+        // Given
+        when(imageRepository.save(any(Image.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        PresignedUploadResponse response = imageService.createPresignedUpload(
+                new PresignedUploadRequest("page.html", "image/jpeg", (long) JPEG_CONTENT.length));
+
+        // Then
+        assertThat(response.getMethod()).isEqualTo("PUT");
+        assertThat(response.getImageUrl()).endsWith(".jpg");  // 파일명이 아닌 선언(서명) 형식 기준 확장자
+        assertThat(response.getUploadUrl()).startsWith(response.getImageUrl()).contains("X-Amz-Signature=");
+        assertThat(response.getImageUrl()).contains("/uploads/");  // 대기 키 (확인 시 images/로 복사)
+        assertThat(response.getHeaders()).anySatisfy((name, value) -> {
+            assertThat(name).isEqualToIgnoringCase("Content-Type");
+            assertThat(value).isEqualTo("image/jpeg");
+        });
+        assertThat(s3Client.size()).isZero();  // 파일 바이트는 앱 서버를 거치지 않음
+
+        ArgumentCaptor<Image> saved = ArgumentCaptor.forClass(Image.class);
+        verify(imageRepository).save(saved.capture());
+        assertThat(saved.getValue().isUploadPending()).isTrue();
+        assertThat(saved.getValue().getExpiresAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("직접 업로드 발급 - 허용되지 않은 형식/최대 크기 초과 시 대기 행 미저장")
+    void createPresignedUpload_RejectsDeclaredTypeAndSize() {
+        assertThatThrownBy(() -> imageService.createPresignedUpload(
+                new PresignedUploadRequest("doc.pdf", "application/pdf", 100L)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_TYPE);
+        assertThatThrownBy(() -> imageService.createPresignedUpload(
+                new PresignedUploadRequest("big.jpg", "image/jpeg", DataSize.ofMegabytes(6).toBytes())))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_TOO_LARGE);
+        verify(imageRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 확인 - 서명된 적 없는 키로 복사한 사본 검증 후 대기 해제, 대기 객체 삭제, 변형 생성 예약")
+    void confirmUpload_ValidImage() {
+        // Given
+        Image pending = pendingImage("uploads/2025/10/20/direct.jpg");
+        s3Client.put("uploads/2025/10/20/direct.jpg", JPEG_CONTENT);
+        when(imageRepository.findById(1L)).thenReturn(Optional.of(pending));
+        when(imageRepository.confirmUpload(eq(1L), any(), eq(JPEG_CONTENT.length), any())).thenReturn(1);
+
+        // When
+        ImageResponse response = imageService.confirmUpload(1L);
+
+        // Then
+        String key = response.getImageUrl().substring("https://test-bucket.s3.ap-northeast-2.amazonaws.com/".length());
+        assertThat(key).startsWith("images/").endsWith(".jpg");
+        assertThat(s3Client.get(key)).isEqualTo(JPEG_CONTENT);
+        assertThat(s3Client.contains("uploads/2025/10/20/direct.jpg")).isFalse();
+        assertThat(response.getFileSize()).isEqualTo(JPEG_CONTENT.length);
+        assertThat(pending.isUploadPending()).isFalse();
+        verify(imageRepository).confirmUpload(eq(1L), eq(response.getImageUrl()), eq(JPEG_CONTENT.length), any());
+        verify(imageVariantService).generateAfterCommit(any(), eq(key), eq("image/jpeg"), any());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 확인 - 최종 키 확장자/변형 형식은 업로드된 내용의 판별 형식")
+    void confirmUpload_KeyExtensionFromDetectedType() {
+        // Given - .jpg 대기 키에 PNG 업로드
+        Image pending = pendingImage("uploads/2025/10/20/direct.jpg");
+        s3Client.put("uploads/2025/10/20/direct.jpg", PNG_CONTENT);
+        when(imageRepository.findById(1L)).thenReturn(Optional.of(pending));
+        when(imageRepository.confirmUpload(eq(1L), any(), eq(PNG_CONTENT.length), any())).thenReturn(1);
+
+        // When
+        ImageResponse response = imageService.confirmUpload(1L);
+
+        // Then
+        String key = response.getImageUrl().substring("https://test-bucket.s3.ap-northeast-2.amazonaws.com/".length());
+        assertThat(key).startsWith("images/").endsWith(".png");
+        verify(imageVariantService).generateAfterCommit(any(), eq(key), eq("image/png"), any());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 확인 이후 서명 URL 재사용 - 연결된 객체는 바뀌지 않음")
+    void confirmUpload_ReuploadAfterConfirm_DoesNotChangeLinkedObject() {
+        // Given
+        Image pending = pendingImage("uploads/2025/10/20/direct.jpg");
+        s3Client.put("uploads/2025/10/20/direct.jpg", JPEG_CONTENT);
+        when(imageRepository.findById(1L)).thenReturn(Optional.of(pending));
+        when(imageRepository.confirmUpload(eq(1L), any(), eq(JPEG_CONTENT.length), any())).thenReturn(1);
+        ImageResponse response = imageService.confirmUpload(1L);
+
+        // When - 만료 전 서명 URL로 다른 내용 PUT
+        s3Client.put("uploads/2025/10/20/direct.jpg", "plain text body".getBytes());
+
+        // Then
+        String key = response.getImageUrl().substring("https://test-bucket.s3.ap-northeast-2.amazonaws.com/".length());
+        assertThat(s3Client.get(key)).isEqualTo(JPEG_CONTENT);
+    }
+
+    @Test
+    @DisplayName("직접 업로드 확인 - 동시 확인이 먼저 반영되면 이 요청의 사본 폐기")
+    void confirmUpload_ConcurrentConfirm_DiscardsCopy() {
+        // Given
+        Image pending = pendingImage("uploads/2025/10/20/direct.jpg");
+        Image confirmed = pendingImage("images/2025/10/20/winner.jpg");
+        confirmed.confirmUpload(confirmed.getImageUrl(), JPEG_CONTENT.length, LocalDateTime.now().plusHours(1));
+        s3Client.put("uploads/2025/10/20/direct.jpg", JPEG_CONTENT);
+        when(imageRepository.findById(1L)).thenReturn(Optional.of(pending), Optional.of(confirmed));
+        when(imageRepository.confirmUpload(eq(1L), any(), eq(JPEG_CONTENT.length), any())).thenReturn(0);
+
+        // When
+        ImageResponse response = imageService.confirmUpload(1L);
+
+        // Then
+        assertThat(response.getImageUrl()).isEqualTo(confirmed.getImageUrl());
+        assertThat(s3Client.size()).isEqualTo(1);  // 대기 객체만 남음 (먼저 반영된 요청이 삭제)
+        verify(imageVariantService, never()).generateAfterCommit(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 확인 - Magic Number 불일치 시 객체/대기 행 삭제 후 INVALID_FILE_TYPE")
+    void confirmUpload_InvalidMagicNumber() {
+        // Given
+        Image pending = pendingImage("uploads/2025/10/20/fake.jpg");
+        s3Client.put("uploads/2025/10/20/fake.jpg", "plain text body".getBytes());
+        when(imageRepository.findById(1L)).thenReturn(Optional.of(pending));
+
+        // When & Then
+        assertThatThrownBy(() -> imageService.confirmUpload(1L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_TYPE);
+        assertThat(s3Client.size()).isZero();  // 대기 객체 + 사본 모두 삭제
+        verify(imageRepository).delete(pending);
+        verify(imageRepository, never()).confirmUpload(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 확인 - 업로드되지 않은 객체는 IMAGE_NOT_FOUND (대기 행 유지)")
+    void confirmUpload_ObjectMissing() {
+        // Given
+        when(imageRepository.findById(1L)).thenReturn(Optional.of(pendingImage("uploads/2025/10/20/missing.jpg")));
+
+        // When & Then
+        assertThatThrownBy(() -> imageService.confirmUpload(1L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IMAGE_NOT_FOUND);
+        assertThat(s3Client.size()).isZero();
+        verify(imageRepository, never()).delete(any());
+    }
+
+    private static Image pendingImage(String key) {
+        return Image.builder()
+                .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/" + key)
+                .fileSize(JPEG_CONTENT.length)
+                .originalFilename("direct.jpg")
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .uploadPending(true)
+                .build();
+    }
+
+    private static String sha256Hex(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+
+    private static MockMultipartFile jpeg(String filename) {
+        return new MockMultipartFile("file", filename, "image/jpeg", JPEG_CONTENT);
+    }
+
+    /**
+     * release 전까지 putObject를 대기시키는 S3 (동시 전송 상태 재현)
+     */
+    private static class BlockingS3Client extends InMemoryS3Client {
+
+        private final CountDownLatch started = new CountDownLatch(2);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.putObject(request, requestBody);
+        }
+    }
+}
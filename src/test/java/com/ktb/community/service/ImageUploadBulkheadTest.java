@@ -0,0 +1,282 @@
+package com.ktb.community.service;
+
+import com.ktb.community.entity.Image;
+import com.ktb.community.enums.ErrorCode;
+import com.ktb.community.exception.ServiceUnavailableException;
+import com.ktb.community.repository.ImageRepository;
+import com.ktb.community.support.InMemoryS3Client;
+import com.sun.management.ThreadMXBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * ImageUploadBulkhead 테스트
+ * - 단위: 전송 바이트 예산 가중 허가, 빠른 거절(503 + Retry-After), 대기 메트릭
+ * - 부하: ImageService 동기 업로드 동시 호출 → 저장소가 관측한 동시 전송 바이트가 예산을 넘지 않음
+ * - 힙: 업로드 1건의 실제 스레드 할당량 (com.sun.management.ThreadMXBean) → 파일 크기와 무관 (격벽은 힙 상한이 아님)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("이미지 업로드 격벽 테스트")
+class ImageUploadBulkheadTest {
+
+    private static final long KIB = 1024;
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @Mock
+    private ImageVariantService imageVariantService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("전송 바이트 예산 - 남은 예산보다 큰 업로드는 대기 후 503, 반환 후 재획득")
+    void acquire_RejectsWhenMemoryBudgetExhausted() {
+        // Given - 동시 전송 한도는 여유, 전송 바이트 예산 1MB
+        ImageUploadBulkhead bulkhead = new ImageUploadBulkhead(meterRegistry, 8, DataSize.ofMegabytes(1), 50, 3);
+        ImageUploadBulkhead.Permit first = bulkhead.acquire(600 * KIB);
+
+        // When & Then
+        assertThatThrownBy(() -> bulkhead.acquire(600 * KIB))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SERVICE_UNAVAILABLE)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 3L);
+        assertThat(bulkhead.inFlightBytes()).isEqualTo(600 * KIB);
+        assertThat(bulkhead.inFlight()).isEqualTo(1);  // 거절 시 슬롯 반환
+
+        first.close();
+        first.close();  // 중복 반환 무시
+        try (ImageUploadBulkhead.Permit second = bulkhead.acquire(600 * KIB)) {
+            assertThat(bulkhead.inFlightBytes()).isEqualTo(600 * KIB);
+        }
+        assertThat(bulkhead.inFlightBytes()).isZero();
+        assertThat(bulkhead.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송 바이트 예산 - 예산보다 큰 파일은 예산 전체를 점유해 단독 실행")
+    void acquire_OversizedFileRunsAlone() {
+        // Given
+        ImageUploadBulkhead bulkhead = new ImageUploadBulkhead(meterRegistry, 8, DataSize.ofMegabytes(1), 0, 1);
+
+        // When
+        try (ImageUploadBulkhead.Permit permit = bulkhead.acquire(DataSize.ofMegabytes(5).toBytes())) {
+            // Then
+            assertThat(bulkhead.inFlightBytes()).isEqualTo(bulkhead.maxInFlightBytes());
+            assertThatThrownBy(() -> bulkhead.acquire(1))
+                    .isInstanceOf(ServiceUnavailableException.class);
+        }
+        assertThat(bulkhead.inFlightBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 메트릭 - 획득/거절별 대기 시간 기록, 게이지 노출")
+    void acquire_RecordsWaitMetrics() {
+        // Given
+        ImageUploadBulkhead bulkhead = new ImageUploadBulkhead(meterRegistry, 1, DataSize.ofMegabytes(1), 20, 1);
+
+        // When
+        try (ImageUploadBulkhead.Permit permit = bulkhead.acquire(KIB)) {
+            assertThatThrownBy(() -> bulkhead.acquire(KIB)).isInstanceOf(ServiceUnavailableException.class);
+            assertThat(meterRegistry.get("image.upload.bulkhead.in_flight").gauge().value()).isEqualTo(1);
+        }
+
+        // Then
+        assertThat(meterRegistry.get("image.upload.bulkhead.wait").tag("outcome", "acquired").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("image.upload.bulkhead.wait").tag("outcome", "rejected").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(15);
+        assertThat(meterRegistry.get("image.upload.bulkhead.in_flight_bytes").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("부하 - 동시 업로드 64건: 저장소 관측 동시 전송 바이트 ≤ 전송 바이트 예산, 초과분은 빠르게 503, 종료 후 예산 전부 반환")
+    void stress_InFlightBytesStayWithinBudget() throws Exception {
+        // Given - 256KB 파일, 예산 1MB (동시 최대 4건), 전송 20ms
+        int uploads = 64;
+        byte[] content = jpeg(256 * 1024);
+        SlowS3Client s3Client = new SlowS3Client(20);
+        ImageUploadBulkhead bulkhead = new ImageUploadBulkhead(meterRegistry, 32, DataSize.ofMegabytes(1), 50, 1);
+        ImageService imageService = new ImageService(s3Client.asObjectStorage(), imageRepository,
+                imageVariantService, bulkhead, meterRegistry, DataSize.ofMegabytes(5), 600_000);
+        when(imageRepository.save(any(Image.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicLong slowestRejectionMs = new AtomicLong();
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        // When
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < uploads; i++) {
+                MockMultipartFile file = new MockMultipartFile("file", "photo" + i + ".jpg", "image/jpeg", content);
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    long start = System.nanoTime();
+                    try {
+                        imageService.uploadImage(file);
+                        succeeded.incrementAndGet();
+                    } catch (ServiceUnavailableException e) {
+                        rejected.incrementAndGet();
+                        slowestRejectionMs.accumulateAndGet(
+                                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), Math::max);
+                    }
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        }
+
+        // Then
+        assertThat(succeeded.get() + rejected.get()).isEqualTo(uploads);
+        assertThat(succeeded.get()).isGreaterThanOrEqualTo(4);
+        assertThat(rejected.get()).isPositive();
+        assertThat(s3Client.peakInFlightBytes()).isLessThanOrEqualTo(bulkhead.maxInFlightBytes());
+        assertThat(slowestRejectionMs.get()).isLessThan(1000);  // 대기열에 쌓이지 않고 빠르게 거절
+        assertThat(bulkhead.inFlightBytes()).isZero();
+        assertThat(bulkhead.inFlight()).isZero();
+        assertThat(meterRegistry.get("image.upload.bulkhead.wait").tag("outcome", "rejected").timer().count())
+                .isEqualTo(rejected.get());
+    }
+
+    @Test
+    @DisplayName("힙 할당 - 업로드 1건의 스레드 할당량은 파일 크기와 무관 (검증/해시/전송 모두 스트리밍)")
+    void uploadImage_AllocationIndependentOfFileSize() {
+        // Given - 저장소는 받은 스트림을 버림 (테스트 저장소의 보관 사본이 측정에 섞이지 않도록)
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        DiscardingS3Client s3Client = new DiscardingS3Client();
+        ImageService imageService = new ImageService(s3Client.asObjectStorage(), imageRepository, imageVariantService,
+                new ImageUploadBulkhead(meterRegistry, 8, DataSize.ofMegabytes(64), 100, 1),
+                meterRegistry, DataSize.ofMegabytes(5), 600_000);
+        when(imageRepository.save(any(Image.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        MockMultipartFile small = new MockMultipartFile("file", "small.jpg", "image/jpeg", jpeg(64 * 1024));
+        MockMultipartFile large = new MockMultipartFile("file", "large.jpg", "image/jpeg", jpeg(4 * 1024 * 1024));
+        imageService.uploadImage(small);  // 워밍업 (클래스 로딩, 메트릭 등록)
+        imageService.uploadImage(large);
+
+        // When - 동기 업로드는 검증/해시/전송 모두 호출 스레드에서 실행
+        long smallAllocated = allocatedBy(threads, () -> imageService.uploadImage(small));
+        long largeAllocated = allocatedBy(threads, () -> imageService.uploadImage(large));
+
+        // Then - 파일 크기 64배 차이에도 할당량 차이는 버퍼 수준
+        assertThat(s3Client.transferredBytes()).isEqualTo(2 * (small.getSize() + large.getSize()));
+        assertThat(largeAllocated).isLessThan(large.getSize() / 4);
+        assertThat(largeAllocated - smallAllocated).isLessThan(512 * KIB);
+    }
+
+    /**
+     * 현재 스레드가 작업 중 힙에 할당한 바이트 (플랫폼 스레드에서만 유효)
+     */
+    private static long allocatedBy(ThreadMXBean threads, Runnable task) {
+        long before = threads.getCurrentThreadAllocatedBytes();
+        task.run();
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private static byte[] jpeg(int size) {
+        byte[] content = new byte[size];
+        content[0] = (byte) 0xFF;
+        content[1] = (byte) 0xD8;
+        content[2] = (byte) 0xFF;
+        content[3] = (byte) 0xE0;
+        return content;
+    }
+
+    /**
+     * 전송마다 지정 시간 대기하는 S3 (진행 중 전송 바이트 최대치 기록)
+     */
+    private static class SlowS3Client extends InMemoryS3Client {
+
+        private final long transferMillis;
+        private final AtomicLong inFlightBytes = new AtomicLong();
+        private final AtomicLong peakInFlightBytes = new AtomicLong();
+
+        SlowS3Client(long transferMillis) {
+            this.transferMillis = transferMillis;
+        }
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+            long current = inFlightBytes.addAndGet(request.contentLength());
+            peakInFlightBytes.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(transferMillis);
+                return super.putObject(request, requestBody);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                inFlightBytes.addAndGet(-request.contentLength());
+            }
+        }
+
+        long peakInFlightBytes() {
+            return peakInFlightBytes.get();
+        }
+    }
+
+    /**
+     * 받은 스트림을 끝까지 읽고 버리는 S3 (전송 바이트 수만 기록)
+     */
+    private static class DiscardingS3Client extends InMemoryS3Client {
+
+        private final AtomicLong transferredBytes = new AtomicLong();
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+            try (InputStream in = requestBody.contentStreamProvider().newStream()) {
+                transferredBytes.addAndGet(in.transferTo(OutputStream.nullOutputStream()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return PutObjectResponse.builder().build();
+        }
+
+        long transferredBytes() {
+            return transferredBytes.get();
+        }
+    }
+}
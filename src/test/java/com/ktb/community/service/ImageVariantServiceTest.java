@@ -0,0 +1,135 @@
+package com.ktb.community.service;
+
+import com.ktb.community.repository.ImageRepository;
+import com.ktb.community.support.InMemoryS3Client;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * ImageVariantService 테스트
+ * - 저장소: S3ObjectStorage + InMemoryS3Client (원본 getObject → 변형 putObject)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("이미지 변형 생성 테스트")
+class ImageVariantServiceTest {
+
+    private static final String URL_PREFIX = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/";
+    private static final String ORIGINAL_KEY = "images/2025/10/20/uuid.png";
+    private static final String CONTENT_HASH = "a".repeat(64);
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    private InMemoryS3Client s3Client;
+
+    private ImageVariantService variantService;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = new InMemoryS3Client();
+        variantService = new ImageVariantService(s3Client.asObjectStorage(),
+                imageRepository, 200, 800, 2);
+    }
+
+    @Test
+    @DisplayName("변형 생성 - 긴 변 기준 비율 유지 축소, 파생 키로 업로드 후 URL 반영 (같은 객체 공유 행 포함)")
+    void generate_CreatesThumbnailAndMedium() throws IOException {
+        // Given
+        s3Client.put(ORIGINAL_KEY, png(1600, 800));
+        when(imageRepository.updateVariants(anyLong(), any(), any(), any(), any())).thenReturn(1);
+
+        // When
+        variantService.generate(1L, ORIGINAL_KEY, "image/png", CONTENT_HASH);
+
+        // Then
+        String thumbnailKey = "images/2025/10/20/uuid_thumbnail.png";
+        String mediumKey = "images/2025/10/20/uuid_medium.png";
+        verify(imageRepository).updateVariants(1L, CONTENT_HASH, URL_PREFIX + ORIGINAL_KEY,
+                URL_PREFIX + thumbnailKey, URL_PREFIX + mediumKey);
+
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(s3Client.get(thumbnailKey)));
+        BufferedImage medium = ImageIO.read(new ByteArrayInputStream(s3Client.get(mediumKey)));
+        assertThat(thumbnail.getWidth()).isEqualTo(200);
+        assertThat(thumbnail.getHeight()).isEqualTo(100);
+        assertThat(medium.getWidth()).isEqualTo(800);
+        assertThat(medium.getHeight()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("작은 원본 - 확대 없이 원본 URL 사용, 중간 크기 초과분만 생성")
+    void generate_SmallOriginal_ReusesOriginalUrl() throws IOException {
+        // Given - 썸네일보다 크고 중간 크기보다 작은 원본
+        s3Client.put(ORIGINAL_KEY, png(400, 300));
+        when(imageRepository.updateVariants(anyLong(), any(), any(), any(), any())).thenReturn(1);
+
+        // When
+        variantService.generate(1L, ORIGINAL_KEY, "image/png", CONTENT_HASH);
+
+        // Then
+        verify(imageRepository).updateVariants(1L, CONTENT_HASH, URL_PREFIX + ORIGINAL_KEY,
+                URL_PREFIX + "images/2025/10/20/uuid_thumbnail.png",
+                URL_PREFIX + ORIGINAL_KEY);
+        assertThat(s3Client.contains("images/2025/10/20/uuid_medium.png")).isFalse();
+    }
+
+    @Test
+    @DisplayName("생성 중 객체 참조 행 모두 삭제됨 - 업로드한 변형 객체 삭제, 원본은 유지")
+    void generate_ImageDeletedMeanwhile_DeletesStoredVariants() throws IOException {
+        // Given - 썸네일만 생성되고 중간 크기는 원본 URL 재사용
+        s3Client.put(ORIGINAL_KEY, png(400, 300));
+        when(imageRepository.updateVariants(anyLong(), any(), any(), any(), any())).thenReturn(0);
+
+        // When
+        variantService.generate(1L, ORIGINAL_KEY, "image/png", CONTENT_HASH);
+
+        // Then
+        assertThat(s3Client.contains("images/2025/10/20/uuid_thumbnail.png")).isFalse();
+        assertThat(s3Client.contains(ORIGINAL_KEY)).isTrue();
+    }
+
+    @Test
+    @DisplayName("디코딩 불가 - Image 미갱신 (응답은 원본 URL로 대체)")
+    void generate_UndecodableImage_SkipsUpdate() {
+        // Given
+        s3Client.put(ORIGINAL_KEY, new byte[]{(byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A, 0x00});
+
+        // When
+        variantService.generate(1L, ORIGINAL_KEY, "image/png", CONTENT_HASH);
+
+        // Then
+        verify(imageRepository, never()).updateVariants(anyLong(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("GIF - 애니메이션 보존을 위해 변형 미생성")
+    void generateAfterCommit_Gif_Skipped() {
+        // When
+        variantService.generateAfterCommit(1L, "images/2025/10/20/uuid.gif", "image/gif", CONTENT_HASH);
+
+        // Then
+        verify(imageRepository, never()).updateVariants(anyLong(), any(), any(), any(), any());
+        assertThat(s3Client.size()).isZero();
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
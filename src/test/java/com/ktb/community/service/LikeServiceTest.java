@@ -2,7 +2,6 @@ package com.ktb.community.service;
 
 import com.ktb.community.entity.Post;
 import com.ktb.community.entity.PostLike;
-import com.ktb.community.entity.PostStats;
 import com.ktb.community.entity.User;
 import com.ktb.community.enums.PostStatus;
 import com.ktb.community.enums.UserRole;
@@ -17,8 +16,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
@@ -52,39 +49,26 @@ class LikeServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PostImageResolver postImageResolver;
+
+    @Mock
+    private CountCacheService countCacheService;
+
+    @Mock
+    private LikedPostIdCache likedPostIdCache;
+
     @InjectMocks
     private LikeService likeService;
 
     @Test
-    @DisplayName("좋아요 추가 성공 - likeCount 증가")
+    @DisplayName("좋아요 추가 성공 - 단일 INSERT 후 likeCount 증가")
     void addLike_Success() {
         // Given
         Long postId = 1L;
         Long userId = 1L;
 
-        User user = User.builder()
-                .email("test@example.com")
-                .passwordHash("encoded")
-                .nickname("testnick")
-                .role(UserRole.USER)
-                .build();
-
-        Post post = Post.builder()
-                .title("Test Post")
-                .content("Test Content")
-                .status(PostStatus.ACTIVE)
-                .user(user)
-                .build();
-
-        PostStats stats = PostStats.builder()
-                .post(post)
-                .build();
-
-        when(postRepository.findByIdWithUserAndStats(postId, PostStatus.ACTIVE))
-                .thenReturn(Optional.of(post));
-        when(userRepository.findByUserIdAndUserStatus(userId, UserStatus.ACTIVE)).thenReturn(Optional.of(user));
-        when(postLikeRepository.existsByUserUserIdAndPostPostId(userId, postId)).thenReturn(false);
-        when(postLikeRepository.save(any(PostLike.class))).thenReturn(null);
+        when(postLikeRepository.insertIfAbsent(userId, postId)).thenReturn(1);
         when(postStatsRepository.incrementLikeCount(postId)).thenReturn(1);
 
         // When
@@ -95,8 +79,14 @@ class LikeServiceTest {
         assertThat(result).containsKey("message");
         assertThat(result.get("message")).isEqualTo("like_success");
 
-        verify(postLikeRepository, times(1)).save(any(PostLike.class));
+        verify(postLikeRepository, times(1)).insertIfAbsent(userId, postId);
+        verify(likedPostIdCache, times(1)).addAfterCommit(userId, postId);
         verify(postStatsRepository, times(1)).incrementLikeCount(postId);
+        verify(countCacheService, times(1)).adjustLikedPostCountAfterCommit(userId, 1);
+
+        // 성공 경로는 사전 조회 없음
+        verify(postRepository, never()).existsByPostIdAndPostStatus(anyLong(), any());
+        verify(userRepository, never()).findByUserIdAndUserStatus(anyLong(), any());
     }
 
     @Test
@@ -106,15 +96,14 @@ class LikeServiceTest {
         Long postId = 999L;
         Long userId = 1L;
 
-        when(postRepository.findByIdWithUserAndStats(postId, PostStatus.ACTIVE))
-                .thenReturn(Optional.empty());
+        when(postLikeRepository.insertIfAbsent(userId, postId)).thenReturn(0);
+        when(postRepository.existsByPostIdAndPostStatus(postId, PostStatus.ACTIVE)).thenReturn(false);
 
         // When & Then
         assertThatThrownBy(() -> likeService.addLike(postId, userId))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Post not found");
 
-        verify(postLikeRepository, never()).save(any(PostLike.class));
         verify(postStatsRepository, never()).incrementLikeCount(anyLong());
     }
 
@@ -125,22 +114,8 @@ class LikeServiceTest {
         Long postId = 1L;
         Long userId = 999L;
 
-        User postAuthor = User.builder()
-                .email("author@example.com")
-                .passwordHash("encoded")
-                .nickname("author")
-                .role(UserRole.USER)
-                .build();
-
-        Post post = Post.builder()
-                .title("Test Post")
-                .content("Test Content")
-                .status(PostStatus.ACTIVE)
-                .user(postAuthor)
-                .build();
-
-        when(postRepository.findByIdWithUserAndStats(postId, PostStatus.ACTIVE))
-                .thenReturn(Optional.of(post));
+        when(postLikeRepository.insertIfAbsent(userId, postId)).thenReturn(0);
+        when(postRepository.existsByPostIdAndPostStatus(postId, PostStatus.ACTIVE)).thenReturn(true);
         when(userRepository.findByUserIdAndUserStatus(userId, UserStatus.ACTIVE)).thenReturn(Optional.empty());
 
         // When & Then
@@ -148,11 +123,11 @@ class LikeServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("User not found");
 
-        verify(postLikeRepository, never()).save(any(PostLike.class));
+        verify(postStatsRepository, never()).incrementLikeCount(anyLong());
     }
 
     @Test
-    @DisplayName("좋아요 추가 실패 - 중복 좋아요")
+    @DisplayName("좋아요 추가 실패 - 중복 좋아요 (uq_user_post로 무시, likeCount 불변)")
     void addLike_AlreadyLiked_ThrowsException() {
         // Given
         Long postId = 1L;
@@ -165,60 +140,28 @@ class LikeServiceTest {
                 .role(UserRole.USER)
                 .build();
 
-        Post post = Post.builder()
-                .title("Test Post")
-                .content("Test Content")
-                .status(PostStatus.ACTIVE)
-                .user(user)
-                .build();
-
-        when(postRepository.findByIdWithUserAndStats(postId, PostStatus.ACTIVE))
-                .thenReturn(Optional.of(post));
+        when(postLikeRepository.insertIfAbsent(userId, postId)).thenReturn(0);
+        when(postRepository.existsByPostIdAndPostStatus(postId, PostStatus.ACTIVE)).thenReturn(true);
         when(userRepository.findByUserIdAndUserStatus(userId, UserStatus.ACTIVE)).thenReturn(Optional.of(user));
-        when(postLikeRepository.existsByUserUserIdAndPostPostId(userId, postId)).thenReturn(true);
 
         // When & Then
         assertThatThrownBy(() -> likeService.addLike(postId, userId))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("already liked");
 
-        verify(postLikeRepository, never()).save(any(PostLike.class));
         verify(postStatsRepository, never()).incrementLikeCount(anyLong());
+        verify(countCacheService, never()).adjustLikedPostCountAfterCommit(anyLong(), anyLong());
+        verify(likedPostIdCache, never()).addAfterCommit(anyLong(), anyLong());
     }
 
     @Test
-    @DisplayName("좋아요 취소 성공 - likeCount 감소")
+    @DisplayName("좋아요 취소 성공 - 단일 DELETE 후 likeCount 감소")
     void removeLike_Success() {
         // Given
         Long postId = 1L;
         Long userId = 1L;
 
-        User user = User.builder()
-                .email("test@example.com")
-                .passwordHash("encoded")
-                .nickname("testnick")
-                .role(UserRole.USER)
-                .build();
-
-        Post post = Post.builder()
-                .title("Test Post")
-                .content("Test Content")
-                .status(PostStatus.ACTIVE)
-                .user(user)
-                .build();
-
-        PostLike postLike = PostLike.builder()
-                .user(user)
-                .post(post)
-                .build();
-
-        PostStats stats = PostStats.builder()
-                .post(post)
-                .build();
-
-        when(postRepository.existsByPostIdAndPostStatus(postId, PostStatus.ACTIVE)).thenReturn(true);
-        when(postLikeRepository.findByUserUserIdAndPostPostId(userId, postId))
-                .thenReturn(Optional.of(postLike));
+        when(postLikeRepository.deleteIfPresent(userId, postId, PostStatus.ACTIVE)).thenReturn(1);
         when(postStatsRepository.decrementLikeCount(postId)).thenReturn(1);
 
         // When
@@ -229,8 +172,10 @@ class LikeServiceTest {
         assertThat(result).containsKey("message");
         assertThat(result.get("message")).isEqualTo("unlike_success");
 
-        verify(postLikeRepository, times(1)).delete(postLike);
+        verify(postLikeRepository, times(1)).deleteIfPresent(userId, postId, PostStatus.ACTIVE);
+        verify(likedPostIdCache, times(1)).removeAfterCommit(userId, postId);
         verify(postStatsRepository, times(1)).decrementLikeCount(postId);
+        verify(postRepository, never()).existsByPostIdAndPostStatus(anyLong(), any());
     }
 
     @Test
@@ -240,6 +185,7 @@ class LikeServiceTest {
         Long postId = 999L;
         Long userId = 1L;
 
+        when(postLikeRepository.deleteIfPresent(userId, postId, PostStatus.ACTIVE)).thenReturn(0);
         when(postRepository.existsByPostIdAndPostStatus(postId, PostStatus.ACTIVE)).thenReturn(false);
 
         // When & Then
@@ -247,28 +193,26 @@ class LikeServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Post not found");
 
-        verify(postLikeRepository, never()).delete(any(PostLike.class));
         verify(postStatsRepository, never()).decrementLikeCount(anyLong());
     }
 
     @Test
-    @DisplayName("좋아요 취소 실패 - 좋아요 없음")
+    @DisplayName("좋아요 취소 실패 - 좋아요 없음 (likeCount 불변)")
     void removeLike_LikeNotFound_ThrowsException() {
         // Given
         Long postId = 1L;
         Long userId = 1L;
 
+        when(postLikeRepository.deleteIfPresent(userId, postId, PostStatus.ACTIVE)).thenReturn(0);
         when(postRepository.existsByPostIdAndPostStatus(postId, PostStatus.ACTIVE)).thenReturn(true);
-        when(postLikeRepository.findByUserUserIdAndPostPostId(userId, postId))
-                .thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> likeService.removeLike(postId, userId))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Like not found");
 
-        verify(postLikeRepository, never()).delete(any(PostLike.class));
         verify(postStatsRepository, never()).decrementLikeCount(anyLong());
+        verify(likedPostIdCache, never()).removeAfterCommit(anyLong(), anyLong());
     }
 
     @Test
@@ -298,12 +242,11 @@ class LikeServiceTest {
                 .post(post)
                 .build();
 
-        Page<PostLike> likePage = new PageImpl<>(List.of(postLike));
-
         when(userRepository.existsByUserIdAndUserStatusIn(
                 userId, List.of(UserStatus.ACTIVE, UserStatus.INACTIVE))).thenReturn(true);
         when(postLikeRepository.findByUserIdWithPost(eq(userId), eq(PostStatus.ACTIVE), any(Pageable.class)))
-                .thenReturn(likePage);
+                .thenReturn(List.of(postLike));
+        when(countCacheService.getLikedPostCount(userId, false)).thenReturn(1L);
 
         // When
         Map<String, Object> result = likeService.getLikedPosts(userId, offset, limit);
@@ -319,6 +262,8 @@ class LikeServiceTest {
 
         verify(postLikeRepository, times(1))
                 .findByUserIdWithPost(eq(userId), eq(PostStatus.ACTIVE), any(Pageable.class));
+        // 이미지는 페이지 단위 1회 일괄 조회
+        verify(postImageResolver, times(1)).resolveImages(anyCollection());
     }
 
     @Test
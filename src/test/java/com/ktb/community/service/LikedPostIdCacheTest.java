@@ -0,0 +1,162 @@
+package com.ktb.community.service;
+
+import com.ktb.community.repository.PostLikeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LikedPostIdCache 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("좋아요 ID 캐시 테스트")
+class LikedPostIdCacheTest {
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    private LikedPostIdCache likedPostIdCache;
+
+    @BeforeEach
+    void setUp() {
+        likedPostIdCache = new LikedPostIdCache(postLikeRepository, 100L, 3, 1_800_000L);
+    }
+
+    @Test
+    @DisplayName("최초 조회 시 1회 적재, 이후 페이지는 쿼리 없음")
+    void findLikedAmong_LoadsOnceThenHits() {
+        // Given
+        Long userId = 1L;
+        when(postLikeRepository.findLikedPostIdsByUserId(eq(userId), any(Pageable.class)))
+                .thenReturn(List.of(30L, 20L));
+
+        // When
+        Set<Long> firstPage = likedPostIdCache.findLikedAmong(userId, List.of(30L, 25L, 20L));
+        Set<Long> secondPage = likedPostIdCache.findLikedAmong(userId, List.of(15L, 10L));
+
+        // Then
+        assertThat(firstPage).containsExactlyInAnyOrder(30L, 20L);
+        assertThat(secondPage).isEmpty();
+        verify(postLikeRepository, times(1)).findLikedPostIdsByUserId(eq(userId), any(Pageable.class));
+        verify(postLikeRepository, never()).findLikedPostIds(anyLong(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("적재 상한 초과 사용자 - 적재 범위 밖 게시글만 IN 쿼리 1회")
+    void findLikedAmong_Truncated_QueriesUncoveredOnly() {
+        // Given: 상한 3개, 실제 좋아요 5개 이상
+        Long userId = 1L;
+        when(postLikeRepository.findLikedPostIdsByUserId(eq(userId), any(Pageable.class)))
+                .thenReturn(List.of(50L, 40L, 30L, 20L));
+        when(postLikeRepository.findLikedPostIds(userId, List.of(20L, 10L))).thenReturn(List.of(20L));
+
+        // When
+        Set<Long> liked = likedPostIdCache.findLikedAmong(userId, List.of(40L, 35L, 20L, 10L));
+
+        // Then
+        assertThat(liked).containsExactlyInAnyOrder(40L, 20L);
+        verify(postLikeRepository, times(1)).findLikedPostIds(userId, List.of(20L, 10L));
+    }
+
+    @Test
+    @DisplayName("좋아요/취소 반영 - 커밋 후 적재된 항목에 삽입/삭제, 이후 피드 조회 쿼리 없음")
+    void addAndRemove_PatchesLoadedUser() {
+        // Given
+        Long userId = 1L;
+        when(postLikeRepository.findLikedPostIdsByUserId(eq(userId), any(Pageable.class)))
+                .thenReturn(List.of(10L));
+        likedPostIdCache.findLikedAmong(userId, List.of(10L));
+
+        // When: 트랜잭션 밖이므로 즉시 반영
+        likedPostIdCache.addAfterCommit(userId, 20L);
+        likedPostIdCache.addAfterCommit(userId, 5L);
+        likedPostIdCache.removeAfterCommit(userId, 10L);
+
+        // Then
+        assertThat(likedPostIdCache.findLikedAmong(userId, List.of(20L, 10L, 5L))).containsExactlyInAnyOrder(20L, 5L);
+        verify(postLikeRepository, times(1)).findLikedPostIdsByUserId(eq(userId), any(Pageable.class));
+        verify(postLikeRepository, never()).findLikedPostIds(anyLong(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("잘린 항목/상한 도달 항목의 좋아요 - 무효화 후 다음 조회 시 재적재")
+    void add_TruncatedOrFull_Invalidates() {
+        // Given: 상한 3개, 잘린 사용자(1) + 정확히 3개인 사용자(2)
+        when(postLikeRepository.findLikedPostIdsByUserId(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(50L, 40L, 30L, 20L));
+        when(postLikeRepository.findLikedPostIdsByUserId(eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(50L, 40L, 30L));
+        likedPostIdCache.findLikedAmong(1L, List.of(50L));
+        likedPostIdCache.findLikedAmong(2L, List.of(50L));
+
+        // When
+        likedPostIdCache.addAfterCommit(1L, 60L);
+        likedPostIdCache.addAfterCommit(2L, 60L);
+        likedPostIdCache.findLikedAmong(1L, List.of(50L));
+        likedPostIdCache.findLikedAmong(2L, List.of(50L));
+
+        // Then
+        verify(postLikeRepository, times(2)).findLikedPostIdsByUserId(eq(1L), any(Pageable.class));
+        verify(postLikeRepository, times(2)).findLikedPostIdsByUserId(eq(2L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("적재 중 커밋된 좋아요 - 적재 완료 후 적재 결과에 반영 (재적재 없음)")
+    void add_DuringLoad_DiscardsOverlappingLoad() throws Exception {
+        // Given: 첫 적재는 좋아요 커밋 전 상태를 읽고 대기
+        Long userId = 1L;
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(postLikeRepository.findLikedPostIdsByUserId(eq(userId), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return List.of();
+                });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Set<Long>> staleRead = executor.submit(() -> likedPostIdCache.findLikedAmong(userId, List.of(20L)));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When: 적재 중 좋아요 커밋 (반영은 적재 완료까지 대기)
+            Future<?> invalidation = executor.submit(() -> likedPostIdCache.addAfterCommit(userId, 20L));
+            release.countDown();
+            invalidation.get(5, TimeUnit.SECONDS);
+            staleRead.get(5, TimeUnit.SECONDS);
+        }
+
+        // Then
+        assertThat(likedPostIdCache.findLikedAmong(userId, List.of(20L))).containsExactly(20L);
+        verify(postLikeRepository, times(1)).findLikedPostIdsByUserId(eq(userId), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("미적재 사용자의 좋아요는 무시 (다음 조회 시 적재)")
+    void add_NotLoaded_Ignored() {
+        // Given
+        Long userId = 1L;
+        likedPostIdCache.addAfterCommit(userId, 20L);
+        when(postLikeRepository.findLikedPostIdsByUserId(eq(userId), any(Pageable.class)))
+                .thenReturn(List.of(20L));
+
+        // When & Then
+        assertThat(likedPostIdCache.findLikedAmong(userId, List.of(20L))).containsExactly(20L);
+        verify(postLikeRepository, times(1)).findLikedPostIdsByUserId(eq(userId), any(Pageable.class));
+    }
+}
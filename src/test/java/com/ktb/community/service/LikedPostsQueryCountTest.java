@@ -0,0 +1,154 @@
+package com.ktb.community.service;
+
+import com.ktb.community.config.JpaAuditingConfig;
+import com.ktb.community.dto.response.PostResponse;
+import com.ktb.community.entity.Image;
+import com.ktb.community.entity.Post;
+import com.ktb.community.entity.PostImage;
+import com.ktb.community.entity.PostLike;
+import com.ktb.community.entity.PostStats;
+import com.ktb.community.entity.User;
+import com.ktb.community.enums.PostStatus;
+import com.ktb.community.enums.UserRole;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 쿼리 수 검증 (N+1 회귀 방지)
+ * - 좋아요한 게시글 목록: 페이지 크기와 무관하게 SQL 실행 수 고정
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaAuditingConfig.class, LikeService.class, PostImageResolver.class, CountCacheService.class,
+        LikedPostIdCache.class})
+@DisplayName("목록 조회 쿼리 수 테스트")
+class LikedPostsQueryCountTest {
+
+    /**
+     * 사용자 확인(1) + 좋아요 페이지(1) + 이미지 일괄 조회(1)
+     * - total_count는 CountCacheService 적재 이후 COUNT 없음
+     */
+    private static final long EXPECTED_STATEMENTS = 3;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Long likerId;
+
+    @BeforeEach
+    void setUp() {
+        Image profileImage = Image.builder()
+                .imageUrl("https://test-bucket/profile.jpg")
+                .fileSize(100)
+                .originalFilename("profile.jpg")
+                .build();
+        entityManager.persist(profileImage);
+
+        User author = User.builder()
+                .email("author@example.com")
+                .passwordHash("hashedPassword")
+                .nickname("author")
+                .role(UserRole.USER)
+                .build();
+        author.updateProfileImage(profileImage);
+        entityManager.persist(author);
+
+        User liker = User.builder()
+                .email("liker@example.com")
+                .passwordHash("hashedPassword")
+                .nickname("liker")
+                .role(UserRole.USER)
+                .build();
+        entityManager.persist(liker);
+        likerId = liker.getUserId();
+
+        // 게시글 25개 (각 이미지 2장) + 전부 좋아요
+        for (int i = 0; i < 25; i++) {
+            Post post = Post.builder()
+                    .title("Title " + i)
+                    .content("Content " + i)
+                    .status(PostStatus.ACTIVE)
+                    .user(author)
+                    .build();
+            entityManager.persist(post);
+            entityManager.persist(PostStats.builder().post(post).build());
+
+            for (int order = 1; order <= 2; order++) {
+                Image image = Image.builder()
+                        .imageUrl("https://test-bucket/post-" + i + "-" + order + ".jpg")
+                        .fileSize(100)
+                        .originalFilename("post.jpg")
+                        .build();
+                entityManager.persist(image);
+                entityManager.persist(PostImage.builder().post(post).image(image).displayOrder(order).build());
+            }
+
+            entityManager.persist(PostLike.builder().user(liker).post(post).build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // total_count 캐시 적재 (최초 1회 COUNT)
+        likeService.getLikedPosts(likerId, 0, 1);
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("좋아요한 게시글 20개 페이지 - SQL 실행 수 고정")
+    void getLikedPosts_TwentyPosts_ConstantStatementCount() {
+        // When
+        Map<String, Object> result = likeService.getLikedPosts(likerId, 0, 20);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        List<PostResponse> posts = (List<PostResponse>) result.get("posts");
+        assertThat(posts).hasSize(20);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> pagination = (Map<String, Object>) result.get("pagination");
+        assertThat(pagination.get("total_count")).isEqualTo(25L);
+        assertThat(posts).allSatisfy(post -> {
+            assertThat(post.getImages()).hasSize(2);
+            assertThat(post.getImages().get(0)).endsWith("-1.jpg");
+            assertThat(post.getAuthor().getProfileImage()).isEqualTo("https://test-bucket/profile.jpg");
+            assertThat(post.getStats()).isNotNull();
+        });
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 달라도 SQL 실행 수 동일")
+    void getLikedPosts_StatementCountIndependentOfPageSize() {
+        // When
+        likeService.getLikedPosts(likerId, 0, 5);
+        long smallPage = statistics.getPrepareStatementCount();
+
+        entityManager.clear();
+        statistics.clear();
+        likeService.getLikedPosts(likerId, 0, 20);
+        long largePage = statistics.getPrepareStatementCount();
+
+        // Then
+        assertThat(smallPage).isEqualTo(EXPECTED_STATEMENTS);
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+}
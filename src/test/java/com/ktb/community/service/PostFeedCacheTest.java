@@ -0,0 +1,124 @@
+package com.ktb.community.service;
+
+import com.ktb.community.dto.response.PostSummaryResponse;
+import com.ktb.community.enums.PostStatus;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.service.PostFeedCache.FeedPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PostFeedCache 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("피드 첫 페이지 캐시 테스트")
+class PostFeedCacheTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    private PostFeedCache feedCache;
+
+    @BeforeEach
+    void setUp() {
+        // Self-injection 패턴: self를 null로 초기화 후 리플렉션으로 자기 자신 설정
+        feedCache = new PostFeedCache(postRepository, null, 60_000L, 120_000L);
+        ReflectionTestUtils.setField(feedCache, "self", feedCache);
+    }
+
+    @Test
+    @DisplayName("첫 페이지 - 같은 limit 반복 조회 시 DB 1회만 조회")
+    void getFirstPage_CachedPerLimit() {
+        // Given
+        when(postRepository.findSummariesByStatusWithoutCursor(eq(PostStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(List.of(summary(3L), summary(2L), summary(1L)));
+
+        // When
+        FeedPage first = feedCache.getFirstPage(2);
+        FeedPage second = feedCache.getFirstPage(2);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.posts()).hasSize(2);
+        assertThat(first.hasMore()).isTrue();
+        assertThat(first.nextCursor()).isEqualTo(2L);
+        verify(postRepository, times(1)).findSummariesByStatusWithoutCursor(eq(PostStatus.ACTIVE), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("첫 페이지 - 최대 limit 초과 시 캐시 우회")
+    void getFirstPage_LargeLimit_BypassesCache() {
+        // Given
+        int limit = PostFeedCache.MAX_CACHED_LIMIT + 1;
+        when(postRepository.findSummariesByStatusWithoutCursor(eq(PostStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(List.of(summary(1L)));
+
+        // When
+        feedCache.getFirstPage(limit);
+        feedCache.getFirstPage(limit);
+
+        // Then
+        verify(postRepository, times(2)).findSummariesByStatusWithoutCursor(eq(PostStatus.ACTIVE), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("게시글 작성 - 전체 첫 페이지 무효화 후 재조회")
+    void invalidateAll_ReloadsOnNextRequest() {
+        // Given
+        when(postRepository.findSummariesByStatusWithoutCursor(eq(PostStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(List.of(summary(1L)))
+                .thenReturn(List.of(summary(2L), summary(1L)));
+        feedCache.getFirstPage(10);
+
+        // When: 트랜잭션 밖이므로 즉시 무효화
+        feedCache.invalidateAllAfterCommit();
+        FeedPage reloaded = feedCache.getFirstPage(10);
+
+        // Then
+        assertThat(reloaded.posts()).hasSize(2);
+        verify(postRepository, times(2)).findSummariesByStatusWithoutCursor(eq(PostStatus.ACTIVE), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("게시글 수정/삭제 - 해당 게시글이 포함된 페이지만 무효화")
+    void evictPost_OnlyPagesContainingPost() {
+        // Given: limit=1 → [3], limit=3 → [3, 2, 1]
+        when(postRepository.findSummariesByStatusWithoutCursor(eq(PostStatus.ACTIVE), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    Pageable pageable = invocation.getArgument(1);
+                    return List.of(summary(3L), summary(2L), summary(1L)).subList(0, Math.min(3, pageable.getPageSize()));
+                });
+        FeedPage small = feedCache.getFirstPage(1);
+        FeedPage large = feedCache.getFirstPage(3);
+
+        // When: 1번 게시글 삭제 (limit=3 페이지에만 포함)
+        feedCache.evictPostAfterCommit(1L);
+
+        // Then
+        assertThat(feedCache.getFirstPage(1)).isSameAs(small);
+        assertThat(feedCache.getFirstPage(3)).isNotSameAs(large);
+        verify(postRepository, times(3)).findSummariesByStatusWithoutCursor(eq(PostStatus.ACTIVE), any(Pageable.class));
+    }
+
+    private PostSummaryResponse summary(Long postId) {
+        return new PostSummaryResponse(
+                postId, "Title " + postId, "Excerpt " + postId,
+                LocalDateTime.now(), LocalDateTime.now(),
+                1L, "testnick", null, null,
+                0, 0, 0,
+                null, null);
+    }
+}
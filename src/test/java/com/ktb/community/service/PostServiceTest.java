@@ -3,6 +3,7 @@ package com.ktb.community.service;
 import com.ktb.community.dto.request.PostCreateRequest;
 import com.ktb.community.dto.request.PostUpdateRequest;
 import com.ktb.community.dto.response.PostResponse;
+import com.ktb.community.dto.response.PostSummaryResponse;
 import com.ktb.community.entity.Image;
 import com.ktb.community.entity.Post;
 import com.ktb.community.entity.PostImage;
@@ -23,15 +24,17 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -66,6 +69,21 @@ class PostServiceTest {
     @Mock
     private com.ktb.community.repository.PostImageRepository postImageRepository;
 
+    @Mock
+    private PostViewCountBuffer postViewCountBuffer;
+
+    @Mock
+    private PostFeedCache postFeedCache;
+
+    @Mock
+    private CountCacheService countCacheService;
+
+    @Mock
+    private com.ktb.community.repository.PostLikeRepository postLikeRepository;
+
+    @Mock
+    private LikedPostIdCache likedPostIdCache;
+
     @InjectMocks
     private PostService postService;
 
@@ -106,6 +124,8 @@ class PostServiceTest {
         assertThat(response.getContent()).isEqualTo(request.getContent());
         verify(postRepository, times(1)).save(any(Post.class));
         verify(postStatsRepository, times(1)).save(any(PostStats.class));
+        verify(postFeedCache, times(1)).invalidateAllAfterCommit();
+        verify(countCacheService, times(1)).adjustActivePostCountAfterCommit(1);
     }
 
     @Test
@@ -129,39 +149,15 @@ class PostServiceTest {
     }
 
     @Test
-    @DisplayName("게시글 목록 조회 성공 - Cursor (latest)")
+    @DisplayName("게시글 목록 조회 성공 - Cursor (latest, 첫 페이지는 캐시)")
     void getPosts_Cursor_Success() {
         // Given
-        Long cursor = null;
+        String cursor = null;
         int limit = 10;
         String sort = "latest";
 
-        User user = User.builder()
-                .email("test@example.com")
-                .passwordHash("encoded")
-                .nickname("testnick")
-                .role(UserRole.USER)
-                .build();
-
-        Post post1 = Post.builder()
-                .title("Test Title 1")
-                .content("Test Content 1")
-                .status(PostStatus.ACTIVE)
-                .user(user)
-                .build();
-        // postId 설정 (reflection 사용)
-        ReflectionTestUtils.setField(post1, "postId", 100L);
-
-        Post post2 = Post.builder()
-                .title("Test Title 2")
-                .content("Test Content 2")
-                .status(PostStatus.ACTIVE)
-                .user(user)
-                .build();
-        ReflectionTestUtils.setField(post2, "postId", 99L);
-
-        when(postRepository.findByStatusWithoutCursor(eq(PostStatus.ACTIVE), any(Pageable.class)))
-                .thenReturn(List.of(post1, post2));
+        when(postFeedCache.getFirstPage(limit))
+                .thenReturn(PostFeedCache.FeedPage.of(List.of(summary(100L, 0), summary(99L, 0)), limit));
 
         // When
         Map<String, Object> result = postService.getPosts(cursor, null, limit, sort);
@@ -173,13 +169,72 @@ class PostServiceTest {
         assertThat(result).containsKey("hasMore");
 
         @SuppressWarnings("unchecked")
-        List<PostResponse> posts = (List<PostResponse>) result.get("posts");
+        List<PostSummaryResponse> posts = (List<PostSummaryResponse>) result.get("posts");
         assertThat(posts).hasSize(2);
 
         assertThat(result.get("nextCursor")).isNull();
         assertThat(result.get("hasMore")).isEqualTo(false);
 
-        verify(postRepository, times(1)).findByStatusWithoutCursor(eq(PostStatus.ACTIVE), any(Pageable.class));
+        // 첫 페이지는 캐시에서 응답 (DB 직접 조회 없음)
+        verify(postFeedCache, times(1)).getFirstPage(limit);
+        verify(postRepository, never()).findSummariesByStatusWithoutCursor(any(), any(Pageable.class));
+
+        // 비로그인: 좋아요 여부 조회 없음 (null)
+        assertThat(posts).allSatisfy(post -> assertThat(post.getIsLikedByCurrentUser()).isNull());
+        verify(likedPostIdCache, never()).findLikedAmong(any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 - 로그인 사용자는 페이지당 1회 좋아요 여부 일괄 판정")
+    void getPosts_LoggedIn_FillsLikedFlagsOncePerPage() {
+        // Given
+        int limit = 10;
+        PostFeedCache.FeedPage cachedPage = PostFeedCache.FeedPage.of(
+                List.of(summary(100L, 0), summary(99L, 0), summary(98L, 0)), limit);
+        when(postFeedCache.getFirstPage(limit)).thenReturn(cachedPage);
+        when(likedPostIdCache.findLikedAmong(1L, List.of(100L, 99L, 98L))).thenReturn(Set.of(99L));
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "1", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        try {
+            // When
+            Map<String, Object> result = postService.getPosts(null, null, limit, "latest");
+
+            // Then
+            @SuppressWarnings("unchecked")
+            List<PostSummaryResponse> posts = (List<PostSummaryResponse>) result.get("posts");
+            assertThat(posts).extracting(PostSummaryResponse::getIsLikedByCurrentUser)
+                    .containsExactly(false, true, false);
+
+            // 캐시된 공유 인스턴스는 변경되지 않음
+            assertThat(cachedPage.posts()).allSatisfy(post -> assertThat(post.getIsLikedByCurrentUser()).isNull());
+            verify(likedPostIdCache, times(1)).findLikedAmong(anyLong(), anyCollection());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 성공 - Cursor (latest, 다음 페이지는 DB 조회)")
+    void getPosts_CursorNextPage_Success() {
+        // Given
+        int limit = 1;
+
+        when(postRepository.findSummariesByStatusWithCursor(eq(PostStatus.ACTIVE), eq(100L), any(Pageable.class)))
+                .thenReturn(List.of(summary(99L, 0), summary(98L, 0)));
+
+        // When
+        Map<String, Object> result = postService.getPosts("100", null, limit, "latest");
+
+        // Then
+        @SuppressWarnings("unchecked")
+        List<PostSummaryResponse> posts = (List<PostSummaryResponse>) result.get("posts");
+        assertThat(posts).hasSize(1);
+        assertThat(result.get("nextCursor")).isEqualTo(99L);
+        assertThat(result.get("hasMore")).isEqualTo(true);
+
+        verify(postFeedCache, never()).getFirstPage(anyInt());
     }
 
     @Test
@@ -190,24 +245,9 @@ class PostServiceTest {
         int limit = 10;
         String sort = "likes";
 
-        User user = User.builder()
-                .email("test@example.com")
-                .passwordHash("encoded")
-                .nickname("testnick")
-                .role(UserRole.USER)
-                .build();
-
-        Post post = Post.builder()
-                .title("Test Title")
-                .content("Test Content")
-                .status(PostStatus.ACTIVE)
-                .user(user)
-                .build();
-
-        Page<Post> postPage = new PageImpl<>(List.of(post));
-
-        when(postRepository.findByStatusWithUserAndStats(eq(PostStatus.ACTIVE), any(Pageable.class)))
-                .thenReturn(postPage);
+        when(postRepository.findSummariesByStatus(eq(PostStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(List.of(summary(1L, 3)));
+        when(countCacheService.getActivePostCount(false)).thenReturn(1L);
 
         // When
         Map<String, Object> result = postService.getPosts(null, offset, limit, sort);
@@ -218,18 +258,66 @@ class PostServiceTest {
         assertThat(result).containsKey("pagination");
 
         @SuppressWarnings("unchecked")
-        List<PostResponse> posts = (List<PostResponse>) result.get("posts");
+        List<PostSummaryResponse> posts = (List<PostSummaryResponse>) result.get("posts");
         assertThat(posts).hasSize(1);
 
         @SuppressWarnings("unchecked")
         Map<String, Object> pagination = (Map<String, Object>) result.get("pagination");
         assertThat(pagination.get("total_count")).isEqualTo(1L);
 
-        verify(postRepository, times(1)).findByStatusWithUserAndStats(eq(PostStatus.ACTIVE), any(Pageable.class));
+        verify(postRepository, times(1)).findSummariesByStatus(eq(PostStatus.ACTIVE), any(Pageable.class));
+        verify(postRepository, never()).countByPostStatus(any());
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 성공 - Keyset (likes, offset 미지정)")
+    void getPosts_LikesKeyset_Success() {
+        // Given
+        int limit = 1;
+
+        PostSummaryResponse popular = summary(10L, 42);
+        PostSummaryResponse lessPopular = summary(5L, 7);
+
+        when(postRepository.findSummariesByStatusOrderByLikesWithoutCursor(eq(PostStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(List.of(popular, lessPopular));
+
+        // When: 첫 페이지
+        Map<String, Object> firstPage = postService.getPosts(null, null, limit, "likes");
+
+        // Then
+        @SuppressWarnings("unchecked")
+        List<PostSummaryResponse> posts = (List<PostSummaryResponse>) firstPage.get("posts");
+        assertThat(posts).hasSize(1);
+        assertThat(firstPage.get("hasMore")).isEqualTo(true);
+        assertThat(firstPage).doesNotContainKey("pagination");
+        String nextCursor = (String) firstPage.get("nextCursor");
+        assertThat(nextCursor).isNotBlank();
+
+        // When: 다음 페이지 (opaque cursor → likeCount=42, postId=10)
+        when(postRepository.findSummariesByStatusOrderByLikesWithCursor(eq(PostStatus.ACTIVE), eq(42), eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(lessPopular));
+        Map<String, Object> secondPage = postService.getPosts(nextCursor, null, limit, "likes");
+
+        // Then
+        assertThat(secondPage.get("hasMore")).isEqualTo(false);
+        assertThat(secondPage.get("nextCursor")).isNull();
+        verify(postRepository, never()).findSummariesByStatus(any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 실패 - 잘못된 cursor")
+    void getPosts_InvalidCursor_ThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> postService.getPosts("not-a-cursor", null, 10, "likes"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
+        assertThatThrownBy(() -> postService.getPosts("abc", null, 10, "latest"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
     }
 
     @Test
-    @DisplayName("게시글 상세 조회 성공 - 조회수 증가")
+    @DisplayName("게시글 상세 조회 성공 - 조회수 버퍼 누적")
     void getPostDetail_Success() {
         // Given
         Long postId = 1L;
@@ -257,7 +345,6 @@ class PostServiceTest {
 
         when(postRepository.findByIdWithUserAndStats(postId, PostStatus.ACTIVE))
                 .thenReturn(Optional.of(post));
-        when(postStatsRepository.incrementViewCount(postId)).thenReturn(1);
 
         // When
         PostResponse response = postService.getPostDetail(postId);
@@ -265,7 +352,44 @@ class PostServiceTest {
         // Then
         assertThat(response).isNotNull();
         assertThat(response.getTitle()).isEqualTo("Test Title");
-        verify(postStatsRepository, times(1)).incrementViewCount(postId);
+        verify(postViewCountBuffer, times(1)).increment(postId);
+        verify(postStatsRepository, never()).incrementViewCount(anyLong());
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회 - 로그인 사용자의 좋아요 여부는 exists 쿼리로 판정 (캐시 미사용)")
+    void getPostDetail_LoggedIn_UsesExactLikeCheck() {
+        // Given
+        Long postId = 1L;
+        User user = User.builder()
+                .email("test@example.com")
+                .passwordHash("encoded")
+                .nickname("testnick")
+                .role(UserRole.USER)
+                .build();
+        Post post = Post.builder()
+                .title("Test Title")
+                .content("Test Content")
+                .status(PostStatus.ACTIVE)
+                .user(user)
+                .build();
+        post.updateStats(PostStats.builder().build());
+
+        when(postRepository.findByIdWithUserAndStats(postId, PostStatus.ACTIVE)).thenReturn(Optional.of(post));
+        when(postLikeRepository.existsByPostIdAndUserId(postId, 1L)).thenReturn(true);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "1", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        try {
+            // When
+            PostResponse response = postService.getPostDetail(postId);
+
+            // Then
+            assertThat(response.getIsLikedByCurrentUser()).isTrue();
+            verifyNoInteractions(likedPostIdCache);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
     }
 
     @Test
@@ -281,7 +405,7 @@ class PostServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Post not found");
 
-        verify(postStatsRepository, never()).incrementViewCount(anyLong());
+        verify(postViewCountBuffer, never()).increment(anyLong());
     }
 
     @Test
@@ -318,6 +442,7 @@ class PostServiceTest {
         // Then
         assertThat(response).isNotNull();
         verify(postRepository, times(1)).findByIdWithUserAndStats(postId, PostStatus.ACTIVE);
+        verify(postFeedCache, times(1)).evictPostAfterCommit(postId);
     }
 
     @Test
@@ -403,6 +528,8 @@ class PostServiceTest {
         verify(postRepository, times(1)).findByIdWithUserAndStats(postId, PostStatus.ACTIVE);
         // Soft Delete이므로 실제 삭제 메서드는 호출되지 않음
         verify(postRepository, never()).delete(any(Post.class));
+        verify(postFeedCache, times(1)).evictPostAfterCommit(postId);
+        verify(countCacheService, times(1)).adjustActivePostCountAfterCommit(-1);
     }
 
     @Test
@@ -666,4 +793,13 @@ class PostServiceTest {
         verify(postImageRepository, never()).deleteByPostId(anyLong());
         verify(imageRepository, never()).findById(anyLong());
     }
+
+    private PostSummaryResponse summary(Long postId, int likeCount) {
+        return new PostSummaryResponse(
+                postId, "Title " + postId, "Excerpt " + postId,
+                LocalDateTime.now(), LocalDateTime.now(),
+                1L, "testnick", null, null,
+                likeCount, 0, 0,
+                null, null);
+    }
 }
@@ -0,0 +1,161 @@
+package com.ktb.community.service;
+
+import com.ktb.community.repository.PostStatsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PostViewCountBuffer 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("조회수 Write-behind 버퍼 테스트")
+class PostViewCountBufferTest {
+
+    @Mock
+    private PostStatsRepository postStatsRepository;
+
+    private PostViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new PostViewCountBuffer(postStatsRepository, new SimpleMeterRegistry(), 100);
+    }
+
+    @Test
+    @DisplayName("flush - 같은 증가분을 가진 게시글은 UPDATE 1회로 묶임")
+    void flush_GroupsPostsByDelta() {
+        // Given: 1번, 2번 게시글 각 1회 / 3번 게시글 3회
+        buffer.increment(1L);
+        buffer.increment(2L);
+        buffer.increment(3L);
+        buffer.increment(3L);
+        buffer.increment(3L);
+
+        // When
+        buffer.flush();
+
+        // Then
+        verify(postStatsRepository).addViewCounts(argThat(ids -> ids.containsAll(List.of(1L, 2L)) && ids.size() == 2), eq(1));
+        verify(postStatsRepository).addViewCounts(eq(List.of(3L)), eq(3));
+        verifyNoMoreInteractions(postStatsRepository);
+        assertThat(buffer.getPendingPostCount()).isZero();
+        assertThat(buffer.getFlushedViewCount()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("flush - 누적분이 없으면 DB 접근 없음")
+    void flush_NothingPending_NoQuery() {
+        // When
+        buffer.flush();
+
+        // Then
+        verifyNoInteractions(postStatsRepository);
+    }
+
+    @Test
+    @DisplayName("flush 실패 - 증가분이 버퍼로 복원되어 다음 flush에서 재시도")
+    void flush_Failure_RestoresPendingDeltas() {
+        // Given
+        buffer.increment(1L);
+        buffer.increment(1L);
+        when(postStatsRepository.addViewCounts(anyCollection(), anyInt()))
+                .thenThrow(new RuntimeException("DB down"))
+                .thenReturn(1);
+
+        // When
+        buffer.flush();
+
+        // Then: 복원 확인
+        assertThat(buffer.getPendingViewCount()).isEqualTo(2L);
+
+        // When: 재시도
+        buffer.flush();
+
+        // Then
+        verify(postStatsRepository, times(2)).addViewCounts(eq(List.of(1L)), eq(2));
+        assertThat(buffer.getPendingViewCount()).isZero();
+        assertThat(buffer.getFlushedViewCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("동시 증가 - 여러 스레드의 증가분이 모두 반영됨")
+    void increment_Concurrent_NoLostUpdates() throws InterruptedException {
+        // Given
+        int threadCount = 8;
+        int incrementsPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < incrementsPerThread; j++) {
+                    buffer.increment(1L);
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertThat(buffer.getPendingViewCount()).isEqualTo((long) threadCount * incrementsPerThread);
+    }
+
+    @Test
+    @DisplayName("종료 시 flush - 잔여 증가분 반영")
+    void flushOnShutdown_FlushesRemaining() {
+        // Given
+        buffer.increment(7L);
+
+        // When
+        buffer.flushOnShutdown();
+
+        // Then
+        verify(postStatsRepository).addViewCounts(eq(List.of(7L)), eq(1));
+        assertThat(buffer.getPendingPostCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("메트릭 - 미반영/반영/폐기 조회수를 Micrometer로 노출")
+    void metrics_ExposePendingFlushedAndDropped() {
+        // Given - 버퍼 상한 1개 게시글
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PostViewCountBuffer bounded = new PostViewCountBuffer(postStatsRepository, registry, 1);
+        bounded.increment(1L);
+        bounded.increment(2L);
+        bounded.increment(2L);
+        assertThat(registry.get("post.view_buffer.pending").gauge().value()).isEqualTo(3);
+        assertThat(registry.get("post.view_buffer.pending.posts").gauge().value()).isEqualTo(2);
+
+        // When - 첫 flush 실패: 상한 초과 게시글은 폐기, 재시도 성공
+        when(postStatsRepository.addViewCounts(anyCollection(), anyInt()))
+                .thenThrow(new RuntimeException("DB down"))
+                .thenThrow(new RuntimeException("DB down"))
+                .thenReturn(1);
+        bounded.flush();
+        bounded.flush();
+
+        // Then
+        double flushed = registry.get("post.view_buffer.flushed").functionCounter().count();
+        double dropped = registry.get("post.view_buffer.dropped").functionCounter().count();
+        assertThat(flushed + dropped).isEqualTo(3);
+        assertThat(dropped).isPositive();
+        assertThat(registry.get("post.view_buffer.pending").gauge().value()).isZero();
+    }
+}
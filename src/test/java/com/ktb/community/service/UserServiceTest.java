@@ -2,7 +2,6 @@ package com.ktb.community.service;
 
 import com.ktb.community.dto.request.ChangePasswordRequest;
 import com.ktb.community.dto.request.UpdateProfileRequest;
-import com.ktb.community.dto.response.ImageResponse;
 import com.ktb.community.dto.response.UserResponse;
 import com.ktb.community.entity.Image;
 import com.ktb.community.entity.User;
@@ -16,10 +15,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -48,9 +45,6 @@ class UserServiceTest {
     @Mock
     private com.ktb.community.repository.ImageRepository imageRepository;
 
-    @Mock
-    private ImageService imageService;
-
     @InjectMocks
     private UserService userService;
 
@@ -117,7 +111,7 @@ class UserServiceTest {
         when(userRepository.existsByNickname("newnickname")).thenReturn(false);
 
         // When
-        UserResponse response = userService.updateProfile(userId, authenticatedUserId, request);
+        UserResponse response = userService.updateProfile(userId, authenticatedUserId, request, null);
 
         // Then
         assertThat(response).isNotNull();
@@ -148,7 +142,7 @@ class UserServiceTest {
         when(userRepository.existsByNickname("existingnick")).thenReturn(true);
 
         // When & Then
-        assertThatThrownBy(() -> userService.updateProfile(userId, authenticatedUserId, request))
+        assertThatThrownBy(() -> userService.updateProfile(userId, authenticatedUserId, request, null))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NICKNAME_ALREADY_EXISTS);
 
@@ -263,33 +257,19 @@ class UserServiceTest {
                 .build();
         ReflectionTestUtils.setField(newImage, "imageId", newImageId);
 
-        // Request (닉네임 + 프로필 이미지)
-        MultipartFile profileImage = new MockMultipartFile(
-                "profileImage",
-                "new-profile.jpg",
-                "image/jpeg",
-                "test image content".getBytes()
-        );
+        // Request (닉네임 + 업로드 완료된 프로필 이미지 ID)
         UpdateProfileRequest request = UpdateProfileRequest.builder()
                 .nickname("newNickname")
-                .profileImage(profileImage)
-                .build();
-
-        // ImageResponse
-        ImageResponse imageResponse = ImageResponse.builder()
-                .imageId(newImageId)
-                .imageUrl("https://s3.amazonaws.com/new-profile.jpg")
                 .build();
 
         // Mocking
         when(userRepository.findByUserIdAndUserStatus(userId, UserStatus.ACTIVE))
                 .thenReturn(Optional.of(user));
         when(userRepository.existsByNickname("newNickname")).thenReturn(false);
-        when(imageService.uploadImage(profileImage)).thenReturn(imageResponse);
         when(imageRepository.findById(newImageId)).thenReturn(Optional.of(newImage));
 
         // When
-        UserResponse response = userService.updateProfile(userId, authenticatedUserId, request);
+        UserResponse response = userService.updateProfile(userId, authenticatedUserId, request, newImageId);
 
         // Then
         assertThat(response).isNotNull();
@@ -302,7 +282,6 @@ class UserServiceTest {
         // 새 이미지: 영구 보존 (expires_at = NULL)
         assertThat(newImage.getExpiresAt()).isNull();
 
-        verify(imageService).uploadImage(profileImage);
         verify(imageRepository).findById(newImageId);
     }
 
@@ -333,31 +312,16 @@ class UserServiceTest {
                 .build();
         ReflectionTestUtils.setField(newImage, "imageId", newImageId);
 
-        // Request
-        MultipartFile profileImage = new MockMultipartFile(
-                "profileImage",
-                "new-profile.jpg",
-                "image/jpeg",
-                "test image content".getBytes()
-        );
-        UpdateProfileRequest request = UpdateProfileRequest.builder()
-                .profileImage(profileImage)
-                .build();
-
-        // ImageResponse
-        ImageResponse imageResponse = ImageResponse.builder()
-                .imageId(newImageId)
-                .imageUrl("https://s3.amazonaws.com/new-profile.jpg")
-                .build();
+        // Request (업로드 완료된 프로필 이미지 ID만)
+        UpdateProfileRequest request = UpdateProfileRequest.builder().build();
 
         // Mocking
         when(userRepository.findByUserIdAndUserStatus(userId, UserStatus.ACTIVE))
                 .thenReturn(Optional.of(user));
-        when(imageService.uploadImage(profileImage)).thenReturn(imageResponse);
         when(imageRepository.findById(newImageId)).thenReturn(Optional.of(newImage));
 
         // When
-        UserResponse response = userService.updateProfile(userId, authenticatedUserId, request);
+        UserResponse response = userService.updateProfile(userId, authenticatedUserId, request, newImageId);
 
         // Then
         assertThat(response).isNotNull();
@@ -365,7 +329,6 @@ class UserServiceTest {
         // 새 이미지: 영구 보존 (expires_at = NULL)
         assertThat(newImage.getExpiresAt()).isNull();
 
-        verify(imageService).uploadImage(profileImage);
         verify(imageRepository).findById(newImageId);
     }
 }
@@ -0,0 +1,189 @@
+package com.ktb.community.support;
+
+import com.ktb.community.config.S3ObjectStorage;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.DeletedObject;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트용 인메모리 S3 (단일 버킷)
+ * - putObject / getObject (단일 Range 포함) / copyObject / deleteObject / deleteObjects만 지원 (나머지는 S3Client 기본 구현: UnsupportedOperationException)
+ * - 키 단위 실패 주입: failOnKey (DeleteObjects 응답 errors)
+ * - 요청 단위 실패 주입: failDeleteRequests (S3Exception)
+ */
+public class InMemoryS3Client implements S3Client {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Set<String> failingKeys = ConcurrentHashMap.newKeySet();
+    private final List<Integer> deleteObjectsBatchSizes = new CopyOnWriteArrayList<>();
+    private volatile boolean failDeleteRequests;
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+        try (InputStream in = requestBody.contentStreamProvider().newStream()) {
+            objects.put(request.key(), in.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return PutObjectResponse.builder().build();
+    }
+
+    @Override
+    public <ReturnT> ReturnT getObject(GetObjectRequest request,
+                                       ResponseTransformer<GetObjectResponse, ReturnT> responseTransformer) {
+        byte[] content = objects.get(request.key());
+        if (content == null) {
+            throw (NoSuchKeyException) NoSuchKeyException.builder().message("NoSuchKey: " + request.key()).statusCode(404).build();
+        }
+
+        GetObjectResponse.Builder response = GetObjectResponse.builder().contentLength((long) content.length);
+        byte[] body = content;
+        if (request.range() != null) {
+            // bytes=a-b 만 지원 (readPrefix)
+            String[] bounds = request.range().substring("bytes=".length()).split("-");
+            int start = Integer.parseInt(bounds[0]);
+            if (start >= content.length) {
+                throw (S3Exception) S3Exception.builder().message("InvalidRange").statusCode(416).build();
+            }
+            int end = Math.min(Integer.parseInt(bounds[1]), content.length - 1);
+            body = Arrays.copyOfRange(content, start, end + 1);
+            response.contentLength((long) body.length)
+                    .contentRange("bytes " + start + "-" + end + "/" + content.length);
+        }
+        try {
+            return responseTransformer.transform(response.build(), AbortableInputStream.create(new ByteArrayInputStream(body)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        objects.remove(request.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public CopyObjectResponse copyObject(CopyObjectRequest request) {
+        byte[] content = objects.get(request.sourceKey());
+        if (content == null) {
+            throw (NoSuchKeyException) NoSuchKeyException.builder().message("NoSuchKey: " + request.sourceKey()).statusCode(404).build();
+        }
+        objects.put(request.destinationKey(), content.clone());
+        return CopyObjectResponse.builder().build();
+    }
+
+    @Override
+    public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest request) {
+        List<ObjectIdentifier> identifiers = request.delete().objects();
+        deleteObjectsBatchSizes.add(identifiers.size());
+        if (identifiers.size() > 1000) {
+            throw (S3Exception) S3Exception.builder().message("MalformedXML: more than 1000 keys").statusCode(400).build();
+        }
+        if (failDeleteRequests) {
+            throw (S3Exception) S3Exception.builder().message("InternalError").statusCode(500).build();
+        }
+
+        List<DeletedObject> deleted = new ArrayList<>();
+        List<S3Error> errors = new ArrayList<>();
+        for (ObjectIdentifier identifier : identifiers) {
+            if (failingKeys.contains(identifier.key())) {
+                errors.add(S3Error.builder().key(identifier.key()).code("AccessDenied").message("Access Denied").build());
+                continue;
+            }
+            // 없는 키도 S3와 같이 삭제 성공 처리
+            objects.remove(identifier.key());
+            deleted.add(DeletedObject.builder().key(identifier.key()).build());
+        }
+
+        boolean quiet = Boolean.TRUE.equals(request.delete().quiet());
+        return DeleteObjectsResponse.builder()
+                .deleted(quiet ? List.of() : deleted)
+                .errors(errors)
+                .build();
+    }
+
+    /**
+     * 이 클라이언트를 쓰는 S3ObjectStorage (test-bucket, ap-northeast-2)
+     * - S3Presigner: 고정 테스트 자격 증명 (서명은 로컬 계산, 네트워크 미사용)
+     */
+    public S3ObjectStorage asObjectStorage() {
+        S3Presigner presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .build();
+        return new S3ObjectStorage(this, presigner, "test-bucket", "ap-northeast-2");
+    }
+
+    public void put(String key, byte[] content) {
+        objects.put(key, content);
+    }
+
+    public boolean contains(String key) {
+        return objects.containsKey(key);
+    }
+
+    public byte[] get(String key) {
+        return objects.get(key);
+    }
+
+    public int size() {
+        return objects.size();
+    }
+
+    public void failOnKey(String key) {
+        failingKeys.add(key);
+    }
+
+    public void failDeleteRequests(boolean fail) {
+        this.failDeleteRequests = fail;
+    }
+
+    /**
+     * DeleteObjects 호출별 키 수
+     */
+    public List<Integer> deleteObjectsBatchSizes() {
+        return List.copyOf(deleteObjectsBatchSizes);
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+}
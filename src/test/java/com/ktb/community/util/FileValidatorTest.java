@@ -0,0 +1,101 @@
+package com.ktb.community.util;
+
+import com.ktb.community.enums.ErrorCode;
+import com.ktb.community.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+/**
+ * FileValidator 단위 테스트
+ * 검증 후 반환 스트림은 파일 처음부터 읽혀야 함 (헤더 peek 후 reset)
+ */
+@DisplayName("FileValidator 테스트")
+class FileValidatorTest {
+
+    private static final byte[] PNG_CONTENT = {
+            (byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A, 0x00, 0x00, 0x00, 0x0D, 0x49, 0x48, 0x44, 0x52
+    };
+
+    @Test
+    @DisplayName("유효한 PNG - 전체 내용을 처음부터 읽는 스트림 반환, getBytes 미호출")
+    void openValidatedStream_ValidPng_ReturnsFullStream() throws IOException {
+        // Given
+        MockMultipartFile file = spy(new MockMultipartFile("file", "test.png", "image/png", PNG_CONTENT));
+
+        // When
+        try (InputStream in = FileValidator.openValidatedStream(file)) {
+            // Then
+            assertThat(in.markSupported()).isTrue();
+            assertThat(in.readAllBytes()).isEqualTo(PNG_CONTENT);
+        }
+        verify(file, never()).getBytes();
+    }
+
+    @Test
+    @DisplayName("Magic Number 불일치 - INVALID_FILE_TYPE")
+    void openValidatedStream_InvalidMagicNumber_Throws() {
+        // Given - MIME type만 이미지로 위장한 텍스트 파일
+        MockMultipartFile file = new MockMultipartFile("file", "fake.png", "image/png", "not an image".getBytes());
+
+        // When & Then
+        assertThatThrownBy(() -> FileValidator.openValidatedStream(file))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_TYPE);
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 MIME type - INVALID_FILE_TYPE")
+    void openValidatedStream_InvalidContentType_Throws() {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "test.png", "text/plain", PNG_CONTENT);
+
+        // When & Then
+        assertThatThrownBy(() -> FileValidator.openValidatedStream(file))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_TYPE);
+    }
+
+    @Test
+    @DisplayName("헤더보다 짧은 파일 - INVALID_FILE_TYPE")
+    void openValidatedStream_TooShort_Throws() {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "tiny.jpg", "image/jpeg",
+                new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF});
+
+        // When & Then
+        assertThatThrownBy(() -> FileValidator.openValidatedStream(file))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_TYPE);
+    }
+
+    @Test
+    @DisplayName("빈 파일 - INVALID_INPUT")
+    void openValidatedStream_EmptyFile_Throws() {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "empty.png", "image/png", new byte[0]);
+
+        // When & Then
+        assertThatThrownBy(() -> FileValidator.openValidatedStream(file))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
+    }
+
+    @Test
+    @DisplayName("헤더 판별 - 직접 업로드 확인용 (형식별 MIME type, 짧은 헤더/비이미지는 null)")
+    void detectImageType() {
+        assertThat(FileValidator.detectImageType(PNG_CONTENT)).isEqualTo("image/png");
+        assertThat(FileValidator.detectImageType("GIF89a\0\0".getBytes())).isEqualTo("image/gif");
+        assertThat(FileValidator.detectImageType(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})).isNull();
+        assertThat(FileValidator.detectImageType("not an image".getBytes())).isNull();
+    }
+}
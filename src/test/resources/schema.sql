@@ -7,10 +7,15 @@ CREATE TABLE images (
     file_size INT,
     original_filename VARCHAR(255),
     created_at TIMESTAMP NOT NULL,
-    expires_at TIMESTAMP NULL
+    expires_at TIMESTAMP NULL,
+    thumbnail_url VARCHAR(2048),
+    medium_url VARCHAR(2048),
+    content_hash CHAR(64),
+    upload_pending BOOLEAN NOT NULL DEFAULT FALSE
 );
 
 CREATE INDEX idx_images_expires ON images(expires_at);
+CREATE INDEX idx_images_content_hash ON images(content_hash);
 
 -- 유저 테이블
 CREATE TABLE users (
@@ -55,6 +60,8 @@ CREATE TABLE post_stats (
     CONSTRAINT fk_post_stats_post FOREIGN KEY (post_id) REFERENCES posts(post_id) ON DELETE CASCADE
 );
 
+CREATE INDEX idx_post_stats_likes ON post_stats(like_count DESC, post_id DESC);
+
 -- 댓글 테이블
 CREATE TABLE comments (
     comment_id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -110,3 +117,18 @@ CREATE TABLE user_tokens (
 
 CREATE INDEX idx_user_tokens_user ON user_tokens(user_id);
 CREATE INDEX idx_tokens_expires ON user_tokens(expires_at);
+
+-- Rate Limit Bucket 테이블 (rate-limit.store=jdbc)
+CREATE TABLE rate_limit_buckets (
+    id VARCHAR(64) PRIMARY KEY,
+    state BLOB
+);
+
+-- 배치 체크포인트 테이블 (고아 이미지 정리 재시작 지점)
+CREATE TABLE batch_checkpoints (
+    job_name VARCHAR(64) PRIMARY KEY,
+    cursor_expires_at TIMESTAMP NOT NULL,
+    cursor_image_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);